@@ -0,0 +1,85 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.AdaptiveIf;
+import org.actum.conditional.core.CompiledIf;
+import org.actum.conditional.core.If;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Ten mutually exclusive predicate branches, 90% of inputs matching the last two declared:
+ * the compiled chain in declaration order against the adaptive chain
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AdaptiveIfBenchmark {
+
+    private static final int BRANCHES = 10;
+
+    private String[] inputs;
+    private int position;
+    private CompiledIf<String> compiled;
+    private AdaptiveIf<String> adaptive;
+    private int sink;
+
+    @Setup
+    public void setUp() {
+        If.Builder<String> compiledBuilder = If.builder();
+        AdaptiveIf.Builder<String> adaptiveBuilder = AdaptiveIf.<String>builder().exclusive();
+        for (int i = 0; i < BRANCHES; i++) {
+            int branch = i;
+            String prefix = "event-" + i + ":";
+            Predicate<String> condition = input -> input.startsWith(prefix);
+            compiledBuilder.elseIf(condition, input -> sink = branch);
+            adaptiveBuilder.branch(condition, input -> sink = branch);
+        }
+        compiled = compiledBuilder.build();
+        adaptive = adaptiveBuilder.build();
+        SplittableRandom random = new SplittableRandom(42);
+        inputs = new String[4096];
+        for (int i = 0; i < inputs.length; i++) {
+            int branch = random.nextInt(10) < 9 ? BRANCHES - 1 - random.nextInt(2) : random.nextInt(BRANCHES - 2);
+            inputs[i] = "event-" + branch + ":payload";
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n%s%n", adaptive.getOrder());
+    }
+
+    private String nextInput() {
+        position = (position + 1) & (inputs.length - 1);
+        return inputs[position];
+    }
+
+    @Benchmark
+    public int compiledIf() {
+        compiled.evaluate(nextInput());
+        return sink;
+    }
+
+    @Benchmark
+    public int adaptiveIf() {
+        adaptive.evaluate(nextInput());
+        return sink;
+    }
+}
@@ -0,0 +1,81 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.AsyncIf;
+import org.actum.conditional.core.AsyncSwitch;
+import org.actum.conditional.core.If;
+import org.actum.conditional.support.AsyncExecutors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of composing a chain on CompletableFuture: fluent If against AsyncIf and AsyncSwitch running their
+ * actions on the caller (direct) or handing them to the default executor and waiting for the result
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AsyncIfBenchmark {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private Executor defaultExecutor;
+    private int input;
+
+    @Setup
+    public void setUp() {
+        defaultExecutor = AsyncExecutors.getDefault();
+        input = 2;
+    }
+
+    @Benchmark
+    public void fluentIf(Blackhole blackhole) {
+        If.when(input == 1)
+                .then(() -> blackhole.consume(1))
+                .elseIf(input == 2, () -> blackhole.consume(2))
+                .elseThen(() -> blackhole.consume(3));
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> asyncIfDirect(Blackhole blackhole) {
+        return AsyncIf.when(input == 1)
+                .executeOn(DIRECT)
+                .thenAsync(() -> blackhole.consume(1))
+                .elseIfAsync(input == 2, () -> blackhole.consume(2))
+                .elseThenAsync(() -> blackhole.consume(3));
+    }
+
+    @Benchmark
+    public Void asyncIfDefaultExecutor(Blackhole blackhole) {
+        return AsyncIf.when(input == 1)
+                .executeOn(defaultExecutor)
+                .thenAsync(() -> blackhole.consume(1))
+                .elseIfAsync(input == 2, () -> blackhole.consume(2))
+                .elseThenAsync(() -> blackhole.consume(3))
+                .join();
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> asyncSwitchDirect(Blackhole blackhole) {
+        return AsyncSwitch.on(input)
+                .executeOn(DIRECT)
+                .caseOfAsync(1, () -> blackhole.consume(1))
+                .caseOfAsync(2, () -> blackhole.consume(2))
+                .defaultOfAsync(() -> blackhole.consume(3));
+    }
+}
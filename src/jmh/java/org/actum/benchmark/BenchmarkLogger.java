@@ -0,0 +1,26 @@
+package org.actum.benchmark;
+
+import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loggers benchmarks are parameterized with
+ */
+public enum BenchmarkLogger {
+    /**
+     * Discards every message
+     */
+    NO_OP,
+    /**
+     * slf4j-simple logger, DEBUG is disabled by default so this measures the cost of a disabled level
+     */
+    SLF4J;
+
+    public ActumLogger create() {
+        return switch (this) {
+            case NO_OP -> ActumLoggerFactory.noOp();
+            case SLF4J -> ActumLoggerFactory.slf4j(LoggerFactory.getLogger("org.actum.benchmark"));
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.BulkMode;
+import org.actum.conditional.value.CompiledSwitchValue;
+import org.actum.conditional.value.SwitchValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mapping a batch through a 10-case SwitchValue: one fluent SwitchValue per element against
+ * the compiled definition's mapAll, sequential and parallel, into a preallocated array, a list and a spliterator sink
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkSwitchValueBenchmark {
+
+    private static final int CASES = 10;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Integer[] inputs;
+    private List<Integer> inputList;
+    private String[] results;
+    private String[] names;
+    private CompiledSwitchValue<Integer, String> compiled;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        inputs = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            inputs[i] = random.nextInt(CASES + 1);
+        }
+        inputList = Arrays.asList(inputs);
+        results = new String[size];
+        names = new String[CASES];
+        SwitchValue.Builder<Integer, String> builder = SwitchValue.builder();
+        for (int i = 0; i < CASES; i++) {
+            String name = "case-" + i;
+            names[i] = name;
+            builder.caseOf(i, () -> name);
+        }
+        compiled = builder.defaultOf(() -> "other").build();
+    }
+
+    @Benchmark
+    public String[] fluentPerElement() {
+        for (int i = 0; i < size; i++) {
+            SwitchValue<Integer, String> chain = SwitchValue.on(inputs[i]);
+            for (int c = 0; c < CASES; c++) {
+                String name = names[c];
+                chain.caseOf(c, () -> name);
+            }
+            results[i] = chain.orElse(() -> "other");
+        }
+        return results;
+    }
+
+    @Benchmark
+    public String[] mapAllSequential() {
+        return compiled.mapAll(inputs, results, BulkMode.SEQUENTIAL);
+    }
+
+    @Benchmark
+    public String[] mapAllParallel() {
+        return compiled.mapAll(inputs, results, BulkMode.PARALLEL);
+    }
+
+    @Benchmark
+    public List<String> mapAllListParallel() {
+        return compiled.mapAll(inputList, BulkMode.PARALLEL);
+    }
+
+    @Benchmark
+    public long mapAllSpliteratorParallel() {
+        LongAdder others = new LongAdder();
+        compiled.mapAll(inputList.spliterator(), result -> {
+            if (result.equals("other")) {
+                others.increment();
+            }
+        }, BulkMode.PARALLEL);
+        return others.sum();
+    }
+}
@@ -0,0 +1,65 @@
+package org.actum.benchmark;
+
+import jdk.jfr.Recording;
+import org.actum.conditional.core.If;
+import org.actum.metrics.BranchEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fluent If emitting branch events with no recording, and with a recording enabling them
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlightRecorderBenchmark {
+
+    @Param({"OFF", "ON"})
+    private String recording;
+
+    private Recording active;
+    private int counter;
+    private int sink;
+
+    @Setup
+    public void setUp() {
+        if ("ON".equals(recording)) {
+            active = new Recording();
+            active.enable(BranchEvent.NAME);
+            active.setToDisk(false);
+            active.setMaxSize(16 * 1024 * 1024);
+            active.start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (active != null) {
+            active.close();
+        }
+    }
+
+    @Benchmark
+    public int fluentIf() {
+        If.when((counter++ & 1) == 0)
+                .label("flight-recorder-benchmark")
+                .then(() -> sink = 1)
+                .elseThen(() -> sink = 2);
+        return sink;
+    }
+}
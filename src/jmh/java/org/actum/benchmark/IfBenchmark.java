@@ -0,0 +1,73 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.If;
+import org.actum.logger.ActumLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * If.when(..).then(..).elseIf(..).elseThen(..) against a plain if chain, matching the last branch
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IfBenchmark {
+
+    @Param({"2", "10", "100"})
+    private int branches;
+
+    @Param({"false", "true"})
+    private boolean traced;
+
+    @Param({"NO_OP", "SLF4J"})
+    private BenchmarkLogger logger;
+
+    private int input;
+    private ActumLogger actumLogger;
+
+    @Setup
+    public void setUp() {
+        input = branches - 1;
+        actumLogger = logger.create();
+    }
+
+    @Benchmark
+    public void plainIf(Blackhole blackhole) {
+        for (int i = 0; i < branches; i++) {
+            if (input == i) {
+                blackhole.consume(i);
+                return;
+            }
+        }
+        blackhole.consume(-1);
+    }
+
+    @Benchmark
+    public void fluentIf(Blackhole blackhole) {
+        If chain = If.when(input == 0).withLogger(actumLogger);
+        if (traced) {
+            chain.trace();
+        }
+        chain.then(() -> blackhole.consume(0));
+        for (int i = 1; i < branches - 1; i++) {
+            int branch = i;
+            chain.elseIf(input == branch, () -> blackhole.consume(branch));
+        }
+        chain.elseThen(() -> blackhole.consume(-1));
+    }
+}
@@ -0,0 +1,71 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.value.IfValue;
+import org.actum.logger.ActumLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IfValue.when(..).then(..).elseIf(..).elseThen(..) against a plain if chain, matching the last branch
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IfValueBenchmark {
+
+    @Param({"2", "10", "100"})
+    private int branches;
+
+    @Param({"false", "true"})
+    private boolean traced;
+
+    @Param({"NO_OP", "SLF4J"})
+    private BenchmarkLogger logger;
+
+    private int input;
+    private ActumLogger actumLogger;
+
+    @Setup
+    public void setUp() {
+        input = branches - 1;
+        actumLogger = logger.create();
+    }
+
+    @Benchmark
+    public int plainIf() {
+        for (int i = 0; i < branches; i++) {
+            if (input == i) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public Integer fluentIfValue() {
+        IfValue<Integer> chain = IfValue.<Integer>when(input == 0).withLogger(actumLogger);
+        if (traced) {
+            chain.trace();
+        }
+        chain.then(() -> 0);
+        for (int i = 1; i < branches - 1; i++) {
+            int branch = i;
+            chain.elseIf(input == branch, () -> branch);
+        }
+        return chain.elseThen(() -> -1);
+    }
+}
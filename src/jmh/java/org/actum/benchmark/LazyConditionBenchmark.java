@@ -0,0 +1,69 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.If;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10-branch If chain whose first branch matches, with costly conditions evaluated eagerly or lazily
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LazyConditionBenchmark {
+
+    private static final long CONDITION_COST = 64;
+
+    private int input = 1;
+    private int sink;
+
+    private boolean check(int branch) {
+        Blackhole.consumeCPU(CONDITION_COST);
+        return input == branch;
+    }
+
+    @Benchmark
+    public int eagerConditions() {
+        If.when(check(1)).then(() -> sink = 1)
+                .elseIf(check(2), () -> sink = 2)
+                .elseIf(check(3), () -> sink = 3)
+                .elseIf(check(4), () -> sink = 4)
+                .elseIf(check(5), () -> sink = 5)
+                .elseIf(check(6), () -> sink = 6)
+                .elseIf(check(7), () -> sink = 7)
+                .elseIf(check(8), () -> sink = 8)
+                .elseIf(check(9), () -> sink = 9)
+                .elseIf(check(10), () -> sink = 10)
+                .elseThen(() -> sink = 0);
+        return sink;
+    }
+
+    @Benchmark
+    public int lazyConditions() {
+        If.when(() -> check(1)).then(() -> sink = 1)
+                .elseIf(() -> check(2), () -> sink = 2)
+                .elseIf(() -> check(3), () -> sink = 3)
+                .elseIf(() -> check(4), () -> sink = 4)
+                .elseIf(() -> check(5), () -> sink = 5)
+                .elseIf(() -> check(6), () -> sink = 6)
+                .elseIf(() -> check(7), () -> sink = 7)
+                .elseIf(() -> check(8), () -> sink = 8)
+                .elseIf(() -> check(9), () -> sink = 9)
+                .elseIf(() -> check(10), () -> sink = 10)
+                .elseThen(() -> sink = 0);
+        return sink;
+    }
+}
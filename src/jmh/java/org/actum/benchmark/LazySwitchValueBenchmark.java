@@ -0,0 +1,73 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.value.SwitchValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 50-case SwitchValue chain with costly suppliers and a costly default, matching the first, middle or last case.
+ * Only the winning supplier is computed, the cases after it are a single flag check each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LazySwitchValueBenchmark {
+
+    private static final int CASES = 50;
+    private static final long SUPPLIER_TOKENS = 200;
+
+    @Param({"0", "25", "49"})
+    private int matching;
+
+    private Integer[] keys;
+    private Integer input;
+
+    @Setup
+    public void setUp() {
+        keys = new Integer[CASES];
+        for (int i = 0; i < CASES; i++) {
+            keys[i] = 1000 + i;
+        }
+        input = keys[matching];
+    }
+
+    @Benchmark
+    public int plainChain() {
+        for (int i = 0; i < CASES; i++) {
+            if (keys[i].equals(input)) {
+                return costly(i);
+            }
+        }
+        return costly(-1);
+    }
+
+    @Benchmark
+    public Integer fluentSwitchValue() {
+        SwitchValue<Integer, Integer> chain = SwitchValue.on(input);
+        for (int i = 0; i < CASES; i++) {
+            int branch = i;
+            chain.caseOf(keys[i], () -> costly(branch));
+        }
+        return chain.orElse(() -> costly(-1));
+    }
+
+    private static int costly(int value) {
+        Blackhole.consumeCPU(SUPPLIER_TOKENS);
+        return value;
+    }
+}
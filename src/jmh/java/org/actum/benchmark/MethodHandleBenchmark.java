@@ -0,0 +1,97 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.CompiledIf;
+import org.actum.conditional.core.CompiledSwitch;
+import org.actum.conditional.core.If;
+import org.actum.conditional.core.Switch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-written if chain against the interpreted compiled chain and its method handle form held in a static final field
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MethodHandleBenchmark {
+
+    private static int sink;
+
+    private static final CompiledIf<Object> CHAIN = If.builder()
+            .when(x -> (Integer) x < 10, x -> sink = 1)
+            .elseIf(x -> (Integer) x < 20, x -> sink = 2)
+            .elseIf(x -> (Integer) x < 30, x -> sink = 3)
+            .elseIf(x -> (Integer) x < 40, x -> sink = 4)
+            .elseIf(x -> (Integer) x < 50, x -> sink = 5)
+            .elseThen(x -> sink = 0)
+            .build();
+    private static final MethodHandle CHAIN_HANDLE = CHAIN.toMethodHandle();
+
+    private static final CompiledSwitch SWITCH = Switch.builder()
+            .caseOf("get", () -> sink = 1)
+            .caseOf("put", () -> sink = 2)
+            .caseOf("post", () -> sink = 3)
+            .caseOf("delete", () -> sink = 4)
+            .defaultOf(() -> sink = 0)
+            .build();
+    private static final MethodHandle SWITCH_HANDLE = SWITCH.toMethodHandle();
+
+    private Integer input = 45;
+    private String verb = "delete";
+
+    @Benchmark
+    public int handWrittenIf() {
+        int x = input;
+        if (x < 10) {
+            sink = 1;
+        } else if (x < 20) {
+            sink = 2;
+        } else if (x < 30) {
+            sink = 3;
+        } else if (x < 40) {
+            sink = 4;
+        } else if (x < 50) {
+            sink = 5;
+        } else {
+            sink = 0;
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public int interpretedIf() {
+        CHAIN.evaluate(input);
+        return sink;
+    }
+
+    @Benchmark
+    public int methodHandleIf() throws Throwable {
+        boolean ignored = (boolean) CHAIN_HANDLE.invokeExact((Object) input);
+        return sink;
+    }
+
+    @Benchmark
+    public int interpretedSwitch() {
+        SWITCH.dispatch(verb);
+        return sink;
+    }
+
+    @Benchmark
+    public int methodHandleSwitch() throws Throwable {
+        boolean ignored = (boolean) SWITCH_HANDLE.invokeExact((Object) verb);
+        return sink;
+    }
+}
@@ -0,0 +1,62 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.CompiledSwitch;
+import org.actum.conditional.core.Switch;
+import org.actum.metrics.ActumMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiled switch shared by every hardware thread without metrics, with per-case hit counters,
+ * with latency histograms on every action and with latency histograms on one action in 16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    private static final int CASES = 10;
+
+    @Param({"NONE", "COUNTING", "TIMING", "SAMPLED"})
+    private String metrics;
+
+    private CompiledSwitch compiled;
+
+    @Setup
+    public void setUp() {
+        Switch.Builder builder = Switch.builder().label("metrics-benchmark");
+        if ("COUNTING".equals(metrics)) {
+            builder.withMetrics(ActumMetrics.counting());
+        } else if ("TIMING".equals(metrics)) {
+            builder.withMetrics(ActumMetrics.timing());
+        } else if ("SAMPLED".equals(metrics)) {
+            builder.withMetrics(ActumMetrics.timing(16));
+        }
+        for (int i = 0; i < CASES; i++) {
+            builder.caseOf(i, () -> { });
+        }
+        compiled = builder.defaultOf(() -> { }).build();
+    }
+
+    @Benchmark
+    public boolean dispatch() {
+        return compiled.dispatch(ThreadLocalRandom.current().nextInt(CASES + 1));
+    }
+}
@@ -0,0 +1,74 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.CompiledSwitch;
+import org.actum.conditional.core.IntSwitch;
+import org.actum.conditional.core.Switch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IntSwitch against the boxed compiled switch, for dense and sparse opcodes outside the Integer cache
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveSwitchBenchmark {
+
+    @Param({"10", "100"})
+    private int branches;
+
+    @Param({"1", "100003"})
+    private int stride;
+
+    private int[] opcodes;
+    private int position;
+    private IntSwitch primitive;
+    private CompiledSwitch boxed;
+    private int sink;
+
+    @Setup
+    public void setUp() {
+        opcodes = new int[branches];
+        IntSwitch.Builder primitiveBuilder = IntSwitch.builder();
+        Switch.Builder boxedBuilder = Switch.builder();
+        for (int i = 0; i < branches; i++) {
+            int opcode = 1000 + i * stride;
+            opcodes[i] = opcode;
+            primitiveBuilder.caseOf(opcode, () -> sink = opcode);
+            boxedBuilder.caseOf(opcode, () -> sink = opcode);
+        }
+        primitive = primitiveBuilder.build();
+        boxed = boxedBuilder.build();
+    }
+
+    private int nextOpcode() {
+        position = position + 1 == opcodes.length ? 0 : position + 1;
+        return opcodes[position];
+    }
+
+    @Benchmark
+    public int intSwitch() {
+        primitive.dispatch(nextOpcode());
+        return sink;
+    }
+
+    @Benchmark
+    public int boxedCompiledSwitch() {
+        boxed.dispatch(nextOpcode());
+        return sink;
+    }
+}
@@ -0,0 +1,72 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.value.CompiledSwitchValue;
+import org.actum.conditional.value.SwitchValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bucketing a value into one of many contiguous ranges: compiled range cases against an if-else threshold scan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RangeSwitchBenchmark {
+
+    private static final int WIDTH = 10;
+
+    @Param({"10", "100", "1000"})
+    private int ranges;
+
+    private int[] thresholds;
+    private CompiledSwitchValue<Integer, Integer> compiled;
+    private Integer[] inputs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        thresholds = new int[ranges];
+        SwitchValue.Builder<Integer, Integer> builder = SwitchValue.builder();
+        for (int i = 0; i < ranges; i++) {
+            int tier = i;
+            thresholds[i] = (i + 1) * WIDTH;
+            builder.caseInRange(i * WIDTH, (i + 1) * WIDTH, () -> tier);
+        }
+        compiled = builder.defaultOf(() -> -1).build();
+        inputs = new Integer[1024];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = ThreadLocalRandom.current().nextInt(ranges * WIDTH);
+        }
+    }
+
+    @Benchmark
+    public int thresholdScan() {
+        int input = inputs[next++ & 1023];
+        for (int i = 0; i < thresholds.length; i++) {
+            if (input < thresholds[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public Integer compiledRanges() {
+        return compiled.dispatch(inputs[next++ & 1023]);
+    }
+}
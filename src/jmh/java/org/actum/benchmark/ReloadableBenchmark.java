@@ -0,0 +1,70 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.Reloadable;
+import org.actum.conditional.value.CompiledSwitchValue;
+import org.actum.conditional.value.SwitchValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading a definition through a Reloadable against a plain field, and of publishing a new version
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReloadableBenchmark {
+
+    private static final String[] INPUTS = {"A", "B", "C", "D"};
+
+    private CompiledSwitchValue<String, Integer> direct;
+    private Reloadable<CompiledSwitchValue<String, Integer>> reloadable;
+    private int position;
+
+    @Setup
+    public void setUp() {
+        direct = definition();
+        reloadable = Reloadable.of(definition());
+    }
+
+    private static CompiledSwitchValue<String, Integer> definition() {
+        return SwitchValue.<String, Integer>builder()
+                .caseOf("A", () -> 1)
+                .caseOf("B", () -> 2)
+                .caseOf("C", () -> 3)
+                .defaultOf(() -> 0)
+                .build();
+    }
+
+    private String nextInput() {
+        position = (position + 1) & 3;
+        return INPUTS[position];
+    }
+
+    @Benchmark
+    public Integer directDispatch() {
+        return direct.dispatch(nextInput());
+    }
+
+    @Benchmark
+    public Integer reloadableDispatch() {
+        return reloadable.get().dispatch(nextInput());
+    }
+
+    @Benchmark
+    public Object swap() {
+        return reloadable.swap(direct);
+    }
+}
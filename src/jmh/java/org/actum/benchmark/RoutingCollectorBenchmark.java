@@ -0,0 +1,78 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.stream.RoutingCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Summing a stream per case: one routing pass against groupingBy and against one filtered pass per case
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoutingCollectorBenchmark {
+
+    private static final int CASES = 8;
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Integer> inputs;
+    private RoutingCollector<Integer, Integer, Long> router;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        inputs = IntStream.range(0, size).map(i -> random.nextInt(1_000)).boxed().collect(Collectors.toList());
+        RoutingCollector.Builder<Integer, Integer, Long> builder = RoutingCollector.builder(x -> x % CASES);
+        for (int i = 0; i < CASES; i++) {
+            builder.caseOf(i, Collectors.summingLong(x -> x));
+        }
+        router = builder.build();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> routingCollector() {
+        return inputs.stream().collect(router);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingBy() {
+        return inputs.stream().collect(Collectors.groupingBy(x -> x % CASES, Collectors.summingLong(x -> x)));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> filteredPasses() {
+        Map<Integer, Long> sums = new HashMap<>();
+        for (int i = 0; i < CASES; i++) {
+            int route = i;
+            sums.put(i, inputs.stream().filter(x -> x % CASES == route).mapToLong(x -> x).sum());
+        }
+        return sums;
+    }
+
+    @Benchmark
+    public Map<Integer, Long> routingCollectorParallel() {
+        return inputs.parallelStream().collect(router);
+    }
+}
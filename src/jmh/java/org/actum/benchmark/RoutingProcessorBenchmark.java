@@ -0,0 +1,141 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.stream.RouteOverflow;
+import org.actum.conditional.stream.RoutingProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-element cost of routing through a RoutingProcessor driven synchronously by its upstream, 4 cases and a default.
+ * In the slowRoute scenario one route's subscriber only takes elements when the processor stops requesting:
+ * BACKPRESSURE paces the whole stream on it, DROP_OLDEST keeps requesting and drops its oldest elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoutingProcessorBenchmark {
+
+    private static final int CASES = 4;
+    private static final int BATCH = 1024;
+
+    @Param({"BACKPRESSURE", "DROP_OLDEST"})
+    private RouteOverflow overflow;
+
+    private Integer[] inputs;
+    private RoutingProcessor<Integer> router;
+    private Sink slow;
+    private Upstream upstream;
+
+    @Setup(Level.Iteration)
+    public void setUp(Blackhole blackhole) {
+        inputs = new Integer[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            inputs[i] = i % (CASES + 1);
+        }
+        RoutingProcessor.Builder<Integer> builder = RoutingProcessor.<Integer>builder(x -> x)
+                .overflow(overflow)
+                .bufferSize(256);
+        slow = new Sink(blackhole, 0);
+        builder.caseOf(0, slow);
+        for (int i = 1; i < CASES; i++) {
+            builder.caseOf(i, new Sink(blackhole, Long.MAX_VALUE));
+        }
+        router = builder.build();
+        router.subscribe(new Sink(blackhole, Long.MAX_VALUE));
+        upstream = new Upstream();
+        router.onSubscribe(upstream);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long route() {
+        slow.subscription.request(BATCH);
+        return emit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long slowRoute() {
+        return emit();
+    }
+
+    /**
+     * Emits a batch as a well-behaved publisher would, only what was requested; whenever the processor has no
+     * demand left the slow subscriber takes another eighth of a batch
+     */
+    private long emit() {
+        int emitted = 0;
+        while (emitted < BATCH) {
+            if (upstream.outstanding == 0) {
+                slow.subscription.request(BATCH / 8);
+                continue;
+            }
+            upstream.outstanding--;
+            router.onNext(inputs[emitted++]);
+        }
+        return upstream.outstanding;
+    }
+
+    private static final class Upstream implements Flow.Subscription {
+        private long outstanding;
+
+        @Override
+        public void request(long n) {
+            outstanding += n;
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private static final class Sink implements Flow.Subscriber<Integer> {
+        private final Blackhole blackhole;
+        private final long initialDemand;
+        private Flow.Subscription subscription;
+
+        private Sink(Blackhole blackhole, long initialDemand) {
+            this.blackhole = blackhole;
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            blackhole.consume(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
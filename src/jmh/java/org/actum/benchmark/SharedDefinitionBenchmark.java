@@ -0,0 +1,52 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.value.CompiledIfValue;
+import org.actum.conditional.value.IfValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every hardware thread evaluating one shared immutable definition against rebuilding the fluent chain per call
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class SharedDefinitionBenchmark {
+
+    private final CompiledIfValue<Integer, String> shared = IfValue.<Integer, String>builder()
+            .when(x -> x < 10, x -> "low")
+            .elseIf(x -> x < 100, x -> "medium")
+            .elseIf(x -> x < 1000, x -> "high")
+            .elseThen(x -> "extreme")
+            .build();
+
+    @Benchmark
+    public String sharedDefinition() {
+        return shared.evaluate(ThreadLocalRandom.current().nextInt(2000));
+    }
+
+    @Benchmark
+    public String fluentPerCall() {
+        int x = ThreadLocalRandom.current().nextInt(2000);
+        return IfValue.<String>when(x < 10)
+                .then(() -> "low")
+                .elseIf(x < 100, () -> "medium")
+                .elseIf(x < 1000, () -> "high")
+                .elseThen(() -> "extreme");
+    }
+}
@@ -0,0 +1,155 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.CompiledSwitch;
+import org.actum.conditional.core.StringSwitch;
+import org.actum.conditional.core.Switch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routing command strings: StringSwitch against a HashMap of actions and the generic compiled switch.
+ * Exact lookups are expected on par with the HashMap, the ignore-case and prefix pairs show what StringSwitch adds:
+ * no lower-cased copy of the input, and no scan over the prefixes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringSwitchBenchmark {
+
+    @Param({"10", "50", "500"})
+    private int cases;
+
+    private String[] inputs;
+    private String[] upperInputs;
+    private String[] pathInputs;
+    private int position;
+    private Map<String, Runnable> map;
+    private String[] prefixes;
+    private Runnable[] prefixActions;
+    private StringSwitch stringSwitch;
+    private StringSwitch ignoreCaseSwitch;
+    private StringSwitch prefixSwitch;
+    private CompiledSwitch compiled;
+    private int sink;
+
+    @Setup
+    public void setUp() {
+        inputs = new String[cases];
+        upperInputs = new String[cases];
+        pathInputs = new String[cases];
+        prefixes = new String[cases];
+        prefixActions = new Runnable[cases];
+        map = new HashMap<>();
+        StringSwitch.Builder builder = StringSwitch.builder();
+        StringSwitch.Builder ignoreCase = StringSwitch.builder().ignoreCase();
+        StringSwitch.Builder prefix = StringSwitch.builder();
+        Switch.Builder generic = Switch.builder();
+        for (int i = 0; i < cases; i++) {
+            int command = i;
+            String key = "command-" + i;
+            Runnable action = () -> sink = command;
+            map.put(key, action);
+            builder.caseOf(key, action);
+            ignoreCase.caseOf(key, action);
+            generic.caseOf(key, action);
+            prefixes[i] = "/" + key + "/";
+            prefixActions[i] = action;
+            prefix.casePrefix(prefixes[i], action);
+            // distinct instances, as read from a request, with their hash codes computed like any map key
+            inputs[i] = new String(key);
+            inputs[i].hashCode();
+            upperInputs[i] = key.toUpperCase(Locale.ROOT);
+            pathInputs[i] = prefixes[i] + "details";
+        }
+        stringSwitch = builder.build();
+        ignoreCaseSwitch = ignoreCase.build();
+        prefixSwitch = prefix.build();
+        compiled = generic.build();
+    }
+
+    private String nextInput() {
+        position = position + 1 == inputs.length ? 0 : position + 1;
+        return inputs[position];
+    }
+
+    private String nextUpperInput() {
+        position = position + 1 == upperInputs.length ? 0 : position + 1;
+        return upperInputs[position];
+    }
+
+    private String nextPathInput() {
+        position = position + 1 == pathInputs.length ? 0 : position + 1;
+        return pathInputs[position];
+    }
+
+    @Benchmark
+    public int hashMap() {
+        Runnable action = map.get(nextInput());
+        if (action != null) {
+            action.run();
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public int stringSwitch() {
+        stringSwitch.dispatch(nextInput());
+        return sink;
+    }
+
+    @Benchmark
+    public int ignoreCaseHashMap() {
+        Runnable action = map.get(nextUpperInput().toLowerCase(Locale.ROOT));
+        if (action != null) {
+            action.run();
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public int ignoreCaseStringSwitch() {
+        ignoreCaseSwitch.dispatch(nextUpperInput());
+        return sink;
+    }
+
+    @Benchmark
+    public int prefixScan() {
+        String input = nextPathInput();
+        for (int i = 0; i < prefixes.length; i++) {
+            if (input.startsWith(prefixes[i])) {
+                prefixActions[i].run();
+                break;
+            }
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public int prefixStringSwitch() {
+        prefixSwitch.dispatch(nextPathInput());
+        return sink;
+    }
+
+    @Benchmark
+    public int compiledSwitch() {
+        compiled.dispatch(nextInput());
+        return sink;
+    }
+}
@@ -0,0 +1,97 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.CompiledSwitch;
+import org.actum.conditional.core.Switch;
+import org.actum.logger.ActumLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Switch.on(..).caseOf(..).defaultOf(..) and its compiled form against a plain equality scan, matching the last case
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SwitchBenchmark {
+
+    @Param({"2", "10", "100"})
+    private int branches;
+
+    @Param({"false", "true"})
+    private boolean traced;
+
+    @Param({"NO_OP", "SLF4J"})
+    private BenchmarkLogger logger;
+
+    private Object[] keys;
+    private Object input;
+    private ActumLogger actumLogger;
+    private CompiledSwitch compiled;
+    private int sink;
+
+    @Setup
+    public void setUp() {
+        keys = new Object[branches];
+        for (int i = 0; i < branches; i++) {
+            keys[i] = "case-" + i;
+        }
+        input = "case-" + (branches - 1);
+        actumLogger = logger.create();
+
+        Switch.Builder builder = Switch.builder().withLogger(actumLogger);
+        if (traced) {
+            builder.trace();
+        }
+        for (int i = 0; i < branches; i++) {
+            int branch = i;
+            builder.caseOf(keys[i], () -> sink = branch);
+        }
+        compiled = builder.defaultOf(() -> sink = -1).build();
+    }
+
+    @Benchmark
+    public void plainSwitch(Blackhole blackhole) {
+        for (int i = 0; i < branches; i++) {
+            if (Objects.equals(input, keys[i])) {
+                blackhole.consume(i);
+                return;
+            }
+        }
+        blackhole.consume(-1);
+    }
+
+    @Benchmark
+    public void fluentSwitch(Blackhole blackhole) {
+        Switch chain = Switch.on(input).withLogger(actumLogger);
+        if (traced) {
+            chain.trace();
+        }
+        for (int i = 0; i < branches; i++) {
+            int branch = i;
+            chain.caseOf(keys[i], () -> blackhole.consume(branch));
+        }
+        chain.defaultOf(() -> blackhole.consume(-1));
+    }
+
+    @Benchmark
+    public int compiledSwitch() {
+        compiled.dispatch(input);
+        return sink;
+    }
+}
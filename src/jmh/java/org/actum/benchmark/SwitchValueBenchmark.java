@@ -0,0 +1,93 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.value.CompiledSwitchValue;
+import org.actum.conditional.value.SwitchValue;
+import org.actum.logger.ActumLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SwitchValue.on(..).caseOf(..).orElse(..) and its compiled form against a plain equality scan, matching the last case
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SwitchValueBenchmark {
+
+    @Param({"2", "10", "100"})
+    private int branches;
+
+    @Param({"false", "true"})
+    private boolean traced;
+
+    @Param({"NO_OP", "SLF4J"})
+    private BenchmarkLogger logger;
+
+    private String[] keys;
+    private String input;
+    private ActumLogger actumLogger;
+    private CompiledSwitchValue<String, Integer> compiled;
+
+    @Setup
+    public void setUp() {
+        keys = new String[branches];
+        for (int i = 0; i < branches; i++) {
+            keys[i] = "case-" + i;
+        }
+        input = "case-" + (branches - 1);
+        actumLogger = logger.create();
+
+        SwitchValue.Builder<String, Integer> builder = SwitchValue.<String, Integer>builder().withLogger(actumLogger);
+        if (traced) {
+            builder.trace();
+        }
+        for (int i = 0; i < branches; i++) {
+            Integer branch = i;
+            builder.caseOf(keys[i], () -> branch);
+        }
+        compiled = builder.defaultOf(() -> -1).build();
+    }
+
+    @Benchmark
+    public int plainSwitch() {
+        for (int i = 0; i < branches; i++) {
+            if (Objects.equals(input, keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public Integer fluentSwitchValue() {
+        SwitchValue<String, Integer> chain = SwitchValue.<String, Integer>on(input).withLogger(actumLogger);
+        if (traced) {
+            chain.trace();
+        }
+        for (int i = 0; i < branches; i++) {
+            Integer branch = i;
+            chain.caseOf(keys[i], () -> branch);
+        }
+        return chain.orElse(() -> -1);
+    }
+
+    @Benchmark
+    public Integer compiledSwitchValue() {
+        return compiled.dispatch(input);
+    }
+}
@@ -0,0 +1,124 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.TableSwitch;
+import org.actum.table.DecisionTable;
+import org.actum.table.DecisionTableWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routing long keys: a memory-mapped decision table against a HashMap of actions holding the same rows,
+ * and the cost of opening the table, which does not depend on its size
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TableSwitchBenchmark {
+
+    private static final int ACTIONS = 16;
+
+    @Param({"1000", "500000"})
+    private int rows;
+
+    private Path path;
+    private long[] inputs;
+    private int position;
+    private Map<Long, Runnable> map;
+    private DecisionTable decisionTable;
+    private TableSwitch table;
+    private int sink;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = Files.createTempFile("actum-", ".table");
+        SplittableRandom random = new SplittableRandom(42);
+        long[] keys = new long[rows];
+        int[] actionIds = new int[rows];
+        Runnable[] actions = new Runnable[ACTIONS];
+        for (int i = 0; i < ACTIONS; i++) {
+            int action = i;
+            actions[i] = () -> sink = action;
+        }
+        map = new HashMap<>();
+        for (int i = 0; i < rows; i++) {
+            keys[i] = i * 7919L + random.nextInt(7919);
+            actionIds[i] = random.nextInt(ACTIONS);
+            map.put(keys[i], actions[actionIds[i]]);
+        }
+        DecisionTableWriter.write(path, keys, actionIds);
+        decisionTable = DecisionTable.open(path);
+        TableSwitch.Builder builder = TableSwitch.builder(decisionTable);
+        for (int i = 0; i < ACTIONS; i++) {
+            builder.bind(i, actions[i]);
+        }
+        table = builder.build();
+        inputs = new long[4096];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = keys[random.nextInt(rows)];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    private long nextInput() {
+        position = (position + 1) & (inputs.length - 1);
+        return inputs[position];
+    }
+
+    @Benchmark
+    public int hashMap() {
+        Runnable action = map.get(nextInput());
+        if (action != null) {
+            action.run();
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public int tableLookup() {
+        return decisionTable.actionOf(nextInput());
+    }
+
+    @Benchmark
+    public int tableSwitch() {
+        table.dispatch(nextInput());
+        return sink;
+    }
+
+    /**
+     * Single shot: every open creates a mapping that is only released once the table is garbage collected
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 20)
+    public DecisionTable openTable() {
+        return DecisionTable.open(path);
+    }
+}
@@ -0,0 +1,107 @@
+package org.actum.benchmark;
+
+import org.actum.conditional.core.CompiledTypeSwitch;
+import org.actum.conditional.core.Switch;
+import org.actum.conditional.core.TypeSwitch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatching on the type of mixed inputs: CompiledTypeSwitch against an instanceof chain and the fluent type switch
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeSwitchBenchmark {
+
+    private Object[] inputs;
+    private int position;
+    private CompiledTypeSwitch compiled;
+    private int sink;
+
+    @Setup
+    public void setUp() {
+        // eight concrete classes, so call sites see a megamorphic mix like a real event stream
+        inputs = new Object[]{1, 2L, 3.0, "four", new StringBuilder("five"), BigInteger.valueOf(6),
+                BigDecimal.valueOf(7), new ArrayList<>(), new Date(), Boolean.TRUE};
+        compiled = TypeSwitch.builder()
+                .caseOf(Integer.class, i -> sink = 1)
+                .caseOf(Long.class, l -> sink = 2)
+                .caseOf(Double.class, d -> sink = 3)
+                .caseOf(String.class, s -> sink = 4)
+                .caseOf(StringBuilder.class, s -> sink = 5)
+                .caseOf(BigInteger.class, b -> sink = 6)
+                .caseOf(BigDecimal.class, b -> sink = 7)
+                .caseOf(Iterable.class, c -> sink = 8)
+                .defaultOf(() -> sink = 0)
+                .build();
+    }
+
+    private Object nextInput() {
+        position = position + 1 == inputs.length ? 0 : position + 1;
+        return inputs[position];
+    }
+
+    @Benchmark
+    public int instanceofChain() {
+        Object input = nextInput();
+        if (input instanceof Integer) {
+            sink = 1;
+        } else if (input instanceof Long) {
+            sink = 2;
+        } else if (input instanceof Double) {
+            sink = 3;
+        } else if (input instanceof String) {
+            sink = 4;
+        } else if (input instanceof StringBuilder) {
+            sink = 5;
+        } else if (input instanceof BigInteger) {
+            sink = 6;
+        } else if (input instanceof BigDecimal) {
+            sink = 7;
+        } else if (input instanceof Iterable) {
+            sink = 8;
+        } else {
+            sink = 0;
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public int compiledTypeSwitch() {
+        compiled.dispatch(nextInput());
+        return sink;
+    }
+
+    @Benchmark
+    public int fluentTypeSwitch() {
+        Switch.onType(nextInput())
+                .caseOf(Integer.class, i -> sink = 1)
+                .caseOf(Long.class, l -> sink = 2)
+                .caseOf(Double.class, d -> sink = 3)
+                .caseOf(String.class, s -> sink = 4)
+                .caseOf(StringBuilder.class, s -> sink = 5)
+                .caseOf(BigInteger.class, b -> sink = 6)
+                .caseOf(BigDecimal.class, b -> sink = 7)
+                .caseOf(Iterable.class, c -> sink = 8)
+                .defaultOf(() -> sink = 0);
+        return sink;
+    }
+}
@@ -0,0 +1,15 @@
+package org.actum.conditional;
+
+/**
+ * How a batch of inputs is evaluated
+ */
+public enum BulkMode {
+    /**
+     * Inputs are evaluated in order on the calling thread
+     */
+    SEQUENTIAL,
+    /**
+     * Inputs are split in chunks evaluated on the common fork/join pool
+     */
+    PARALLEL
+}
@@ -1,4 +1,289 @@
 package org.actum.conditional;
 
-public class ConditionalActum {
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.util.GenericArrays;
+import org.actum.visibility.Debuggable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Rule set engine, evaluates facts against named rules made of conditions, an action and a priority.
+ * Conditions are shared between rules by identity: a predicate used by many rules is computed at most once per fact.
+ * Usage:
+ * Predicate&lt;Order&gt; vip = order -&gt; order.customer().isVip();
+ * ConditionalActum&lt;Order&gt; rules = ConditionalActum.&lt;Order&gt;builder()
+ * .rule("vip-discount", 10, List.of(vip, bigOrder), order -&gt; ...)
+ * .rule("vip-shipping", 5, List.of(vip), order -&gt; ...)
+ * .mode(MatchMode.ALL_MATCH)
+ * .build();
+ * RuleReport report = rules.evaluate(order);
+ *
+ * @param <F> fact type
+ */
+public class ConditionalActum<F> implements Debuggable {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte HOLDS = 1;
+    private static final byte FAILS = 2;
+
+    private final Predicate<? super F>[] conditions;
+    private final String[] names;
+    private final Map<String, Integer> ruleIndexes;
+    private final int[][] ruleConditions;
+    private final Consumer<? super F>[] actions;
+    private final LongAdder[] fireCounts;
+    private final MatchMode mode;
+    private final TraceContext trace;
+
+    private ConditionalActum(Predicate<? super F>[] conditions, String[] names, Map<String, Integer> ruleIndexes,
+                             int[][] ruleConditions, Consumer<? super F>[] actions, MatchMode mode, TraceContext trace) {
+        this.conditions = conditions;
+        this.names = names;
+        this.ruleIndexes = ruleIndexes;
+        this.ruleConditions = ruleConditions;
+        this.actions = actions;
+        this.mode = mode;
+        this.trace = trace;
+        this.fireCounts = new LongAdder[names.length];
+        for (int i = 0; i < fireCounts.length; i++) {
+            fireCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Starts rule set definition
+     *
+     * @return builder
+     */
+    public static <F> Builder<F> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Evaluates fact with the configured match mode
+     *
+     * @param fact fact
+     * @return report
+     */
+    public RuleReport evaluate(F fact) {
+        return evaluate(fact, mode);
+    }
+
+    /**
+     * Evaluates fact, rules are visited by descending priority and then registration order
+     *
+     * @param fact fact
+     * @param mode match mode
+     * @return report
+     */
+    public RuleReport evaluate(F fact, MatchMode mode) {
+        checkNotNull(mode);
+        byte[] memo = new byte[conditions.length];
+        int evaluations = 0;
+        List<String> fired = new ArrayList<>(mode == MatchMode.FIRST_MATCH ? 1 : 4);
+        for (int rule = 0; rule < ruleConditions.length; rule++) {
+            boolean holds = true;
+            for (int condition : ruleConditions[rule]) {
+                byte state = memo[condition];
+                if (state == UNKNOWN) {
+                    evaluations++;
+                    state = conditions[condition].test(fact) ? HOLDS : FAILS;
+                    memo[condition] = state;
+                }
+                if (state == FAILS) {
+                    holds = false;
+                    break;
+                }
+            }
+            if (holds) {
+                trace.executing(names[rule], true);
+                actions[rule].accept(fact);
+                fireCounts[rule].increment();
+                fired.add(names[rule]);
+                if (mode == MatchMode.FIRST_MATCH) {
+                    break;
+                }
+            }
+        }
+        return new RuleReport(mode, fired, evaluations);
+    }
+
+    /**
+     * Times the rule fired since the rule set was built
+     *
+     * @param name rule name
+     * @return fire count
+     */
+    public long getFireCount(String name) {
+        Integer index = ruleIndexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown rule: " + name);
+        }
+        return fireCounts[index].sum();
+    }
+
+    /**
+     * Rule names in evaluation order
+     *
+     * @return rule names
+     */
+    public List<String> getRules() {
+        return List.of(names);
+    }
+
+    /**
+     * Number of distinct conditions across all rules
+     *
+     * @return distinct conditions
+     */
+    public int getConditionCount() {
+        return conditions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("ConditionalActum[Label=%s, Description=%s, Traceable=%s, Rules=%s, Conditions=%s, Mode=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), names.length, conditions.length, mode);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link ConditionalActum}
+     *
+     * @param <F> fact type
+     */
+    public static final class Builder<F> extends AbstractBuilder<Builder<F>> {
+
+        private final List<RuleDefinition<F>> rules = new ArrayList<>();
+        private final Set<String> names = new HashSet<>();
+        private MatchMode mode = MatchMode.FIRST_MATCH;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers rule with priority 0
+         *
+         * @param name      unique rule name
+         * @param condition condition
+         * @param action    action
+         * @return builder
+         */
+        public Builder<F> rule(String name, Predicate<? super F> condition, Consumer<? super F> action) {
+            return rule(name, 0, List.of(condition), action);
+        }
+
+        /**
+         * Registers rule firing when every condition holds.
+         * Pass the same predicate instance to several rules to have it computed once per fact.
+         *
+         * @param name       unique rule name
+         * @param priority   higher priorities are evaluated first
+         * @param conditions conditions, all of them must hold
+         * @param action     action
+         * @return builder
+         */
+        public Builder<F> rule(String name, int priority, List<? extends Predicate<? super F>> conditions, Consumer<? super F> action) {
+            checkNotNull(name);
+            checkNotNull(conditions);
+            checkNotNull(action);
+            conditions.forEach(condition -> checkNotNull(condition));
+            if (!names.add(name)) {
+                throw new IllegalArgumentException("Duplicate rule: " + name);
+            }
+            rules.add(new RuleDefinition<>(name, priority, List.copyOf(conditions), action, rules.size()));
+            return this;
+        }
+
+        /**
+         * Default match mode, FIRST_MATCH unless set
+         *
+         * @param mode match mode
+         * @return builder
+         */
+        public Builder<F> mode(MatchMode mode) {
+            checkNotNull(mode);
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * Builds immutable rule set, conditions shared by identity become a single node
+         *
+         * @return rule set
+         */
+        public ConditionalActum<F> build() {
+            List<RuleDefinition<F>> ordered = new ArrayList<>(rules);
+            ordered.sort(Comparator.<RuleDefinition<F>>comparingInt(rule -> rule.priority).reversed()
+                    .thenComparingInt(rule -> rule.order));
+            Map<Predicate<? super F>, Integer> nodes = new IdentityHashMap<>();
+            List<Predicate<? super F>> conditions = new ArrayList<>();
+            String[] names = new String[ordered.size()];
+            Map<String, Integer> ruleIndexes = new HashMap<>();
+            int[][] ruleConditions = new int[ordered.size()][];
+            Consumer<? super F>[] actions = GenericArrays.newArray(Consumer.class, ordered.size());
+            for (int i = 0; i < ordered.size(); i++) {
+                RuleDefinition<F> rule = ordered.get(i);
+                names[i] = rule.name;
+                ruleIndexes.put(rule.name, i);
+                actions[i] = rule.action;
+                ruleConditions[i] = rule.conditions.stream()
+                        .mapToInt(condition -> nodes.computeIfAbsent(condition, key -> {
+                            conditions.add(key);
+                            return conditions.size() - 1;
+                        }))
+                        .distinct()
+                        .toArray();
+            }
+            return new ConditionalActum<>(GenericArrays.toArray(Predicate.class, conditions), names, ruleIndexes, ruleConditions,
+                    actions, mode, traceContext(ConditionalActum.class.getSimpleName()));
+        }
+    }
+
+    private static final class RuleDefinition<F> {
+        private final String name;
+        private final int priority;
+        private final List<Predicate<? super F>> conditions;
+        private final Consumer<? super F> action;
+        private final int order;
+
+        private RuleDefinition(String name, int priority, List<Predicate<? super F>> conditions,
+                               Consumer<? super F> action, int order) {
+            this.name = name;
+            this.priority = priority;
+            this.conditions = conditions;
+            this.action = action;
+            this.order = order;
+        }
+    }
 }
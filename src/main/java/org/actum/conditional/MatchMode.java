@@ -0,0 +1,15 @@
+package org.actum.conditional;
+
+/**
+ * How many rules fire for a fact
+ */
+public enum MatchMode {
+    /**
+     * Only the highest priority matching rule fires
+     */
+    FIRST_MATCH,
+    /**
+     * Every matching rule fires, in priority order
+     */
+    ALL_MATCH
+}
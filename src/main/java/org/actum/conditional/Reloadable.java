@@ -0,0 +1,227 @@
+package org.actum.conditional;
+
+import org.actum.metrics.LatencyHistogram;
+import org.actum.visibility.Debuggable;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Versioned holder of a compiled definition, e.g. a CompiledSwitch or a ConditionalActum, that can be rebuilt
+ * and swapped while it is being evaluated.
+ * Readers perform a single volatile load and never lock: they see either the previous or the next version,
+ * never a partially built one. Writers are serialized, a definition is built outside of the writer lock.
+ * An evaluation that loaded a version keeps using it until it returns, the previous version is also retained
+ * for inspection and {@link #rollback()}.
+ * The definition is published in its own field so that get() is one load, during a swap it may already
+ * return the next definition while current() still returns the previous version.
+ * Usage:
+ * Reloadable&lt;CompiledSwitch&gt; routes = Reloadable.of(() -&gt; loadRoutes(config));
+ * routes.get().dispatch(command);
+ * routes.reloadAsync(executor);
+ *
+ * @param <D> definition type
+ */
+public final class Reloadable<D> implements Debuggable {
+
+    private volatile D definition;
+    private volatile Version<D> current;
+    private volatile Version<D> previous;
+    private final Supplier<? extends D> loader;
+    private final Object writeLock = new Object();
+    private final LatencyHistogram buildLatency = new LatencyHistogram();
+    private final LatencyHistogram swapLatency = new LatencyHistogram();
+
+    private Reloadable(D initial, Supplier<? extends D> loader) {
+        this.current = new Version<>(1, initial);
+        this.definition = initial;
+        this.loader = loader;
+    }
+
+    /**
+     * Holds initial definition, later versions are published with {@link #swap(Object)}
+     *
+     * @param initial initial definition
+     * @return reloadable
+     */
+    public static <D> Reloadable<D> of(D initial) {
+        checkNotNull(initial);
+        return new Reloadable<>(initial, null);
+    }
+
+    /**
+     * Builds initial definition with loader, later versions are built by {@link #reload()} with the same loader
+     *
+     * @param loader builds a definition
+     * @return reloadable
+     */
+    public static <D> Reloadable<D> of(Supplier<? extends D> loader) {
+        checkNotNull(loader);
+        D initial = loader.get();
+        checkNotNull(initial);
+        return new Reloadable<>(initial, loader);
+    }
+
+    /**
+     * Current definition, a single volatile load
+     *
+     * @return definition
+     */
+    public D get() {
+        return definition;
+    }
+
+    /**
+     * Current version
+     *
+     * @return version
+     */
+    public Version<D> current() {
+        return current;
+    }
+
+    /**
+     * Version replaced by the last swap
+     *
+     * @return version, or null before the first swap
+     */
+    public Version<D> previous() {
+        return previous;
+    }
+
+    /**
+     * Publishes definition as the next version
+     *
+     * @param definition definition, fully built
+     * @return published version
+     */
+    public Version<D> swap(D definition) {
+        checkNotNull(definition);
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            Version<D> replaced = current;
+            Version<D> next = new Version<>(replaced.number + 1, definition);
+            this.previous = replaced;
+            this.current = next;
+            this.definition = definition;
+            swapLatency.record(System.nanoTime() - start);
+            return next;
+        }
+    }
+
+    /**
+     * Builds a definition with the loader and publishes it, the current version stays in place if the loader fails
+     *
+     * @return published version
+     * @throws IllegalStateException if no loader was provided
+     */
+    public Version<D> reload() {
+        if (loader == null) {
+            throw new IllegalStateException("No loader provided, use swap");
+        }
+        long start = System.nanoTime();
+        D definition = loader.get();
+        buildLatency.record(System.nanoTime() - start);
+        return swap(definition);
+    }
+
+    /**
+     * Builds and publishes a definition on executor
+     *
+     * @param executor executor building the definition
+     * @return future of the published version, completed exceptionally if the loader fails
+     */
+    public CompletableFuture<Version<D>> reloadAsync(Executor executor) {
+        checkNotNull(executor);
+        return CompletableFuture.supplyAsync(this::reload, executor);
+    }
+
+    /**
+     * Publishes the previous definition again as the next version
+     *
+     * @return true if there was a previous version
+     */
+    public boolean rollback() {
+        synchronized (writeLock) {
+            Version<D> target = previous;
+            if (target == null) {
+                return false;
+            }
+            swap(target.definition);
+            return true;
+        }
+    }
+
+    /**
+     * Time taken by the loader to build definitions
+     *
+     * @return build latency
+     */
+    public LatencyHistogram getBuildLatency() {
+        return buildLatency;
+    }
+
+    /**
+     * Time taken to publish definitions, waiting for concurrent writers included
+     *
+     * @return swap latency
+     */
+    public LatencyHistogram getSwapLatency() {
+        return swapLatency;
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        Version<D> version = current;
+        return String.format("Reloadable[Version=%s, LoadedAt=%s, Swaps=%s, Definition=%s]",
+                version.number, version.loadedAt, swapLatency.getCount(), version.definition);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Immutable published definition
+     *
+     * @param <D> definition type
+     */
+    public static final class Version<D> {
+        private final long number;
+        private final D definition;
+        private final Instant loadedAt;
+
+        private Version(long number, D definition) {
+            this.number = number;
+            this.definition = definition;
+            this.loadedAt = Instant.now();
+        }
+
+        public long getNumber() {
+            return number;
+        }
+
+        public D getDefinition() {
+            return definition;
+        }
+
+        public Instant getLoadedAt() {
+            return loadedAt;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Version[Number=%s, LoadedAt=%s]", number, loadedAt);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.actum.conditional;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of evaluating one fact against a rule set
+ */
+public final class RuleReport {
+
+    private final MatchMode mode;
+    private final List<String> firedRules;
+    private final int conditionEvaluations;
+
+    RuleReport(MatchMode mode, List<String> firedRules, int conditionEvaluations) {
+        this.mode = mode;
+        this.firedRules = Collections.unmodifiableList(firedRules);
+        this.conditionEvaluations = conditionEvaluations;
+    }
+
+    public MatchMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Names of fired rules in firing order
+     *
+     * @return fired rules
+     */
+    public List<String> getFiredRules() {
+        return firedRules;
+    }
+
+    /**
+     * Number of fired rules
+     *
+     * @return fired rule count
+     */
+    public int getFiredCount() {
+        return firedRules.size();
+    }
+
+    /**
+     * Number of conditions computed, a condition shared by several rules counts once
+     *
+     * @return condition evaluations
+     */
+    public int getConditionEvaluations() {
+        return conditionEvaluations;
+    }
+
+    public boolean isMatched() {
+        return !firedRules.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RuleReport[Mode=%s, Fired=%s, ConditionEvaluations=%s]", mode, firedRules, conditionEvaluations);
+    }
+}
@@ -0,0 +1,263 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.AdaptiveOrder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.GenericArrays;
+import org.actum.visibility.Debuggable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable chain of predicate branches whose evaluation order adapts to the observed traffic.
+ * Branches are tested by decreasing priority. When the branches are declared mutually exclusive,
+ * branches of equal priority are periodically re-sorted so that the most hit ones are tested first,
+ * see {@link AdaptiveOrder}. Without that declaration branches of equal priority keep their declaration order,
+ * as the first matching branch would otherwise change.
+ * Usage:
+ * AdaptiveIf&lt;T&gt; check = AdaptiveIf.&lt;T&gt;builder()
+ * .branch(condition-1, action-1)
+ * .branch(condition-2, action-2)
+ * .exclusive()
+ * .elseThen(action)
+ * .build();
+ * check.evaluate(input);
+ *
+ * @param <T> input type
+ */
+public final class AdaptiveIf<T> implements Debuggable {
+
+    private final Predicate<? super T>[] conditions;
+    private final Consumer<? super T>[] actions;
+    private final Consumer<? super T> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+    private final AdaptiveOrder order;
+
+    private AdaptiveIf(Predicate<? super T>[] conditions, Consumer<? super T>[] actions, Consumer<? super T> fallback,
+                       Supplier<? extends RuntimeException> exception, TraceContext trace, AdaptiveOrder order) {
+        this.conditions = conditions;
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+        this.order = order;
+    }
+
+    /**
+     * Starts chain definition
+     *
+     * @return builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Executes the first branch, in the current evaluation order, whose condition holds for input, or the else action
+     *
+     * @param input input
+     * @return true if a branch matched
+     */
+    public boolean evaluate(T input) {
+        int[] branches = order.order();
+        for (int i = 0; i < branches.length; i++) {
+            int branch = branches[i];
+            if (conditions[branch].test(input)) {
+                order.completed(branch, i + 1);
+                trace.executing(CompiledIf.blockName(branch), true);
+                long start = trace.start();
+                actions[branch].accept(input);
+                trace.record(branch == 0 ? BranchKind.THEN : BranchKind.ELSE_IF, branch, start);
+                return true;
+            }
+        }
+        order.completed(AdaptiveOrder.NONE, branches.length);
+        if (fallback != null) {
+            trace.executing("ElseThen", false);
+            long start = trace.start();
+            fallback.accept(input);
+            trace.record(BranchKind.ELSE_THEN, conditions.length, start);
+        } else if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return false;
+    }
+
+    /**
+     * Evaluation order and hit statistics
+     *
+     * @return adaptive order
+     */
+    public AdaptiveOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Number of branches, else excluded
+     *
+     * @return number of branches
+     */
+    public int size() {
+        return conditions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("AdaptiveIf[Label=%s, Description=%s, Traceable=%s, Branches=%s, Order=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), conditions.length, order);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link AdaptiveIf}
+     *
+     * @param <T> input type
+     */
+    public static final class Builder<T> extends AbstractBuilder<Builder<T>> {
+
+        private static final int DEFAULT_INTERVAL = 10_000;
+
+        private final List<Predicate<? super T>> conditions = new ArrayList<>();
+        private final List<Consumer<? super T>> actions = new ArrayList<>();
+        private final List<Integer> priorities = new ArrayList<>();
+        private Consumer<? super T> fallback;
+        private Supplier<? extends RuntimeException> exception;
+        private boolean exclusive;
+        private int interval = DEFAULT_INTERVAL;
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers branch of priority 0
+         *
+         * @param condition logical condition on input
+         * @param action    action
+         * @return builder
+         */
+        public Builder<T> branch(Predicate<? super T> condition, Consumer<? super T> action) {
+            return branch(0, condition, action);
+        }
+
+        /**
+         * Registers branch, branches of higher priority are always tested first
+         *
+         * @param priority  priority
+         * @param condition logical condition on input
+         * @param action    action
+         * @return builder
+         */
+        public Builder<T> branch(int priority, Predicate<? super T> condition, Consumer<? super T> action) {
+            checkNotNull(condition);
+            checkNotNull(action);
+            conditions.add(condition);
+            actions.add(action);
+            priorities.add(priority);
+            return this;
+        }
+
+        /**
+         * Declares that at most one branch condition holds for any input, allowing branches of equal priority
+         * to be reordered
+         *
+         * @return builder
+         */
+        public Builder<T> exclusive() {
+            this.exclusive = true;
+            return this;
+        }
+
+        /**
+         * Reorders on average once every interval evaluations, 10 000 by default
+         *
+         * @param interval evaluations between reorders
+         * @return builder
+         */
+        public Builder<T> reorderEvery(int interval) {
+            if (interval < 1) {
+                throw new IllegalArgumentException("Reorder interval must be at least 1");
+            }
+            this.interval = interval;
+            return this;
+        }
+
+        /**
+         * Runs reorders on executor, the common fork/join pool by default
+         *
+         * @param executor executor
+         * @return builder
+         */
+        public Builder<T> reorderOn(Executor executor) {
+            checkNotNull(executor);
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Registers action executed if no branch matches
+         *
+         * @param action action
+         * @return builder
+         */
+        public Builder<T> elseThen(Consumer<? super T> action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if no branch matches
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<T> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable chain
+         *
+         * @return adaptive chain
+         */
+        public AdaptiveIf<T> build() {
+            int[] priority = priorities.stream().mapToInt(Integer::intValue).toArray();
+            return new AdaptiveIf<>(GenericArrays.toArray(Predicate.class, conditions), GenericArrays.toArray(Consumer.class, actions),
+                    fallback, exception, traceContext(AdaptiveIf.class.getSimpleName()),
+                    new AdaptiveOrder(priority, exclusive, interval, executor));
+        }
+    }
+}
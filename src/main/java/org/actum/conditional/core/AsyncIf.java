@@ -0,0 +1,303 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AsyncExecutors;
+import org.actum.conditional.support.TraceContext;
+import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
+import org.actum.logger.LoggerSupport;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchEvent;
+import org.actum.metrics.BranchKind;
+import org.actum.visibility.Debuggable;
+import org.actum.visibility.Describable;
+import org.actum.visibility.Measurable;
+import org.actum.visibility.TraceSampler;
+import org.actum.visibility.Traceable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Non-blocking If: conditions may complete later and actions run on an executor, so the calling thread
+ * only assembles the chain. Each step is composed on the previous one, a lazy condition is only evaluated
+ * once the previous branches are known not to match. Actions run on {@link AsyncExecutors#getDefault()}
+ * unless another executor is given, label, logger and metrics are set before adding branches.
+ * Usage:
+ * AsyncIf.when(condition-stage)
+ * .thenAsync(action)
+ * .elseIfAsync(condition-supplier, action)
+ * .elseThenAsync(action)
+ */
+public class AsyncIf implements Debuggable,
+        Describable<AsyncIf>,
+        Traceable<AsyncIf>,
+        Measurable<AsyncIf>,
+        LoggerSupport<AsyncIf> {
+
+    private static final ActumLogger NO_OP_LOGGER = ActumLoggerFactory.noOp();
+    private static final CompletableFuture<Boolean> TRUE = CompletableFuture.completedFuture(true);
+    private static final CompletableFuture<Boolean> FALSE = CompletableFuture.completedFuture(false);
+    private CompletableFuture<Boolean> matched;
+    private Executor executor = AsyncExecutors.getDefault();
+    private String label;
+    private String description;
+    private boolean traceable = false;
+    private TraceSampler sampler = TraceSampler.always();
+    private ActumLogger logger = NO_OP_LOGGER;
+    private ActumMetrics metrics;
+    private int branches;
+
+    private AsyncIf(CompletableFuture<Boolean> matched) {
+        this.matched = matched;
+    }
+
+    /**
+     * Accepts condition on what act upon
+     *
+     * @param condition logical condition
+     * @return instance
+     */
+    public static AsyncIf when(boolean condition) {
+        return new AsyncIf(CompletableFuture.completedFuture(condition));
+    }
+
+    /**
+     * Accepts condition completing later, a null result does not match
+     *
+     * @param condition logical condition
+     * @return instance
+     */
+    public static AsyncIf when(CompletionStage<Boolean> condition) {
+        checkNotNull(condition);
+        return new AsyncIf(condition.thenApply(Boolean.TRUE::equals).toCompletableFuture());
+    }
+
+    /**
+     * Runs the actions of the branches added next on executor
+     *
+     * @param executor executor
+     * @return instance
+     */
+    public AsyncIf executeOn(Executor executor) {
+        checkNotNull(executor);
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Runs action on the executor if the condition matched
+     *
+     * @param action action
+     * @return instance
+     */
+    public AsyncIf thenAsync(Runnable action) {
+        checkNotNull(action);
+        Executor executor = this.executor;
+        TraceContext trace = traceContext();
+        int branch = this.branches++;
+        this.matched = this.matched.thenCompose(value -> value
+                ? branch(trace, BranchKind.THEN, branch, "Then", action, executor) : FALSE);
+        return this;
+    }
+
+    /**
+     * Accepts condition and action run on the executor
+     *
+     * @param condition logical condition
+     * @param action    action
+     * @return instance
+     */
+    public AsyncIf elseIfAsync(boolean condition, Runnable action) {
+        checkNotNull(action);
+        Executor executor = this.executor;
+        TraceContext trace = traceContext();
+        int branch = this.branches++;
+        this.matched = this.matched.thenCompose(value -> value || !condition
+                ? CompletableFuture.completedFuture(value) : branch(trace, BranchKind.ELSE_IF, branch, "ElseIf", action, executor));
+        return this;
+    }
+
+    /**
+     * Accepts lazily evaluated async condition and action run on the executor,
+     * condition is only evaluated once nothing has matched
+     *
+     * @param condition logical condition, a null result does not match
+     * @param action    action
+     * @return instance
+     */
+    public AsyncIf elseIfAsync(Supplier<? extends CompletionStage<Boolean>> condition, Runnable action) {
+        checkNotNull(condition);
+        checkNotNull(action);
+        Executor executor = this.executor;
+        TraceContext trace = traceContext();
+        int branch = this.branches++;
+        this.matched = this.matched.thenCompose(value -> value ? TRUE
+                : condition.get().thenCompose(result -> Boolean.TRUE.equals(result)
+                        ? branch(trace, BranchKind.ELSE_IF, branch, "ElseIf", action, executor) : FALSE));
+        return this;
+    }
+
+    /**
+     * Runs action on the executor if nothing matched
+     *
+     * @param action action
+     * @return completes once the chain has run
+     */
+    public CompletableFuture<Void> elseThenAsync(Runnable action) {
+        checkNotNull(action);
+        Executor executor = this.executor;
+        TraceContext trace = traceContext();
+        int branch = this.branches++;
+        return this.matched.thenCompose(value -> value ? CompletableFuture.<Void>completedFuture(null)
+                : CompletableFuture.runAsync(() -> execute(trace, BranchKind.ELSE_THEN, branch, "ElseThen", false, action), executor));
+    }
+
+    /**
+     * Fails with exception if nothing matched
+     *
+     * @param exception exception to fail with
+     * @return completes once the chain has run, exceptionally if nothing matched
+     */
+    public CompletableFuture<Void> orThrows(Supplier<? extends RuntimeException> exception) {
+        checkNotNull(exception);
+        TraceContext trace = traceContext();
+        return this.matched.thenApply(value -> {
+            if (!value) {
+                trace.throwing(exception, false);
+                BranchEvent.instant(trace.getNormalizedLabel(), BranchKind.THROWS, false);
+                throw exception.get();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Completes with whether a branch matched, once its action has run
+     *
+     * @return matched future
+     */
+    public CompletableFuture<Boolean> toFuture() {
+        return this.matched;
+    }
+
+    private CompletableFuture<Boolean> branch(TraceContext trace, BranchKind kind, int branch, String block, Runnable action,
+                                              Executor executor) {
+        return CompletableFuture.runAsync(() -> execute(trace, kind, branch, block, true, action), executor)
+                .thenApply(ignored -> true);
+    }
+
+    private void execute(TraceContext trace, BranchKind kind, int branch, String block, boolean matched, Runnable action) {
+        trace.executing(block, matched);
+        BranchEvent event = BranchEvent.start();
+        long start = trace.start();
+        action.run();
+        trace.record(kind, branch, start);
+        event.complete(trace.getNormalizedLabel(), kind, matched);
+    }
+
+    /**
+     * Settings of the step being composed, read on the executor thread once the step runs
+     */
+    private TraceContext traceContext() {
+        return TraceContext.of(this.label, this.description, this.traceable ? this.sampler : null, this.logger,
+                this.metrics, "AsyncIf");
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("AsyncIf[Label=%s, Description=%s, Traceable=%s, Done=%s]",
+                label, description, traceable, matched.isDone());
+    }
+
+    /**
+     * Labels current condition
+     *
+     * @param label label
+     * @return label
+     */
+    @Override
+    public AsyncIf label(String label) {
+        this.label = label == null || label.isBlank() ? getClass().getSimpleName() : label;
+        return this;
+    }
+
+    /**
+     * Adds description to condition
+     *
+     * @param description description message
+     * @return description
+     */
+    @Override
+    public AsyncIf describe(String description) {
+        this.description = description == null ? "No description provided!" : description;
+        return this;
+    }
+
+    @Override
+    public AsyncIf withLogger(ActumLogger logger) {
+        this.logger = logger;
+        return this;
+    }
+
+    /**
+     * Records branch hits per branch position, and action latency if the registry is timing,
+     * under the label set when the first branch runs
+     *
+     * @param metrics metrics registry
+     * @return instance
+     */
+    @Override
+    public AsyncIf withMetrics(ActumMetrics metrics) {
+        checkNotNull(metrics);
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Trace current condition
+     *
+     * @return trace
+     */
+    @Override
+    public AsyncIf trace() {
+        this.traceable = true;
+        this.sampler = TraceSampler.always();
+        return this;
+    }
+
+    /**
+     * Trace executions of current condition selected by sampler
+     *
+     * @param sampler trace sampler
+     * @return trace
+     */
+    @Override
+    public AsyncIf trace(TraceSampler sampler) {
+        checkNotNull(sampler);
+        this.traceable = true;
+        this.sampler = sampler;
+        return this;
+    }
+
+    public String getLabel() {
+        return label == null || label.isBlank() ? getClass().getSimpleName() : label;
+    }
+
+    public String getDescription() {
+        return description == null ? "No description provided!" : description;
+    }
+
+    @Override
+    public String toString() {
+        return this.debug();
+    }
+}
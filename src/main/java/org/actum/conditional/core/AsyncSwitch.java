@@ -0,0 +1,290 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AsyncExecutors;
+import org.actum.conditional.support.TraceContext;
+import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
+import org.actum.logger.LoggerSupport;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchEvent;
+import org.actum.metrics.BranchKind;
+import org.actum.visibility.Debuggable;
+import org.actum.visibility.Describable;
+import org.actum.visibility.Measurable;
+import org.actum.visibility.TraceSampler;
+import org.actum.visibility.Traceable;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Non-blocking Switch: the input may complete later and actions run on an executor, so the calling thread
+ * only assembles the chain. The first matching case wins, async case conditions are only evaluated
+ * once the previous cases are known not to match. Actions run on {@link AsyncExecutors#getDefault()}
+ * unless another executor is given, label, logger and metrics are set before adding cases.
+ * Usage:
+ * Switch.onAsync(input-stage)
+ * .caseOfAsync(case-1, action-1)
+ * .caseWhenAsync(condition-2, action-2)
+ * .defaultOfAsync(default-action)
+ */
+public class AsyncSwitch implements Debuggable,
+        LoggerSupport<AsyncSwitch>,
+        Traceable<AsyncSwitch>,
+        Measurable<AsyncSwitch>,
+        Describable<AsyncSwitch> {
+
+    private static final ActumLogger NO_OP_LOGGER = ActumLoggerFactory.noOp();
+    private static final CompletableFuture<Boolean> TRUE = CompletableFuture.completedFuture(true);
+    private static final CompletableFuture<Boolean> FALSE = CompletableFuture.completedFuture(false);
+    private final CompletableFuture<Object> input;
+    private CompletableFuture<Boolean> matched;
+    private Executor executor = AsyncExecutors.getDefault();
+    private String label;
+    private String description;
+    private boolean traceable = false;
+    private TraceSampler sampler = TraceSampler.always();
+    private ActumLogger logger = NO_OP_LOGGER;
+    private ActumMetrics metrics;
+    private int branches;
+
+    private AsyncSwitch(CompletableFuture<Object> input) {
+        this.input = input;
+        this.matched = input.thenApply(ignored -> false);
+    }
+
+    /**
+     * Accepts Object as input for comparison
+     *
+     * @param input input object
+     * @return instance
+     */
+    public static AsyncSwitch on(Object input) {
+        return new AsyncSwitch(CompletableFuture.completedFuture(input));
+    }
+
+    /**
+     * Accepts input completing later
+     *
+     * @param input input stage
+     * @return instance
+     */
+    public static AsyncSwitch onAsync(CompletionStage<?> input) {
+        checkNotNull(input);
+        return new AsyncSwitch(input.<Object>thenApply(value -> value).toCompletableFuture());
+    }
+
+    /**
+     * Runs the actions of the cases added next on executor
+     *
+     * @param executor executor
+     * @return instance
+     */
+    public AsyncSwitch executeOn(Executor executor) {
+        checkNotNull(executor);
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Matches case object with input and runs action on the executor
+     *
+     * @param match  object to match
+     * @param action action to execute
+     * @return instance
+     */
+    public AsyncSwitch caseOfAsync(Object match, Runnable action) {
+        checkNotNull(action);
+        Executor executor = this.executor;
+        TraceContext trace = traceContext();
+        int branch = this.branches++;
+        this.matched = this.matched.thenCompose(value -> value ? TRUE
+                : Objects.equals(input.join(), match) ? branch(trace, branch, "CaseOf", action, executor) : FALSE);
+        return this;
+    }
+
+    /**
+     * Matches input with a condition completing later and runs action on the executor,
+     * condition is only evaluated once no previous case matched
+     *
+     * @param condition logical condition on input, a null result does not match
+     * @param action    action to execute
+     * @return instance
+     */
+    public AsyncSwitch caseWhenAsync(Function<Object, ? extends CompletionStage<Boolean>> condition, Runnable action) {
+        checkNotNull(condition);
+        checkNotNull(action);
+        Executor executor = this.executor;
+        TraceContext trace = traceContext();
+        int branch = this.branches++;
+        this.matched = this.matched.thenCompose(value -> value ? TRUE
+                : condition.apply(input.join()).thenCompose(result -> Boolean.TRUE.equals(result)
+                        ? branch(trace, branch, "CaseWhen", action, executor) : FALSE));
+        return this;
+    }
+
+    /**
+     * Runs default action on the executor if none of the cases matched
+     *
+     * @param action action to execute
+     * @return completes once the switch has run
+     */
+    public CompletableFuture<Void> defaultOfAsync(Runnable action) {
+        checkNotNull(action);
+        Executor executor = this.executor;
+        TraceContext trace = traceContext();
+        int branch = this.branches++;
+        return this.matched.thenCompose(value -> value ? CompletableFuture.<Void>completedFuture(null)
+                : CompletableFuture.runAsync(() -> execute(trace, BranchKind.DEFAULT_OF, branch, "DefaultOf", false, action), executor));
+    }
+
+    /**
+     * Fails with exception if none of the cases matched
+     *
+     * @param exception exception to fail with
+     * @return completes once the switch has run, exceptionally if nothing matched
+     */
+    public CompletableFuture<Void> orThrows(Supplier<? extends RuntimeException> exception) {
+        checkNotNull(exception);
+        TraceContext trace = traceContext();
+        return this.matched.thenApply(value -> {
+            if (!value) {
+                trace.throwing(exception, false);
+                BranchEvent.instant(trace.getNormalizedLabel(), BranchKind.THROWS, false);
+                throw exception.get();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Completes with whether a case matched, once its action has run
+     *
+     * @return matched future
+     */
+    public CompletableFuture<Boolean> toFuture() {
+        return this.matched;
+    }
+
+    private CompletableFuture<Boolean> branch(TraceContext trace, int branch, String block, Runnable action, Executor executor) {
+        return CompletableFuture.runAsync(() -> execute(trace, BranchKind.CASE_OF, branch, block, true, action), executor)
+                .thenApply(ignored -> true);
+    }
+
+    private void execute(TraceContext trace, BranchKind kind, int branch, String block, boolean matched, Runnable action) {
+        trace.executing(block, matched);
+        BranchEvent event = BranchEvent.start();
+        long start = trace.start();
+        action.run();
+        trace.record(kind, branch, start);
+        event.complete(trace.getNormalizedLabel(), kind, matched);
+    }
+
+    /**
+     * Settings of the step being composed, read on the executor thread once the step runs
+     */
+    private TraceContext traceContext() {
+        return TraceContext.of(this.label, this.description, this.traceable ? this.sampler : null, this.logger,
+                this.metrics, "AsyncSwitch");
+    }
+
+    @Override
+    public AsyncSwitch withLogger(ActumLogger logger) {
+        this.logger = logger;
+        return this;
+    }
+
+    /**
+     * Records branch hits per branch position, and action latency if the registry is timing,
+     * under the label set when the first branch runs
+     *
+     * @param metrics metrics registry
+     * @return instance
+     */
+    @Override
+    public AsyncSwitch withMetrics(ActumMetrics metrics) {
+        checkNotNull(metrics);
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Trace current condition
+     *
+     * @return trace
+     */
+    @Override
+    public AsyncSwitch trace() {
+        this.traceable = true;
+        this.sampler = TraceSampler.always();
+        return this;
+    }
+
+    /**
+     * Trace executions of current condition selected by sampler
+     *
+     * @param sampler trace sampler
+     * @return trace
+     */
+    @Override
+    public AsyncSwitch trace(TraceSampler sampler) {
+        checkNotNull(sampler);
+        this.traceable = true;
+        this.sampler = sampler;
+        return this;
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("AsyncSwitch[Label=%s, Description=%s, Traceable=%s, Done=%s]",
+                label, description, traceable, matched.isDone());
+    }
+
+    /**
+     * Labels current condition
+     *
+     * @param label label
+     * @return label
+     */
+    @Override
+    public AsyncSwitch label(String label) {
+        this.label = label == null ? "" : label;
+        return this;
+    }
+
+    /**
+     * Adds description to condition
+     *
+     * @param description description message
+     * @return description
+     */
+    @Override
+    public AsyncSwitch describe(String description) {
+        this.description = description == null ? "No description provided!" : description;
+        return this;
+    }
+
+    public String getLabel() {
+        return label == null || label.isBlank() ? getClass().getSimpleName() : label;
+    }
+
+    public String getDescription() {
+        return description == null ? "No description provided!" : description;
+    }
+
+    @Override
+    public String toString() {
+        return this.debug();
+    }
+}
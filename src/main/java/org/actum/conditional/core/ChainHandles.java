@@ -0,0 +1,136 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.TraceContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Compiles immutable definitions into method handle trees of type (Object)boolean.
+ * Conditions and actions are bound as constants, so when the resulting handle is itself a constant
+ * the JIT sees through every interface call instead of a shared megamorphic call site.
+ */
+final class ChainHandles {
+
+    /**
+     * Up to this many cases a switch is a chain of constant equality guards, above it a hash lookup and tableSwitch
+     */
+    static final int MAX_GUARDED_CASES = 8;
+
+    private static final MethodType CHAIN_TYPE = MethodType.methodType(boolean.class, Object.class);
+    private static final MethodHandle TEST;
+    private static final MethodHandle ACCEPT;
+    private static final MethodHandle RUN;
+    private static final MethodHandle EQUALS;
+    private static final MethodHandle EXECUTING;
+    private static final MethodHandle FAIL;
+    private static final MethodHandle INDEX_OF;
+    private static final MethodHandle DISPATCH_UNMATCHED;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            TEST = lookup.findVirtual(Predicate.class, "test", MethodType.methodType(boolean.class, Object.class));
+            ACCEPT = lookup.findVirtual(Consumer.class, "accept", MethodType.methodType(void.class, Object.class));
+            RUN = lookup.findVirtual(Runnable.class, "run", MethodType.methodType(void.class));
+            EQUALS = lookup.findStatic(Objects.class, "equals",
+                    MethodType.methodType(boolean.class, Object.class, Object.class));
+            EXECUTING = lookup.findVirtual(TraceContext.class, "executing",
+                    MethodType.methodType(void.class, String.class, boolean.class));
+            FAIL = lookup.findStatic(ChainHandles.class, "fail",
+                    MethodType.methodType(boolean.class, TraceContext.class, Supplier.class, Object.class));
+            INDEX_OF = lookup.findStatic(ChainHandles.class, "indexOf",
+                    MethodType.methodType(int.class, Map.class, Object.class));
+            DISPATCH_UNMATCHED = lookup.findVirtual(CompiledSwitch.class, "dispatchUnmatched", CHAIN_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ChainHandles() {
+    }
+
+    static <T> MethodHandle compile(CompiledIf<T> definition) {
+        TraceContext trace = definition.traceContext();
+        MethodHandle chain = otherwise(trace, definition.fallback() == null ? null : ACCEPT.bindTo(definition.fallback()),
+                "ElseThen", definition.exception());
+        Predicate<? super T>[] conditions = definition.conditions();
+        Consumer<? super T>[] actions = definition.actions();
+        for (int i = conditions.length - 1; i >= 0; i--) {
+            MethodHandle action = branch(trace, ACCEPT.bindTo(actions[i]), CompiledIf.blockName(i), true);
+            chain = MethodHandles.guardWithTest(TEST.bindTo(conditions[i]), action, chain);
+        }
+        return chain;
+    }
+
+    static MethodHandle compile(CompiledSwitch definition) {
+        TraceContext trace = definition.traceContext();
+        Map<Object, Runnable> cases = definition.cases();
+        MethodHandle otherwise = definition.hasUnindexedCases()
+                ? DISPATCH_UNMATCHED.bindTo(definition)
+                : otherwise(trace, definition.fallback() == null ? null : runnable(definition.fallback()),
+                "DefaultOf", definition.exception());
+        if (cases.size() <= MAX_GUARDED_CASES) {
+            Object[] keys = cases.keySet().toArray();
+            MethodHandle chain = otherwise;
+            for (int i = keys.length - 1; i >= 0; i--) {
+                MethodHandle test = MethodHandles.insertArguments(EQUALS, 0, keys[i]);
+                chain = MethodHandles.guardWithTest(test, branch(trace, runnable(cases.get(keys[i])), "CaseOf", true), chain);
+            }
+            return chain;
+        }
+        Map<Object, Integer> indexes = new HashMap<>();
+        MethodHandle[] targets = new MethodHandle[cases.size()];
+        for (Map.Entry<Object, Runnable> entry : cases.entrySet()) {
+            int index = indexes.size();
+            indexes.put(entry.getKey(), index);
+            targets[index] = MethodHandles.dropArguments(branch(trace, runnable(entry.getValue()), "CaseOf", true), 0, int.class);
+        }
+        MethodHandle table = MethodHandles.tableSwitch(MethodHandles.dropArguments(otherwise, 0, int.class), targets);
+        return MethodHandles.foldArguments(table, INDEX_OF.bindTo(indexes));
+    }
+
+    /**
+     * (Object)boolean executing action, traced when enabled, returning matched
+     */
+    private static MethodHandle branch(TraceContext trace, MethodHandle action, String block, boolean matched) {
+        if (trace.isTraceable()) {
+            MethodHandle log = MethodHandles.insertArguments(EXECUTING.bindTo(trace), 0, block, matched);
+            action = MethodHandles.foldArguments(action, log);
+        }
+        return MethodHandles.filterReturnValue(action, MethodHandles.constant(boolean.class, matched));
+    }
+
+    private static MethodHandle otherwise(TraceContext trace, MethodHandle fallback, String block,
+                                          Supplier<? extends RuntimeException> exception) {
+        if (fallback != null) {
+            return branch(trace, fallback, block, false);
+        }
+        if (exception != null) {
+            return MethodHandles.insertArguments(FAIL, 0, trace, exception);
+        }
+        return MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class)
+                .asType(CHAIN_TYPE);
+    }
+
+    private static MethodHandle runnable(Runnable action) {
+        return MethodHandles.dropArguments(RUN.bindTo(action), 0, Object.class);
+    }
+
+    private static boolean fail(TraceContext trace, Supplier<? extends RuntimeException> exception, Object input) {
+        trace.throwing(exception, false);
+        throw exception.get();
+    }
+
+    private static int indexOf(Map<Object, Integer> indexes, Object input) {
+        Integer index = indexes.get(input);
+        return index == null ? -1 : index;
+    }
+}
@@ -0,0 +1,140 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.visibility.Debuggable;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, reusable form of {@link If} evaluated against an input.
+ * Branches are tested in declaration order and the first matching one is executed.
+ * Thread-safe: holds no per-evaluation state, so one instance can be published once, e.g. in a static final field,
+ * and evaluated concurrently. The other compiled definitions give the same guarantee.
+ * Usage:
+ * CompiledIf&lt;T&gt; check = If.&lt;T&gt;builder()
+ * .when(condition, action)
+ * .elseIf(condition, action)
+ * .elseThen(action)
+ * .build();
+ * check.evaluate(input);
+ *
+ * @param <T> input type
+ */
+public final class CompiledIf<T> implements Debuggable {
+
+    private final Predicate<? super T>[] conditions;
+    private final Consumer<? super T>[] actions;
+    private final Consumer<? super T> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    CompiledIf(Predicate<? super T>[] conditions, Consumer<? super T>[] actions, Consumer<? super T> fallback,
+               Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.conditions = conditions;
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Executes the first branch whose condition holds for input, or the else action
+     *
+     * @param input input
+     * @return true if a branch matched
+     */
+    public boolean evaluate(T input) {
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].test(input)) {
+                trace.executing(blockName(i), true);
+                long start = trace.start();
+                actions[i].accept(input);
+                trace.record(i == 0 ? BranchKind.THEN : BranchKind.ELSE_IF, i, start);
+                return true;
+            }
+        }
+        if (fallback != null) {
+            trace.executing("ElseThen", false);
+            long start = trace.start();
+            fallback.accept(input);
+            trace.record(BranchKind.ELSE_THEN, conditions.length, start);
+        } else if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return false;
+    }
+
+    /**
+     * Compiles the chain into a method handle tree of type (Object)boolean, one guardWithTest per branch.
+     * Store the handle in a static final field and call it with
+     * {@code (boolean) HANDLE.invokeExact((Object) input)} so the JIT can inline every branch.
+     * Branch hits are not counted by the handle, only thrown exceptions are.
+     *
+     * @return method handle returning true if a branch matched
+     */
+    public MethodHandle toMethodHandle() {
+        return ChainHandles.compile(this);
+    }
+
+    /**
+     * Number of branches, else excluded
+     *
+     * @return number of branches
+     */
+    public int size() {
+        return conditions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    Predicate<? super T>[] conditions() {
+        return conditions;
+    }
+
+    Consumer<? super T>[] actions() {
+        return actions;
+    }
+
+    Consumer<? super T> fallback() {
+        return fallback;
+    }
+
+    Supplier<? extends RuntimeException> exception() {
+        return exception;
+    }
+
+    TraceContext traceContext() {
+        return trace;
+    }
+
+    static String blockName(int branch) {
+        return branch == 0 ? "Then" : "ElseIf";
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("CompiledIf[Label=%s, Description=%s, Traceable=%s, Branches=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), conditions.length);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+}
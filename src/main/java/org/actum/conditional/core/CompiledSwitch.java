@@ -0,0 +1,188 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.RangeLookup;
+import org.actum.visibility.Debuggable;
+
+import java.lang.invoke.MethodHandle;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, reusable form of {@link Switch} built once and evaluated many times.
+ * Cases are indexed in a hash table, so dispatch is a single lookup and allocates nothing.
+ * Range cases are searched by binary search once no equality case matched, predicate cases are tested last,
+ * so the builder only accepts cases declared in that order and the fluent form of a definition gives the same result.
+ * Thread-safe, see {@link CompiledIf}.
+ * Usage:
+ * CompiledSwitch router = Switch.builder()
+ * .caseOf(case-1, action-1)
+ * .caseOf(case-2, action-2)
+ * .caseInRange(low, high, action-3)
+ * .caseWhen(condition, action-4)
+ * .defaultOf(default-action)
+ * .build();
+ * router.dispatch(input);
+ */
+public final class CompiledSwitch implements Debuggable {
+
+    private final Map<Object, Integer> indexes;
+    private final Runnable[] actions;
+    private final RangeLookup ranges;
+    private final int rangeOffset;
+    private final Predicate<Object>[] conditions;
+    private final int conditionOffset;
+    private final Runnable fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    CompiledSwitch(Map<Object, Runnable> cases, RangeLookup ranges, Runnable[] rangeActions,
+                   Predicate<Object>[] conditions, Runnable[] conditionActions, Runnable fallback,
+                   Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.indexes = new HashMap<>();
+        this.actions = new Runnable[cases.size() + rangeActions.length + conditionActions.length];
+        int branch = 0;
+        for (Map.Entry<Object, Runnable> entry : cases.entrySet()) {
+            indexes.put(entry.getKey(), branch);
+            actions[branch++] = entry.getValue();
+        }
+        this.ranges = ranges;
+        this.rangeOffset = branch;
+        System.arraycopy(rangeActions, 0, actions, rangeOffset, rangeActions.length);
+        this.conditions = conditions;
+        this.conditionOffset = rangeOffset + rangeActions.length;
+        System.arraycopy(conditionActions, 0, actions, conditionOffset, conditionActions.length);
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Executes the action of the case matching input, or the default action
+     *
+     * @param input input object
+     * @return true if a case matched
+     */
+    public boolean dispatch(Object input) {
+        Integer branch = indexes.get(input);
+        if (branch != null) {
+            run(branch);
+            return true;
+        }
+        return dispatchUnmatched(input);
+    }
+
+    /**
+     * Range, predicate and default handling of an input no equality case matched
+     */
+    boolean dispatchUnmatched(Object input) {
+        int range = ranges.indexOf(input);
+        if (range != RangeLookup.MISSING) {
+            run(rangeOffset + range);
+            return true;
+        }
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].test(input)) {
+                run(conditionOffset + i);
+                return true;
+            }
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            fallback.run();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+        } else if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return false;
+    }
+
+    private void run(int branch) {
+        trace.executing("CaseOf", true);
+        long start = trace.start();
+        actions[branch].run();
+        trace.record(BranchKind.CASE_OF, branch, start);
+    }
+
+    /**
+     * Compiles the switch into a method handle of type (Object)boolean: a chain of constant equality guards
+     * for small switches, a hash lookup feeding MethodHandles.tableSwitch otherwise.
+     * Store the handle in a static final field and call it with
+     * {@code (boolean) HANDLE.invokeExact(input)} so the JIT can inline the cases.
+     * Branch hits are not counted by the handle, only thrown exceptions are.
+     * Inputs no equality case matches are handed to the range and predicate cases of the switch.
+     *
+     * @return method handle returning true if a case matched
+     */
+    public MethodHandle toMethodHandle() {
+        return ChainHandles.compile(this);
+    }
+
+    /**
+     * Number of cases, range and predicate cases included
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return actions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Equality cases in declaration order
+     */
+    Map<Object, Runnable> cases() {
+        Object[] keys = new Object[rangeOffset];
+        indexes.forEach((key, branch) -> keys[branch] = key);
+        Map<Object, Runnable> cases = new LinkedHashMap<>();
+        for (int i = 0; i < rangeOffset; i++) {
+            cases.put(keys[i], actions[i]);
+        }
+        return cases;
+    }
+
+    boolean hasUnindexedCases() {
+        return rangeOffset < actions.length;
+    }
+
+    Runnable fallback() {
+        return fallback;
+    }
+
+    Supplier<? extends RuntimeException> exception() {
+        return exception;
+    }
+
+    TraceContext traceContext() {
+        return trace;
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("CompiledSwitch[Label=%s, Description=%s, Traceable=%s, Cases=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), size());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+}
@@ -0,0 +1,99 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.TypeLookup;
+import org.actum.visibility.Debuggable;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, reusable switch on the runtime type of its input.
+ * The most specific case of each concrete class is resolved once and cached in a ClassValue,
+ * so dispatch is a single per-class lookup however many cases there are, see {@link TypeLookup}.
+ * Usage:
+ * CompiledTypeSwitch handler = TypeSwitch.builder()
+ * .caseOf(Type1.class, action-1)
+ * .caseOf(Type2.class, action-2)
+ * .defaultOf(default-action)
+ * .build();
+ * handler.dispatch(event);
+ */
+public final class CompiledTypeSwitch implements Debuggable {
+
+    private final TypeLookup lookup;
+    private final Consumer<Object>[] actions;
+    private final Runnable fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    CompiledTypeSwitch(Class<?>[] types, Consumer<Object>[] actions, Runnable fallback,
+                       Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.lookup = TypeLookup.of(types);
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Executes the action of the most specific case matching the type of input, or the default action
+     *
+     * @param input input, null never matches a case
+     * @return true if a case matched
+     */
+    public boolean dispatch(Object input) {
+        int index = lookup.indexOf(input);
+        if (index != TypeLookup.MISSING) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            actions[index].accept(input);
+            trace.record(BranchKind.CASE_OF, index, start);
+            return true;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            fallback.run();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+        } else if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return false;
+    }
+
+    /**
+     * Number of cases
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return actions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("CompiledTypeSwitch[Label=%s, Description=%s, Traceable=%s, Cases=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), actions.length);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+}
@@ -0,0 +1,167 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.visibility.Debuggable;
+
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable switch on enum input, dispatches through an ordinal-indexed table.
+ * Usage:
+ * EnumSwitch&lt;E&gt; router = EnumSwitch.builder(E.class)
+ * .caseOf(E.A, action-1)
+ * .caseOf(E.B, action-2)
+ * .defaultOf(default-action)
+ * .build();
+ * router.dispatch(constant);
+ *
+ * @param <E> enum type
+ */
+public final class EnumSwitch<E extends Enum<E>> implements Debuggable {
+
+    private final Runnable[] actions;
+    private final Runnable fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    private EnumSwitch(Runnable[] actions, Runnable fallback,
+                       Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Starts switch definition
+     *
+     * @param type enum class
+     * @return builder
+     */
+    public static <E extends Enum<E>> Builder<E> builder(Class<E> type) {
+        checkNotNull(type);
+        return new Builder<>(type);
+    }
+
+    /**
+     * Executes the action of the case matching input, or the default action
+     *
+     * @param input input, null never matches a case
+     * @return true if a case matched
+     */
+    public boolean dispatch(E input) {
+        Runnable action = input == null ? null : actions[input.ordinal()];
+        if (action != null) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            action.run();
+            trace.record(BranchKind.CASE_OF, input.ordinal(), start);
+            return true;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            fallback.run();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+        } else if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return false;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("EnumSwitch[Label=%s, Description=%s, Traceable=%s, Constants=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), actions.length);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link EnumSwitch}
+     *
+     * @param <E> enum type
+     */
+    public static final class Builder<E extends Enum<E>> extends AbstractBuilder<Builder<E>> {
+
+        private final Runnable[] actions;
+        private Runnable fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder(Class<E> type) {
+            this.actions = new Runnable[type.getEnumConstants().length];
+        }
+
+        /**
+         * Registers case, the first registration of a constant wins
+         *
+         * @param match  constant to match
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<E> caseOf(E match, Runnable action) {
+            checkNotNull(match);
+            checkNotNull(action);
+            if (actions[match.ordinal()] == null) {
+                actions[match.ordinal()] = action;
+            }
+            return this;
+        }
+
+        /**
+         * Registers default action executed if none of the cases match
+         *
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<E> defaultOf(Runnable action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<E> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         *
+         * @return switch
+         */
+        public EnumSwitch<E> build() {
+            return new EnumSwitch<>(actions.clone(), fallback, exception, traceContext(EnumSwitch.class.getSimpleName()));
+        }
+    }
+}
@@ -1,6 +1,33 @@
 package org.actum.conditional.core;
 
+import org.actum.conditional.support.AsyncExecutors;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.actum.util.Validator.checkNotNull;
+
 public interface Flow {
     void execute();
     boolean matched();
+
+    /**
+     * Executes the flow on the default executor, see {@link AsyncExecutors#getDefault()}
+     *
+     * @return completes once the flow has run
+     */
+    default CompletableFuture<Void> executeAsync() {
+        return executeAsync(AsyncExecutors.getDefault());
+    }
+
+    /**
+     * Executes the flow on executor
+     *
+     * @param executor executor
+     * @return completes once the flow has run
+     */
+    default CompletableFuture<Void> executeAsync(Executor executor) {
+        checkNotNull(executor);
+        return CompletableFuture.runAsync(this::execute, executor);
+    }
 }
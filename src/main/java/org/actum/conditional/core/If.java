@@ -1,15 +1,29 @@
 package org.actum.conditional.core;
 
+import org.actum.conditional.support.AbstractBuilder;
 import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
 import org.actum.logger.LogLevel;
 import org.actum.logger.LoggerSupport;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchEvent;
+import org.actum.metrics.BranchKind;
+import org.actum.metrics.BranchMetrics;
 import org.actum.util.Formatter;
+import org.actum.util.GenericArrays;
 import org.actum.visibility.Debuggable;
 import org.actum.visibility.Describable;
+import org.actum.visibility.Measurable;
+import org.actum.visibility.TraceSampler;
 import org.actum.visibility.Traceable;
 import org.actum.visibility.Viewable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static org.actum.util.Validator.checkNotNull;
@@ -25,15 +39,22 @@ import static org.actum.util.Validator.checkNotNull;
 public class If implements Debuggable,
         Describable<If>,
         Traceable<If>,
+        Measurable<If>,
         Viewable<If>,
         LoggerSupport<If> {
 
-    private static final ActumLogger NO_OP_LOGGER = (logLevel, message) -> {};
+    private static final ActumLogger NO_OP_LOGGER = ActumLoggerFactory.noOp();
+    private static final String DEFAULT_LABEL = Formatter.normalize("If", "If");
     private boolean matched;
     private String label;
+    private String normalizedLabel = DEFAULT_LABEL;
     private String description;
     private boolean traceable = false;
+    private TraceSampler sampler = TraceSampler.always();
     private ActumLogger logger = NO_OP_LOGGER;
+    private ActumMetrics metrics;
+    private BranchMetrics branchMetrics;
+    private int branches;
 
     /**
      * Accepts condition on what act upon
@@ -49,6 +70,36 @@ public class If implements Debuggable,
         return instance;
     }
 
+    /**
+     * Accepts lazily evaluated condition on what act upon
+     *
+     * @param condition logical condition
+     * @return instance
+     */
+    public static If when(BooleanSupplier condition) {
+        checkNotNull(condition);
+        return when(condition.getAsBoolean());
+    }
+
+    /**
+     * Accepts condition completing later, branches run on an executor, see {@link AsyncIf}
+     *
+     * @param condition logical condition
+     * @return async instance
+     */
+    public static AsyncIf whenAsync(CompletionStage<Boolean> condition) {
+        return AsyncIf.when(condition);
+    }
+
+    /**
+     * Starts a reusable chain evaluated against an input, see {@link CompiledIf}
+     *
+     * @return builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
     /**
      * Acts based on action
      *
@@ -58,10 +109,13 @@ public class If implements Debuggable,
      */
     public If then(Runnable action) {
         checkNotNull(action);
+        int branch = this.branches++;
         if (this.matched) {
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing Then block (matched=%s), (description=%s)",
-                    Formatter.normalize(this.getLabel(), this.getClass().getSimpleName()), this.matched, this.getDescription()), this.traceable);
-            action.run();
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing Then block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.getDescription());
+            }
+            execute(BranchKind.THEN, branch, action);
         }
         return this;
     }
@@ -75,11 +129,36 @@ public class If implements Debuggable,
      */
     public If elseIf(boolean condition, Runnable action) {
         checkNotNull(action);
+        int branch = this.branches++;
         if (!this.matched && condition) {
             this.matched = true;
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing ElseIf block (matched=%s), (condition=%s), (description=%s)",
-                    Formatter.normalize(this.getLabel(), this.getClass().getSimpleName()), this.matched, condition, this.getDescription()), this.traceable);
-            action.run();
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing ElseIf block (matched={}), (condition={}), (description={})",
+                        this.normalizedLabel, this.matched, condition, this.getDescription());
+            }
+            execute(BranchKind.ELSE_IF, branch, action);
+        }
+        return this;
+    }
+
+    /**
+     * Accepts lazily evaluated condition and action, condition is only evaluated while nothing has matched
+     *
+     * @param condition logical condition
+     * @param action    action
+     * @return instance
+     */
+    public If elseIf(BooleanSupplier condition, Runnable action) {
+        checkNotNull(condition);
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!this.matched && condition.getAsBoolean()) {
+            this.matched = true;
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing ElseIf block (matched={}), (condition=true), (description={})",
+                        this.normalizedLabel, this.matched, this.getDescription());
+            }
+            execute(BranchKind.ELSE_IF, branch, action);
         }
         return this;
     }
@@ -91,10 +170,13 @@ public class If implements Debuggable,
      */
     public void elseThen(Runnable action) {
         checkNotNull(action);
+        int branch = this.branches++;
         if (!this.matched) {
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing ElseThen block (matched=%s), (description=%s)",
-                    Formatter.normalize(this.getLabel(), this.getClass().getSimpleName()), this.matched, this.getDescription()), this.traceable);
-            action.run();
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing ElseThen block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.getDescription());
+            }
+            execute(BranchKind.ELSE_THEN, branch, action);
         }
     }
 
@@ -105,8 +187,15 @@ public class If implements Debuggable,
      */
     public void orThrows(Supplier<? extends RuntimeException> exception) {
         if (!this.matched) {
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Throwing Exception (exception=%s), (matched=%s), (description=%s)",
-                    Formatter.normalize(this.getLabel(), this.getClass().getSimpleName()), exception.getClass().getSimpleName(), this.matched, this.getDescription()), this.traceable);
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Throwing Exception (exception={}), (matched={}), (description={})",
+                        this.normalizedLabel, exception.getClass().getSimpleName(), this.matched, this.getDescription());
+            }
+            BranchMetrics branchMetrics = branchMetrics();
+            if (branchMetrics != null) {
+                branchMetrics.hit(BranchKind.THROWS);
+            }
+            BranchEvent.instant(this.normalizedLabel, BranchKind.THROWS, this.matched);
             throw exception.get();
         }
     }
@@ -130,6 +219,8 @@ public class If implements Debuggable,
     @Override
     public If label(String label) {
         this.label = label == null || label.isBlank() ? getClass().getSimpleName() : label;
+        this.normalizedLabel = Formatter.normalize(getLabel(), "If");
+        this.branchMetrics = null;
         return this;
     }
 
@@ -152,6 +243,42 @@ public class If implements Debuggable,
         return this;
     }
 
+    /**
+     * Records branch hits per branch position, and action latency if the registry is timing,
+     * under the label set when the first branch runs
+     *
+     * @param metrics metrics registry
+     * @return instance
+     */
+    @Override
+    public If withMetrics(ActumMetrics metrics) {
+        checkNotNull(metrics);
+        this.metrics = metrics;
+        this.branchMetrics = null;
+        return this;
+    }
+
+    private void execute(BranchKind kind, int branch, Runnable action) {
+        BranchEvent event = BranchEvent.start();
+        BranchMetrics branchMetrics = branchMetrics();
+        if (branchMetrics == null) {
+            action.run();
+        } else {
+            branchMetrics.run(kind, branch, action);
+        }
+        event.complete(this.normalizedLabel, kind, this.matched);
+    }
+
+    /**
+     * Metrics of the current label, resolved when the first branch executes so a label set afterwards leaves no orphan
+     */
+    private BranchMetrics branchMetrics() {
+        if (this.branchMetrics == null && this.metrics != null) {
+            this.branchMetrics = this.metrics.branch(this.normalizedLabel);
+        }
+        return this.branchMetrics;
+    }
+
     /**
      * Trace current condition
      *
@@ -160,9 +287,29 @@ public class If implements Debuggable,
     @Override
     public If trace() {
         this.traceable = true;
+        this.sampler = TraceSampler.always();
         return this;
     }
 
+    /**
+     * Trace executions of current condition selected by sampler
+     *
+     * @param sampler trace sampler
+     * @return trace
+     */
+    @Override
+    public If trace(TraceSampler sampler) {
+        checkNotNull(sampler);
+        this.traceable = true;
+        this.sampler = sampler;
+        return this;
+    }
+
+    private boolean isTraced() {
+        return isLoggable(this.logger, LogLevel.DEBUG, this.traceable)
+                && this.sampler.sample(this.normalizedLabel, this.matched);
+    }
+
     /**
      * Used for side effects or debugging
      *
@@ -205,4 +352,85 @@ public class If implements Debuggable,
     public String toString() {
         return this.debug();
     }
+
+    /**
+     * Builder of {@link CompiledIf}
+     *
+     * @param <T> input type
+     */
+    public static final class Builder<T> extends AbstractBuilder<Builder<T>> {
+
+        private final List<Predicate<? super T>> conditions = new ArrayList<>();
+        private final List<Consumer<? super T>> actions = new ArrayList<>();
+        private Consumer<? super T> fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers first branch
+         *
+         * @param condition logical condition on input
+         * @param action    action
+         * @return builder
+         */
+        public Builder<T> when(Predicate<? super T> condition, Consumer<? super T> action) {
+            if (!conditions.isEmpty()) {
+                throw new IllegalStateException("when must be the first branch, use elseIf");
+            }
+            return elseIf(condition, action);
+        }
+
+        /**
+         * Registers branch tested after the previous ones
+         *
+         * @param condition logical condition on input
+         * @param action    action
+         * @return builder
+         */
+        public Builder<T> elseIf(Predicate<? super T> condition, Consumer<? super T> action) {
+            checkNotNull(condition);
+            checkNotNull(action);
+            conditions.add(condition);
+            actions.add(action);
+            return this;
+        }
+
+        /**
+         * Registers action executed if no branch matches
+         *
+         * @param action action
+         * @return builder
+         */
+        public Builder<T> elseThen(Consumer<? super T> action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if no branch matches
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<T> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable chain
+         *
+         * @return compiled chain
+         */
+        public CompiledIf<T> build() {
+            return new CompiledIf<>(GenericArrays.toArray(Predicate.class, conditions), GenericArrays.toArray(Consumer.class, actions),
+                    fallback, exception, traceContext(CompiledIf.class.getSimpleName()));
+        }
+    }
 }
@@ -0,0 +1,179 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.LongLookup;
+import org.actum.visibility.Debuggable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable switch on long input, dispatches without boxing.
+ * Compact case ranges are indexed by a dense array, sparse ones by an open-addressing long table.
+ * Usage:
+ * LongSwitch router = LongSwitch.builder()
+ * .caseOf(1, action-1)
+ * .caseOf(2, action-2)
+ * .defaultOf(default-action)
+ * .build();
+ * router.dispatch(opcode);
+ */
+public final class LongSwitch implements Debuggable {
+
+    private final LongLookup lookup;
+    private final Runnable[] actions;
+    private final Runnable fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    private LongSwitch(LongLookup lookup, Runnable[] actions, Runnable fallback,
+                       Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.lookup = lookup;
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Starts switch definition
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Executes the action of the case matching input, or the default action
+     *
+     * @param input input
+     * @return true if a case matched
+     */
+    public boolean dispatch(long input) {
+        int index = lookup.indexOf(input);
+        if (index != LongLookup.MISSING) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            actions[index].run();
+            trace.record(BranchKind.CASE_OF, index, start);
+            return true;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            fallback.run();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+        } else if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return false;
+    }
+
+    /**
+     * Number of cases
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return actions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("LongSwitch[Label=%s, Description=%s, Traceable=%s, Cases=%s, Dense=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), actions.length, lookup.isDense());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link LongSwitch}
+     */
+    public static final class Builder extends AbstractBuilder<Builder> {
+
+        private final Map<Long, Runnable> cases = new LinkedHashMap<>();
+        private Runnable fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers case, the first registration of a match wins
+         *
+         * @param match  value to match
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder caseOf(long match, Runnable action) {
+            checkNotNull(action);
+            cases.putIfAbsent(match, action);
+            return this;
+        }
+
+        /**
+         * Registers default action executed if none of the cases match
+         *
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder defaultOf(Runnable action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         *
+         * @return switch
+         */
+        public LongSwitch build() {
+            long[] keys = new long[cases.size()];
+            Runnable[] actions = new Runnable[cases.size()];
+            int i = 0;
+            for (Map.Entry<Long, Runnable> entry : cases.entrySet()) {
+                keys[i] = entry.getKey();
+                actions[i++] = entry.getValue();
+            }
+            return new LongSwitch(LongLookup.of(keys), actions, fallback, exception, traceContext(LongSwitch.class.getSimpleName()));
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.StringLookup;
+import org.actum.visibility.Debuggable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable switch on String input.
+ * Exact cases are found by perfect hashing, so dispatch is one hash code read and a single equals.
+ * Prefix cases and case-insensitive switches are walked in a compact trie, the longest matching prefix wins.
+ * Usage:
+ * StringSwitch router = StringSwitch.builder()
+ * .caseOf("GET", action-1)
+ * .casePrefix("/api/", action-2)
+ * .defaultOf(default-action)
+ * .build();
+ * router.dispatch(command);
+ */
+public final class StringSwitch implements Debuggable {
+
+    private final StringLookup lookup;
+    private final Runnable[] actions;
+    private final Runnable[] prefixActions;
+    private final Runnable fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    private StringSwitch(StringLookup lookup, Runnable[] actions, Runnable[] prefixActions, Runnable fallback,
+                         Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.lookup = lookup;
+        this.actions = actions;
+        this.prefixActions = prefixActions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Starts switch definition
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Executes the action of the case equal to input, else of the longest prefix of input, else the default action
+     *
+     * @param input input, null never matches a case
+     * @return true if a case matched
+     */
+    public boolean dispatch(String input) {
+        Runnable action = null;
+        int index = lookup.indexOf(input);
+        if (index != StringLookup.MISSING) {
+            action = actions[index];
+        } else if (prefixActions.length > 0) {
+            index = lookup.prefixIndexOf(input);
+            if (index != StringLookup.MISSING) {
+                action = prefixActions[index];
+                index += actions.length;
+            }
+        }
+        if (action != null) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            action.run();
+            trace.record(BranchKind.CASE_OF, index, start);
+            return true;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            fallback.run();
+            trace.record(BranchKind.DEFAULT_OF, actions.length + prefixActions.length, start);
+        } else if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return false;
+    }
+
+    /**
+     * Number of cases, prefix cases included
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return actions.length + prefixActions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("StringSwitch[Label=%s, Description=%s, Traceable=%s, Cases=%s, Prefixes=%s, IgnoreCase=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), actions.length, prefixActions.length,
+                lookup.isIgnoreCase());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link StringSwitch}
+     */
+    public static final class Builder extends AbstractBuilder<Builder> {
+
+        private final Map<String, Runnable> cases = new LinkedHashMap<>();
+        private final Map<String, Runnable> prefixes = new LinkedHashMap<>();
+        private boolean ignoreCase;
+        private Runnable fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder() {
+        }
+
+        /**
+         * Matches cases and prefixes regardless of case
+         *
+         * @return builder
+         */
+        public Builder ignoreCase() {
+            this.ignoreCase = true;
+            return this;
+        }
+
+        /**
+         * Registers case, the first registration of a match wins
+         *
+         * @param match  string to match
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder caseOf(String match, Runnable action) {
+            checkNotNull(match);
+            checkNotNull(action);
+            cases.putIfAbsent(match, action);
+            return this;
+        }
+
+        /**
+         * Registers case matching inputs starting with prefix, used when no exact case matches
+         *
+         * @param prefix prefix to match
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder casePrefix(String prefix, Runnable action) {
+            checkNotNull(prefix);
+            checkNotNull(action);
+            prefixes.putIfAbsent(prefix, action);
+            return this;
+        }
+
+        /**
+         * Registers default action executed if none of the cases match
+         *
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder defaultOf(Runnable action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         *
+         * @return switch
+         */
+        public StringSwitch build() {
+            StringLookup lookup = StringLookup.of(cases.keySet().toArray(new String[0]),
+                    prefixes.keySet().toArray(new String[0]), ignoreCase);
+            return new StringSwitch(lookup, cases.values().toArray(new Runnable[0]),
+                    prefixes.values().toArray(new Runnable[0]), fallback, exception,
+                    traceContext(StringSwitch.class.getSimpleName()));
+        }
+    }
+}
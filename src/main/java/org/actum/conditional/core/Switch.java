@@ -1,16 +1,32 @@
 package org.actum.conditional.core;
 
+import org.actum.conditional.support.AbstractBuilder;
 import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
 import org.actum.logger.LogLevel;
 import org.actum.logger.LoggerSupport;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchEvent;
+import org.actum.metrics.BranchKind;
+import org.actum.metrics.BranchMetrics;
 import org.actum.util.Formatter;
+import org.actum.util.GenericArrays;
+import org.actum.util.RangeLookup;
 import org.actum.visibility.Debuggable;
 import org.actum.visibility.Describable;
+import org.actum.visibility.Measurable;
+import org.actum.visibility.TraceSampler;
 import org.actum.visibility.Traceable;
 import org.actum.visibility.Viewable;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static org.actum.util.Validator.checkNotNull;
@@ -27,15 +43,22 @@ import static org.actum.util.Validator.checkNotNull;
 public class Switch implements Debuggable,
         LoggerSupport<Switch>,
         Traceable<Switch>,
+        Measurable<Switch>,
         Describable<Switch>,
         Viewable<Switch> {
 
-    private static final ActumLogger NO_OP_LOGGER = (logLevel, message) -> {};
+    private static final ActumLogger NO_OP_LOGGER = ActumLoggerFactory.noOp();
+    private static final String DEFAULT_LABEL = Formatter.normalize(null, "Switch");
     private boolean matched;
     private String label;
+    private String normalizedLabel = DEFAULT_LABEL;
     private String description;
     private boolean traceable = false;
+    private TraceSampler sampler = TraceSampler.always();
     private ActumLogger logger = NO_OP_LOGGER;
+    private ActumMetrics metrics;
+    private BranchMetrics branchMetrics;
+    private int branches;
     private final Object input;
 
     private Switch(Object input) {
@@ -52,6 +75,35 @@ public class Switch implements Debuggable,
         return new Switch(input);
     }
 
+    /**
+     * Accepts Object as input for switching on its runtime type
+     *
+     * @param input input object
+     * @return type switch
+     */
+    public static TypeSwitch onType(Object input) {
+        return new TypeSwitch(input);
+    }
+
+    /**
+     * Accepts input completing later, cases run on an executor, see {@link AsyncSwitch}
+     *
+     * @param input input stage
+     * @return async switch
+     */
+    public static AsyncSwitch onAsync(CompletionStage<?> input) {
+        return AsyncSwitch.onAsync(input);
+    }
+
+    /**
+     * Starts a reusable switch definition, see {@link CompiledSwitch}
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
     /**
      * Matches case object with input and executes action
      *
@@ -61,11 +113,60 @@ public class Switch implements Debuggable,
      */
     public Switch caseOf(Object match, Runnable action) {
         checkNotNull(action);
+        int branch = this.branches++;
         if (!matched && Objects.equals(input, match)) {
             this.matched = true;
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing CaseOf block (matched=%s), (description=%s)",
-                    Formatter.normalize(this.label, this.getClass().getSimpleName()), this.matched, this.description), this.traceable);
-            action.run();
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing CaseOf block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.description);
+            }
+            execute(BranchKind.CASE_OF, branch, action);
+        }
+        return this;
+    }
+
+    /**
+     * Matches input in the half-open range [low, high) and executes action.
+     * Only inputs of the same class as the bounds are in range.
+     *
+     * @param low    inclusive lower bound
+     * @param high   exclusive upper bound
+     * @param action action to execute
+     * @return instance
+     */
+    public <C extends Comparable<? super C>> Switch caseInRange(C low, C high, Runnable action) {
+        RangeLookup.checkRange(low, high);
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!matched && RangeLookup.contains(low, high, input)) {
+            this.matched = true;
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing CaseInRange block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.description);
+            }
+            execute(BranchKind.CASE_OF, branch, action);
+        }
+        return this;
+    }
+
+    /**
+     * Matches input with condition and executes action
+     *
+     * @param condition logical condition on input
+     * @param action    action to execute
+     * @return instance
+     */
+    public Switch caseWhen(Predicate<Object> condition, Runnable action) {
+        checkNotNull(condition);
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!matched && condition.test(input)) {
+            this.matched = true;
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing CaseWhen block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.description);
+            }
+            execute(BranchKind.CASE_OF, branch, action);
         }
         return this;
     }
@@ -78,10 +179,13 @@ public class Switch implements Debuggable,
      */
     public Switch defaultOf(Runnable action) {
         checkNotNull(action);
+        int branch = this.branches++;
         if(!matched){
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing DefaultOf block (matched=%s), (description=%s)",
-                    Formatter.normalize(this.label, this.getClass().getSimpleName()), this.matched, this.description), this.traceable);
-            action.run();
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing DefaultOf block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.description);
+            }
+            execute(BranchKind.DEFAULT_OF, branch, action);
         }
         return this;
     }
@@ -93,8 +197,15 @@ public class Switch implements Debuggable,
      */
     public void orThrows(Supplier<? extends RuntimeException> exception) {
         if (!this.matched) {
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Throwing Exception (exception=%s), (matched=%s), (description=%s)",
-                    Formatter.normalize(this.label, this.getClass().getSimpleName()), exception.getClass().getSimpleName(), this.matched, this.description), this.traceable);
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Throwing Exception (exception={}), (matched={}), (description={})",
+                        this.normalizedLabel, exception.getClass().getSimpleName(), this.matched, this.description);
+            }
+            BranchMetrics branchMetrics = branchMetrics();
+            if (branchMetrics != null) {
+                branchMetrics.hit(BranchKind.THROWS);
+            }
+            BranchEvent.instant(this.normalizedLabel, BranchKind.THROWS, this.matched);
             throw exception.get();
         }
     }
@@ -105,12 +216,68 @@ public class Switch implements Debuggable,
         return this;
     }
 
+    /**
+     * Records branch hits per branch position, and action latency if the registry is timing,
+     * under the label set when the first branch runs
+     *
+     * @param metrics metrics registry
+     * @return instance
+     */
+    @Override
+    public Switch withMetrics(ActumMetrics metrics) {
+        checkNotNull(metrics);
+        this.metrics = metrics;
+        this.branchMetrics = null;
+        return this;
+    }
+
+    private void execute(BranchKind kind, int branch, Runnable action) {
+        BranchEvent event = BranchEvent.start();
+        BranchMetrics branchMetrics = branchMetrics();
+        if (branchMetrics == null) {
+            action.run();
+        } else {
+            branchMetrics.run(kind, branch, action);
+        }
+        event.complete(this.normalizedLabel, kind, this.matched);
+    }
+
+    /**
+     * Metrics of the current label, resolved when the first branch executes so a label set afterwards leaves no orphan
+     */
+    private BranchMetrics branchMetrics() {
+        if (this.branchMetrics == null && this.metrics != null) {
+            this.branchMetrics = this.metrics.branch(this.normalizedLabel);
+        }
+        return this.branchMetrics;
+    }
+
     @Override
     public Switch trace() {
         this.traceable = true;
+        this.sampler = TraceSampler.always();
+        return this;
+    }
+
+    /**
+     * Trace executions of current condition selected by sampler
+     *
+     * @param sampler trace sampler
+     * @return trace
+     */
+    @Override
+    public Switch trace(TraceSampler sampler) {
+        checkNotNull(sampler);
+        this.traceable = true;
+        this.sampler = sampler;
         return this;
     }
 
+    private boolean isTraced() {
+        return isLoggable(this.logger, LogLevel.DEBUG, this.traceable)
+                && this.sampler.sample(this.normalizedLabel, this.matched);
+    }
+
     /**
      * Returns debuggable string
      *
@@ -130,6 +297,8 @@ public class Switch implements Debuggable,
     @Override
     public Switch label(String label) {
         this.label = label == null ? "" : label;
+        this.normalizedLabel = Formatter.normalize(this.label, "Switch");
+        this.branchMetrics = null;
         return this;
     }
 
@@ -187,4 +356,113 @@ public class Switch implements Debuggable,
     public String toString() {
         return debug();
     }
+
+    /**
+     * Builder of {@link CompiledSwitch}
+     */
+    public static final class Builder extends AbstractBuilder<Builder> {
+
+        private final Map<Object, Runnable> cases = new LinkedHashMap<>();
+        private final List<Comparable<?>> lows = new ArrayList<>();
+        private final List<Comparable<?>> highs = new ArrayList<>();
+        private final List<Runnable> rangeActions = new ArrayList<>();
+        private final List<Predicate<Object>> conditions = new ArrayList<>();
+        private final List<Runnable> conditionActions = new ArrayList<>();
+        private Runnable fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers case, the first registration of a match wins
+         *
+         * @param match  object to match
+         * @param action action to execute
+         * @return builder
+         * @throws IllegalStateException if a range or predicate case is already registered
+         */
+        public Builder caseOf(Object match, Runnable action) {
+            checkNotNull(action);
+            if (!rangeActions.isEmpty() || !conditions.isEmpty()) {
+                throw new IllegalStateException("Equality cases must be declared before range and predicate cases");
+            }
+            cases.putIfAbsent(match, action);
+            return this;
+        }
+
+        /**
+         * Registers range case matching inputs in [low, high) of the same class as the bounds.
+         * Ranges may overlap, the first registered range containing the input wins.
+         *
+         * @param low    inclusive lower bound
+         * @param high   exclusive upper bound
+         * @param action action to execute
+         * @return builder
+         * @throws IllegalStateException if a predicate case is already registered
+         */
+        public <C extends Comparable<? super C>> Builder caseInRange(C low, C high, Runnable action) {
+            RangeLookup.checkRange(low, high);
+            checkNotNull(action);
+            if (!conditions.isEmpty()) {
+                throw new IllegalStateException("Range cases must be declared before predicate cases");
+            }
+            lows.add(low);
+            highs.add(high);
+            rangeActions.add(action);
+            return this;
+        }
+
+        /**
+         * Registers case matching inputs satisfying condition, tested in registration order
+         *
+         * @param condition logical condition on input
+         * @param action    action to execute
+         * @return builder
+         */
+        public Builder caseWhen(Predicate<Object> condition, Runnable action) {
+            checkNotNull(condition);
+            checkNotNull(action);
+            conditions.add(condition);
+            conditionActions.add(action);
+            return this;
+        }
+
+        /**
+         * Registers default action executed if none of the cases match
+         *
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder defaultOf(Runnable action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         *
+         * @return compiled switch
+         */
+        public CompiledSwitch build() {
+            return new CompiledSwitch(cases, RangeLookup.of(lows, highs), rangeActions.toArray(new Runnable[0]),
+                    GenericArrays.toArray(Predicate.class, conditions), conditionActions.toArray(new Runnable[0]),
+                    fallback, exception, traceContext(CompiledSwitch.class.getSimpleName()));
+        }
+    }
 }
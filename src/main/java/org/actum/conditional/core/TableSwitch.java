@@ -0,0 +1,191 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.table.DecisionTable;
+import org.actum.visibility.Debuggable;
+
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable switch on long keys routed by a memory-mapped {@link DecisionTable}.
+ * The table maps keys to action ids, the switch binds action ids to actions: hundreds of thousands of rows
+ * stay off-heap while only the handful of distinct actions live in code.
+ * Keys whose action id is not bound behave as unmatched keys.
+ * Usage:
+ * TableSwitch router = TableSwitch.builder(DecisionTable.open(path))
+ * .bind(1, action-1)
+ * .bind(2, action-2)
+ * .defaultOf(default-action)
+ * .build();
+ * router.dispatch(key);
+ */
+public final class TableSwitch implements Debuggable {
+
+    private final DecisionTable table;
+    private final Runnable[] actions;
+    private final int bound;
+    private final Runnable fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    private TableSwitch(DecisionTable table, Runnable[] actions, int bound, Runnable fallback,
+                        Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.table = table;
+        this.actions = actions;
+        this.bound = bound;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Starts switch definition over table
+     *
+     * @param table decision table
+     * @return builder
+     */
+    public static Builder builder(DecisionTable table) {
+        checkNotNull(table);
+        return new Builder(table);
+    }
+
+    /**
+     * Executes the action bound to the action id of key, or the default action
+     *
+     * @param key key
+     * @return true if a bound action was executed
+     */
+    public boolean dispatch(long key) {
+        int id = table.actionOf(key);
+        Runnable action = id >= 0 && id < actions.length ? actions[id] : null;
+        if (action != null) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            action.run();
+            trace.record(BranchKind.CASE_OF, id, start);
+            return true;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            fallback.run();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+        } else if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return false;
+    }
+
+    /**
+     * Number of bound action ids
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return bound;
+    }
+
+    public DecisionTable getTable() {
+        return table;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("TableSwitch[Label=%s, Description=%s, Traceable=%s, Cases=%s, Rows=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), bound, table.size());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link TableSwitch}
+     */
+    public static final class Builder extends AbstractBuilder<Builder> {
+
+        private final DecisionTable table;
+        private final TreeMap<Integer, Runnable> cases = new TreeMap<>();
+        private Runnable fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder(DecisionTable table) {
+            this.table = table;
+        }
+
+        /**
+         * Binds action to action id, the first binding of an id wins.
+         * Actions are indexed by id, so ids are expected to be small and dense
+         *
+         * @param actionId action id referenced by table rows
+         * @param action   action to execute
+         * @return builder
+         */
+        public Builder bind(int actionId, Runnable action) {
+            checkNotNull(action);
+            if (actionId < 0) {
+                throw new IllegalArgumentException("Action ids must not be negative: " + actionId);
+            }
+            cases.putIfAbsent(actionId, action);
+            return this;
+        }
+
+        /**
+         * Registers default action executed for keys missing from the table or bound to no action
+         *
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder defaultOf(Runnable action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception for keys missing from the table or bound to no action
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         *
+         * @return switch
+         */
+        public TableSwitch build() {
+            Runnable[] actions = new Runnable[cases.isEmpty() ? 0 : cases.lastKey() + 1];
+            cases.forEach((id, action) -> actions[id] = action);
+            return new TableSwitch(table, actions, cases.size(), fallback, exception,
+                    traceContext(TableSwitch.class.getSimpleName()));
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
+import org.actum.logger.LogLevel;
+import org.actum.logger.LoggerSupport;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchKind;
+import org.actum.metrics.BranchMetrics;
+import org.actum.util.Formatter;
+import org.actum.util.GenericArrays;
+import org.actum.visibility.Debuggable;
+import org.actum.visibility.Describable;
+import org.actum.visibility.Measurable;
+import org.actum.visibility.TraceSampler;
+import org.actum.visibility.Traceable;
+import org.actum.visibility.Viewable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * TypeSwitch class switches on the runtime type of its input, cases are tested in declaration order
+ * Usage:
+ * Switch.onType(input)
+ * .caseOf(Type1.class, action-1)
+ * .caseOf(Type2.class, action-2)
+ * .defaultOf(default-action)
+ */
+public class TypeSwitch implements Debuggable,
+        LoggerSupport<TypeSwitch>,
+        Traceable<TypeSwitch>,
+        Measurable<TypeSwitch>,
+        Describable<TypeSwitch>,
+        Viewable<TypeSwitch> {
+
+    private static final ActumLogger NO_OP_LOGGER = ActumLoggerFactory.noOp();
+    private static final String DEFAULT_LABEL = Formatter.normalize(null, "TypeSwitch");
+    private boolean matched;
+    private String label;
+    private String normalizedLabel = DEFAULT_LABEL;
+    private String description;
+    private boolean traceable = false;
+    private TraceSampler sampler = TraceSampler.always();
+    private ActumLogger logger = NO_OP_LOGGER;
+    private ActumMetrics metrics;
+    private BranchMetrics branchMetrics;
+    private int branches;
+    private final Object input;
+
+    TypeSwitch(Object input) {
+        this.input = input;
+    }
+
+    /**
+     * Starts a reusable type switch resolving the most specific case, see {@link CompiledTypeSwitch}
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Executes action with the input cast to type if input is an instance of type
+     *
+     * @param type   type to match
+     * @param action action to execute
+     * @return instance
+     */
+    public <T> TypeSwitch caseOf(Class<T> type, Consumer<? super T> action) {
+        checkNotNull(type);
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!matched && type.isInstance(input)) {
+            this.matched = true;
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing CaseOf block (matched={}), (type={}), (description={})",
+                        this.normalizedLabel, this.matched, type.getSimpleName(), this.description);
+            }
+            T value = type.cast(input);
+            execute(BranchKind.CASE_OF, branch, () -> action.accept(value));
+        }
+        return this;
+    }
+
+    /**
+     * Executes default action if none of the cases matched
+     *
+     * @param action action to execute
+     * @return instance
+     */
+    public TypeSwitch defaultOf(Runnable action) {
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!matched) {
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing DefaultOf block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.description);
+            }
+            execute(BranchKind.DEFAULT_OF, branch, action);
+        }
+        return this;
+    }
+
+    /**
+     * Throws exception
+     *
+     * @param exception exception to throw
+     */
+    public void orThrows(Supplier<? extends RuntimeException> exception) {
+        checkNotNull(exception);
+        if (!this.matched) {
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Throwing Exception (exception={}), (matched={}), (description={})",
+                        this.normalizedLabel, exception.getClass().getSimpleName(), this.matched, this.description);
+            }
+            BranchMetrics branchMetrics = branchMetrics();
+            if (branchMetrics != null) {
+                branchMetrics.hit(BranchKind.THROWS);
+            }
+            throw exception.get();
+        }
+    }
+
+    @Override
+    public TypeSwitch withLogger(ActumLogger logger) {
+        checkNotNull(logger);
+        this.logger = logger;
+        return this;
+    }
+
+    /**
+     * Records branch hits per branch position, and action latency if the registry is timing,
+     * under the label set when the first branch runs
+     *
+     * @param metrics metrics registry
+     * @return instance
+     */
+    @Override
+    public TypeSwitch withMetrics(ActumMetrics metrics) {
+        checkNotNull(metrics);
+        this.metrics = metrics;
+        this.branchMetrics = null;
+        return this;
+    }
+
+    private void execute(BranchKind kind, int branch, Runnable action) {
+        BranchMetrics branchMetrics = branchMetrics();
+        if (branchMetrics == null) {
+            action.run();
+        } else {
+            branchMetrics.run(kind, branch, action);
+        }
+    }
+
+    /**
+     * Metrics of the current label, resolved when the first branch executes so a label set afterwards leaves no orphan
+     */
+    private BranchMetrics branchMetrics() {
+        if (this.branchMetrics == null && this.metrics != null) {
+            this.branchMetrics = this.metrics.branch(this.normalizedLabel);
+        }
+        return this.branchMetrics;
+    }
+
+    @Override
+    public TypeSwitch trace() {
+        this.traceable = true;
+        this.sampler = TraceSampler.always();
+        return this;
+    }
+
+    /**
+     * Trace executions of current condition selected by sampler
+     *
+     * @param sampler trace sampler
+     * @return trace
+     */
+    @Override
+    public TypeSwitch trace(TraceSampler sampler) {
+        checkNotNull(sampler);
+        this.traceable = true;
+        this.sampler = sampler;
+        return this;
+    }
+
+    private boolean isTraced() {
+        return isLoggable(this.logger, LogLevel.DEBUG, this.traceable)
+                && this.sampler.sample(this.normalizedLabel, this.matched);
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("TypeSwitch[Label=%s, Description=%s, Traceable=%s, Matched=%s]", label, description, traceable, matched);
+    }
+
+    /**
+     * Labels current condition
+     *
+     * @param label label
+     * @return label
+     */
+    @Override
+    public TypeSwitch label(String label) {
+        this.label = label == null ? "" : label;
+        this.normalizedLabel = Formatter.normalize(this.label, "TypeSwitch");
+        this.branchMetrics = null;
+        return this;
+    }
+
+    /**
+     * Adds description to condition
+     *
+     * @param description description message
+     * @return description
+     */
+    @Override
+    public TypeSwitch describe(String description) {
+        this.description = description == null ? "No description provided!" : description;
+        return this;
+    }
+
+    /**
+     * Used for side effects or debugging
+     *
+     * @param action action
+     * @return action result
+     */
+    @Override
+    public TypeSwitch peek(Runnable action) {
+        if (this.matched) {
+            action.run();
+        }
+        return this;
+    }
+
+    /**
+     * Used for side effects or debugging
+     *
+     * @param consumer consumer
+     * @return consumer result
+     */
+    @Override
+    public TypeSwitch view(Consumer<TypeSwitch> consumer) {
+        consumer.accept(this);
+        return this;
+    }
+
+    public String getLabel() {
+        return label == null || label.isBlank() ? getClass().getSimpleName() : label;
+    }
+
+    public String getDescription() {
+        return description == null ? "No description provided!" : description;
+    }
+
+    public boolean isMatched() {
+        return matched;
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link CompiledTypeSwitch}
+     */
+    public static final class Builder extends AbstractBuilder<Builder> {
+
+        private final Map<Class<?>, Consumer<Object>> cases = new LinkedHashMap<>();
+        private Runnable fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers case for type and its subtypes, the first registration of a type wins
+         *
+         * @param type   type to match
+         * @param action action receiving the input cast to type
+         * @return builder
+         */
+        public <T> Builder caseOf(Class<T> type, Consumer<? super T> action) {
+            checkNotNull(type);
+            checkNotNull(action);
+            cases.putIfAbsent(type, input -> action.accept(type.cast(input)));
+            return this;
+        }
+
+        /**
+         * Registers default action executed if none of the cases match
+         *
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder defaultOf(Runnable action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable type switch
+         *
+         * @return compiled type switch
+         */
+        public CompiledTypeSwitch build() {
+            return new CompiledTypeSwitch(cases.keySet().toArray(new Class<?>[0]), GenericArrays.toArray(Consumer.class, cases.values()),
+                    fallback, exception, traceContext(CompiledTypeSwitch.class.getSimpleName()));
+        }
+    }
+}
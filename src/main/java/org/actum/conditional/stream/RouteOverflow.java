@@ -0,0 +1,24 @@
+package org.actum.conditional.stream;
+
+/**
+ * What a route of a {@link RoutingProcessor} does with an element arriving while its queue is full
+ */
+public enum RouteOverflow {
+    /**
+     * Never drops: the processor only requests from upstream what every such route can queue,
+     * so a slow route paces the whole stream
+     */
+    BACKPRESSURE,
+    /**
+     * Drops the arriving element
+     */
+    DROP_LATEST,
+    /**
+     * Drops the oldest queued element to make room for the arriving one
+     */
+    DROP_OLDEST,
+    /**
+     * Fails the route: its subscriber gets an error and the route takes no more elements
+     */
+    ERROR
+}
@@ -0,0 +1,357 @@
+package org.actum.conditional.stream;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.GenericArrays;
+import org.actum.visibility.Debuggable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Collector routing every element of a stream to the downstream collector of the first case it matches,
+ * in a single pass. The accumulation state is one downstream container per case, so memory depends on
+ * the number of cases and on what the downstream collectors keep, not on the number of elements.
+ * Equality cases compare a value selected from the element and are found with one hash lookup,
+ * predicate cases are tested afterwards in declaration order. Unmatched elements go to the default route,
+ * fail the stream with the configured exception, or are dropped.
+ * The result maps every route key, in declaration order, to its downstream result, also for routes no element took.
+ * Usage:
+ * Map&lt;K, D&gt; routed = stream.collect(RoutingCollector.&lt;T, K, D&gt;builder(selector)
+ * .caseOf(key-1, downstream-1)
+ * .caseWhen(key-2, condition, downstream-2)
+ * .defaultOf(key-3, downstream-3)
+ * .build());
+ *
+ * @param <T> element type
+ * @param <K> route key type
+ * @param <D> downstream result type
+ */
+public final class RoutingCollector<T, K, D> implements Collector<T, Object[], Map<K, D>>, Debuggable {
+
+    private static final int MISSING = -1;
+
+    private final Function<? super T, ?> selector;
+    private final Map<Object, Integer> cases;
+    private final Predicate<? super T>[] conditions;
+    private final int[] conditionRoutes;
+    private final int fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final K[] keys;
+    private final Supplier<Object>[] suppliers;
+    private final BiConsumer<Object, ? super T>[] accumulators;
+    private final BinaryOperator<Object>[] combiners;
+    private final Function<Object, ? extends D>[] finishers;
+    private final Set<Characteristics> characteristics;
+    private final TraceContext trace;
+
+    @SuppressWarnings("unchecked")
+    private RoutingCollector(Builder<T, K, D> builder, Set<Characteristics> characteristics, TraceContext trace) {
+        this.selector = builder.selector;
+        this.cases = new HashMap<>(builder.cases);
+        this.conditions = GenericArrays.toArray(Predicate.class, builder.conditions);
+        this.conditionRoutes = builder.conditionRoutes.stream().mapToInt(Integer::intValue).toArray();
+        this.fallback = builder.fallback;
+        this.exception = builder.exception;
+        int routes = builder.keys.size();
+        this.keys = (K[]) builder.keys.toArray();
+        this.suppliers = GenericArrays.newArray(Supplier.class, routes);
+        this.accumulators = GenericArrays.newArray(BiConsumer.class, routes);
+        this.combiners = GenericArrays.newArray(BinaryOperator.class, routes);
+        this.finishers = GenericArrays.newArray(Function.class, routes);
+        for (int i = 0; i < routes; i++) {
+            Collector<? super T, Object, ? extends D> downstream =
+                    (Collector<? super T, Object, ? extends D>) builder.downstreams.get(i);
+            suppliers[i] = downstream.supplier();
+            accumulators[i] = downstream.accumulator();
+            combiners[i] = downstream.combiner();
+            finishers[i] = downstream.finisher();
+        }
+        this.characteristics = characteristics;
+        this.trace = trace;
+    }
+
+    /**
+     * Starts a routing definition of predicate cases only
+     *
+     * @return builder
+     */
+    public static <T, K, D> Builder<T, K, D> builder() {
+        return new Builder<>(null);
+    }
+
+    /**
+     * Starts a routing definition whose equality cases compare the value selected from each element
+     *
+     * @param selector selects the value compared with the equality cases
+     * @return builder
+     */
+    public static <T, K, D> Builder<T, K, D> builder(Function<? super T, ?> selector) {
+        checkNotNull(selector);
+        return new Builder<>(selector);
+    }
+
+    @Override
+    public Supplier<Object[]> supplier() {
+        return () -> {
+            Object[] containers = new Object[suppliers.length];
+            for (int i = 0; i < containers.length; i++) {
+                containers[i] = suppliers[i].get();
+            }
+            return containers;
+        };
+    }
+
+    @Override
+    public BiConsumer<Object[], T> accumulator() {
+        return (containers, element) -> {
+            int route = route(element);
+            if (route != MISSING) {
+                accumulators[route].accept(containers[route], element);
+            }
+        };
+    }
+
+    @Override
+    public BinaryOperator<Object[]> combiner() {
+        return (left, right) -> {
+            for (int i = 0; i < left.length; i++) {
+                left[i] = combiners[i].apply(left[i], right[i]);
+            }
+            return left;
+        };
+    }
+
+    @Override
+    public Function<Object[], Map<K, D>> finisher() {
+        return containers -> {
+            Map<K, D> results = new LinkedHashMap<>();
+            for (int i = 0; i < containers.length; i++) {
+                results.put(keys[i], finishers[i].apply(containers[i]));
+            }
+            return results;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return characteristics;
+    }
+
+    /**
+     * Route of element: its equality case, else its first matching predicate case, else the default route
+     *
+     * @param element element
+     * @return route index, or {@link #MISSING} if the element is dropped
+     */
+    private int route(T element) {
+        if (selector != null) {
+            Integer route = cases.get(selector.apply(element));
+            if (route != null) {
+                return matched(route);
+            }
+        }
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].test(element)) {
+                return matched(conditionRoutes[i]);
+            }
+        }
+        if (fallback != MISSING) {
+            trace.executing("DefaultOf", false);
+            trace.hit(BranchKind.DEFAULT_OF, fallback);
+            return fallback;
+        }
+        if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return MISSING;
+    }
+
+    private int matched(int route) {
+        trace.executing("CaseOf", true);
+        trace.hit(BranchKind.CASE_OF, route);
+        return route;
+    }
+
+    /**
+     * Number of routes, default route included
+     *
+     * @return number of routes
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("RoutingCollector[Label=%s, Description=%s, Traceable=%s, Cases=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), size());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link RoutingCollector}
+     *
+     * @param <T> element type
+     * @param <K> route key type
+     * @param <D> downstream result type
+     */
+    public static final class Builder<T, K, D> extends AbstractBuilder<Builder<T, K, D>> {
+
+        private final Function<? super T, ?> selector;
+        private final Map<Object, Integer> cases = new HashMap<>();
+        private final List<Predicate<? super T>> conditions = new ArrayList<>();
+        private final List<Integer> conditionRoutes = new ArrayList<>();
+        private final List<K> keys = new ArrayList<>();
+        private final List<Collector<? super T, ?, ? extends D>> downstreams = new ArrayList<>();
+        private int fallback = MISSING;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder(Function<? super T, ?> selector) {
+            this.selector = selector;
+        }
+
+        /**
+         * Routes elements whose selected value equals key to downstream
+         *
+         * @param key        value to match, also the key of the result
+         * @param downstream collector of the routed elements
+         * @return builder
+         */
+        public Builder<T, K, D> caseOf(K key, Collector<? super T, ?, ? extends D> downstream) {
+            if (selector == null) {
+                throw new IllegalStateException("caseOf compares a selected value, start with builder(selector)");
+            }
+            cases.put(key, route(key, downstream));
+            return this;
+        }
+
+        /**
+         * Routes elements matching condition, and no equality case, to downstream
+         *
+         * @param key        key of the result
+         * @param condition  logical condition on element
+         * @param downstream collector of the routed elements
+         * @return builder
+         */
+        public Builder<T, K, D> caseWhen(K key, Predicate<? super T> condition,
+                                         Collector<? super T, ?, ? extends D> downstream) {
+            checkNotNull(condition);
+            int route = route(key, downstream);
+            conditions.add(condition);
+            conditionRoutes.add(route);
+            return this;
+        }
+
+        /**
+         * Routes elements matching no case to downstream
+         *
+         * @param key        key of the result
+         * @param downstream collector of the unmatched elements
+         * @return builder
+         */
+        public Builder<T, K, D> defaultOf(K key, Collector<? super T, ?, ? extends D> downstream) {
+            if (fallback != MISSING) {
+                throw new IllegalStateException("Default route is already defined");
+            }
+            this.fallback = route(key, downstream);
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Fails the stream with exception on an element matching no case
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<T, K, D> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            if (fallback != MISSING) {
+                throw new IllegalStateException("Default route is already defined");
+            }
+            this.exception = exception;
+            return this;
+        }
+
+        /**
+         * Builds collector accumulating into one container per case and per stream split,
+         * unordered only if every downstream collector is
+         *
+         * @return collector
+         */
+        public RoutingCollector<T, K, D> build() {
+            Set<Characteristics> characteristics = shared(Characteristics.UNORDERED)
+                    ? Collections.unmodifiableSet(EnumSet.of(Characteristics.UNORDERED))
+                    : Collections.emptySet();
+            return new RoutingCollector<>(this, characteristics, traceContext(RoutingCollector.class.getSimpleName()));
+        }
+
+        /**
+         * Builds unordered collector accumulating concurrently into a single container per case,
+         * every downstream collector must be concurrent, e.g. Collectors.toConcurrentMap
+         *
+         * @return concurrent collector
+         */
+        public RoutingCollector<T, K, D> buildConcurrent() {
+            if (!shared(Characteristics.CONCURRENT)) {
+                throw new IllegalArgumentException("Every downstream collector must be concurrent");
+            }
+            Set<Characteristics> characteristics = Collections.unmodifiableSet(
+                    EnumSet.of(Characteristics.CONCURRENT, Characteristics.UNORDERED));
+            return new RoutingCollector<>(this, characteristics, traceContext(RoutingCollector.class.getSimpleName()));
+        }
+
+        private int route(K key, Collector<? super T, ?, ? extends D> downstream) {
+            checkNotNull(downstream);
+            if (keys.contains(key)) {
+                throw new IllegalArgumentException("Duplicate route key: " + key);
+            }
+            keys.add(key);
+            downstreams.add(downstream);
+            return keys.size() - 1;
+        }
+
+        private boolean shared(Characteristics characteristic) {
+            for (Collector<? super T, ?, ? extends D> downstream : downstreams) {
+                if (!downstream.characteristics().contains(characteristic)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package org.actum.conditional.stream;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.GenericArrays;
+import org.actum.visibility.Debuggable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Reactive-streams router: subscribes to a publisher and dispatches every element to the subscriber
+ * of the first case it matches, each case honoring the demand of its own subscriber.
+ * Every route buffers at most bufferSize elements; what happens to an element arriving at a full route
+ * is its {@link RouteOverflow}, so a slow subscriber either paces the whole stream (BACKPRESSURE)
+ * or only loses its own elements, never making the processor buffer without bound.
+ * Equality cases compare a value selected from the element and are found with one hash lookup,
+ * predicate cases are tested afterwards in declaration order.
+ * Elements matching no case go to the subscriber of the processor itself, they are dropped while it has none.
+ * Usage:
+ * RoutingProcessor&lt;T&gt; router = RoutingProcessor.&lt;T&gt;builder(selector)
+ * .caseOf(case-1, subscriber-1)
+ * .caseWhen(condition-2, subscriber-2, RouteOverflow.DROP_OLDEST)
+ * .bufferSize(256)
+ * .build();
+ * router.subscribe(default-subscriber);
+ * publisher.subscribe(router);
+ *
+ * @param <T> element type
+ */
+public final class RoutingProcessor<T> implements Flow.Processor<T, T>, Debuggable {
+
+    public static final int DEFAULT_BUFFER_SIZE = Flow.defaultBufferSize();
+
+    private final Function<? super T, ?> selector;
+    private final Map<Object, Integer> cases;
+    private final Predicate<? super T>[] conditions;
+    private final int[] conditionRoutes;
+    private final Route<T>[] routes;
+    private final Route<T> fallback;
+    private final int bufferSize;
+    private final boolean paced;
+    private final TraceContext trace;
+    private final LongAdder dropped = new LongAdder();
+    private Flow.Subscription upstream;
+    private volatile long pending;
+    private volatile long refill;
+    private boolean cancelled;
+
+    private RoutingProcessor(Builder<T> builder, TraceContext trace) {
+        this.selector = builder.selector;
+        this.cases = new HashMap<>(builder.cases);
+        this.conditions = GenericArrays.toArray(Predicate.class, builder.conditions);
+        this.conditionRoutes = builder.conditionRoutes.stream().mapToInt(Integer::intValue).toArray();
+        this.bufferSize = builder.bufferSize;
+        this.routes = GenericArrays.newArray(Route.class, builder.subscribers.size() + 1);
+        boolean paced = builder.overflow == RouteOverflow.BACKPRESSURE;
+        for (int i = 0; i < builder.subscribers.size(); i++) {
+            RouteOverflow policy = builder.policies.get(i) == null ? builder.overflow : builder.policies.get(i);
+            routes[i] = new Route<>(this, policy);
+            paced |= policy == RouteOverflow.BACKPRESSURE;
+        }
+        this.fallback = new Route<>(this, builder.overflow);
+        routes[routes.length - 1] = fallback;
+        this.paced = paced;
+        this.refill = bufferSize >> 1;
+        this.trace = trace;
+        for (int i = 0; i < builder.subscribers.size(); i++) {
+            routes[i].attach(builder.subscribers.get(i));
+        }
+    }
+
+    /**
+     * Starts a routing definition of predicate cases only
+     *
+     * @return builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>(null);
+    }
+
+    /**
+     * Starts a routing definition whose equality cases compare the value selected from each element
+     *
+     * @param selector selects the value compared with the equality cases
+     * @return builder
+     */
+    public static <T> Builder<T> builder(Function<? super T, ?> selector) {
+        checkNotNull(selector);
+        return new Builder<>(selector);
+    }
+
+    /**
+     * Subscribes the default route, taking the elements matching no case.
+     * Only one subscriber is supported, later ones get an IllegalStateException.
+     *
+     * @param subscriber subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!fallback.attach(subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("RoutingProcessor supports a single default subscriber"));
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+        }
+        requestUpstream(0);
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+        routes[route(item)].offer(item);
+        requestUpstream(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        for (Route<T> route : routes) {
+            route.complete(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        for (Route<T> route : routes) {
+            route.complete(null);
+        }
+    }
+
+    /**
+     * Route of element: its equality case, else its first matching predicate case, else the default route
+     */
+    private int route(T element) {
+        if (selector != null) {
+            Integer route = cases.get(selector.apply(element));
+            if (route != null) {
+                return matched(route);
+            }
+        }
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].test(element)) {
+                return matched(conditionRoutes[i]);
+            }
+        }
+        trace.executing("DefaultOf", false);
+        trace.hit(BranchKind.DEFAULT_OF, routes.length - 1);
+        return routes.length - 1;
+    }
+
+    private int matched(int route) {
+        trace.executing("CaseOf", true);
+        trace.hit(BranchKind.CASE_OF, route);
+        return route;
+    }
+
+    /**
+     * Tops up upstream demand to what every BACKPRESSURE route can still queue, or to bufferSize
+     * when no route is paced, once at most half of the last top-up capacity is outstanding.
+     * Elements are queued before pending is decremented, so a concurrent top-up can only under-request,
+     * and a drain skipping the top-up on a stale pending count is followed by the top-up of onNext.
+     *
+     * @param received elements received from upstream since the last call
+     */
+    private void requestUpstream(long received) {
+        if (received == 0 && pending > refill) {
+            return;
+        }
+        Flow.Subscription subscription;
+        long demand;
+        synchronized (this) {
+            pending -= received;
+            if (upstream == null || cancelled || pending > refill) {
+                return;
+            }
+            long capacity = bufferSize;
+            if (paced) {
+                for (Route<T> route : routes) {
+                    if (route.policy == RouteOverflow.BACKPRESSURE && route.isLive()) {
+                        capacity = Math.min(capacity, route.queue.remainingCapacity());
+                    }
+                }
+            }
+            refill = capacity >> 1;
+            demand = capacity - pending;
+            if (demand <= 0) {
+                return;
+            }
+            pending += demand;
+            subscription = upstream;
+        }
+        subscription.request(demand);
+    }
+
+    /**
+     * Cancels upstream once no route can take elements anymore,
+     * otherwise tops up demand as the closed route may have been the one pacing the stream
+     */
+    private void routeClosed() {
+        Flow.Subscription subscription;
+        synchronized (this) {
+            boolean live = false;
+            for (Route<T> route : routes) {
+                live |= route.isLive();
+            }
+            if (live) {
+                refill = Long.MAX_VALUE;
+                subscription = null;
+            } else if (upstream == null || cancelled) {
+                return;
+            } else {
+                cancelled = true;
+                subscription = upstream;
+            }
+        }
+        if (subscription == null) {
+            requestUpstream(0);
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Number of elements dropped by full routes, failed or cancelled routes, and the default route
+     * while it had no subscriber
+     *
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of routes, default route included
+     *
+     * @return number of routes
+     */
+    public int size() {
+        return routes.length;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("RoutingProcessor[Label=%s, Description=%s, Traceable=%s, Cases=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), size());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Bounded queue of one route and the subscription handed to its subscriber.
+     * Elements are delivered by whichever thread wins the work-in-progress counter, the processor's onNext
+     * or the subscriber's request, so the subscriber is never called concurrently.
+     */
+    private static final class Route<T> implements Flow.Subscription {
+        private final RoutingProcessor<T> processor;
+        private final RouteOverflow policy;
+        private final ArrayBlockingQueue<T> queue;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile Flow.Subscriber<? super T> subscriber;
+        private volatile boolean cancelled;
+        private volatile boolean failed;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private boolean terminated;
+
+        private Route(RoutingProcessor<T> processor, RouteOverflow policy) {
+            this.processor = processor;
+            this.policy = policy;
+            this.queue = new ArrayBlockingQueue<>(processor.bufferSize);
+        }
+
+        private boolean attach(Flow.Subscriber<? super T> subscriber) {
+            synchronized (this) {
+                if (this.subscriber != null) {
+                    return false;
+                }
+                this.subscriber = subscriber;
+            }
+            subscriber.onSubscribe(this);
+            drain();
+            return true;
+        }
+
+        /**
+         * Whether the route has a subscriber still taking elements
+         */
+        private boolean isLive() {
+            return subscriber != null && !cancelled && !failed;
+        }
+
+        private void offer(T item) {
+            if (!isLive()) {
+                processor.dropped.increment();
+                return;
+            }
+            if (!queue.offer(item)) {
+                switch (policy) {
+                    case DROP_OLDEST:
+                        while (!queue.offer(item)) {
+                            if (queue.poll() != null) {
+                                processor.dropped.increment();
+                            }
+                        }
+                        break;
+                    case ERROR:
+                        processor.dropped.increment();
+                        fail(new IllegalStateException("Route overflowed its buffer of " + processor.bufferSize));
+                        return;
+                    default:
+                        processor.dropped.increment();
+                        break;
+                }
+            }
+            drain();
+        }
+
+        private void complete(Throwable throwable) {
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        private void fail(Throwable throwable) {
+            error = throwable;
+            failed = true;
+            processor.routeClosed();
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Requested " + n + " elements, demand must be positive"));
+                return;
+            }
+            long current;
+            long updated;
+            do {
+                current = requested.get();
+                if (current == Long.MAX_VALUE) {
+                    break;
+                }
+                updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!requested.compareAndSet(current, updated));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            processor.routeClosed();
+            drain();
+        }
+
+        private void drain() {
+            if (subscriber == null || wip.getAndIncrement() != 0) {
+                return;
+            }
+            Flow.Subscriber<? super T> subscriber = this.subscriber;
+            int missed = 1;
+            do {
+                if (terminated || cancelled) {
+                    queue.clear();
+                } else if (failed) {
+                    queue.clear();
+                    terminated = true;
+                    subscriber.onError(error);
+                } else {
+                    long demand = requested.get();
+                    long emitted = 0;
+                    T item;
+                    while (emitted != demand && !cancelled && (item = queue.poll()) != null) {
+                        subscriber.onNext(item);
+                        emitted++;
+                    }
+                    if (emitted != 0) {
+                        if (demand != Long.MAX_VALUE) {
+                            requested.addAndGet(-emitted);
+                        }
+                        if (policy == RouteOverflow.BACKPRESSURE) {
+                            processor.requestUpstream(0);
+                        }
+                    }
+                    if (done && queue.isEmpty() && !cancelled) {
+                        terminated = true;
+                        if (error == null) {
+                            subscriber.onComplete();
+                        } else {
+                            subscriber.onError(error);
+                        }
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+    /**
+     * Builder of {@link RoutingProcessor}
+     *
+     * @param <T> element type
+     */
+    public static final class Builder<T> extends AbstractBuilder<Builder<T>> {
+
+        private final Function<? super T, ?> selector;
+        private final Map<Object, Integer> cases = new HashMap<>();
+        private final List<Predicate<? super T>> conditions = new ArrayList<>();
+        private final List<Integer> conditionRoutes = new ArrayList<>();
+        private final List<Flow.Subscriber<? super T>> subscribers = new ArrayList<>();
+        private final List<RouteOverflow> policies = new ArrayList<>();
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private RouteOverflow overflow = RouteOverflow.BACKPRESSURE;
+
+        private Builder(Function<? super T, ?> selector) {
+            this.selector = selector;
+        }
+
+        /**
+         * Routes elements whose selected value equals match to subscriber, with the builder's overflow policy
+         *
+         * @param match      value to match
+         * @param subscriber subscriber of the routed elements
+         * @return builder
+         */
+        public Builder<T> caseOf(Object match, Flow.Subscriber<? super T> subscriber) {
+            return caseOf(match, subscriber, null);
+        }
+
+        /**
+         * Routes elements whose selected value equals match to subscriber
+         *
+         * @param match      value to match
+         * @param subscriber subscriber of the routed elements
+         * @param overflow   overflow policy of the route
+         * @return builder
+         */
+        public Builder<T> caseOf(Object match, Flow.Subscriber<? super T> subscriber, RouteOverflow overflow) {
+            if (selector == null) {
+                throw new IllegalStateException("caseOf compares a selected value, start with builder(selector)");
+            }
+            if (cases.containsKey(match)) {
+                throw new IllegalArgumentException("Duplicate case: " + match);
+            }
+            cases.put(match, route(subscriber, overflow));
+            return this;
+        }
+
+        /**
+         * Routes elements matching condition, and no equality case, to subscriber, with the builder's overflow policy
+         *
+         * @param condition  logical condition on element
+         * @param subscriber subscriber of the routed elements
+         * @return builder
+         */
+        public Builder<T> caseWhen(Predicate<? super T> condition, Flow.Subscriber<? super T> subscriber) {
+            return caseWhen(condition, subscriber, null);
+        }
+
+        /**
+         * Routes elements matching condition, and no equality case, to subscriber
+         *
+         * @param condition  logical condition on element
+         * @param subscriber subscriber of the routed elements
+         * @param overflow   overflow policy of the route
+         * @return builder
+         */
+        public Builder<T> caseWhen(Predicate<? super T> condition, Flow.Subscriber<? super T> subscriber,
+                                   RouteOverflow overflow) {
+            checkNotNull(condition);
+            int route = route(subscriber, overflow);
+            conditions.add(condition);
+            conditionRoutes.add(route);
+            return this;
+        }
+
+        /**
+         * Maximum number of elements queued per route
+         *
+         * @param bufferSize buffer size, at least 1
+         * @return builder
+         */
+        public Builder<T> bufferSize(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("Buffer size must be at least 1");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Overflow policy of the default route and of the cases declared without one, BACKPRESSURE by default
+         *
+         * @param overflow overflow policy
+         * @return builder
+         */
+        public Builder<T> overflow(RouteOverflow overflow) {
+            checkNotNull(overflow);
+            this.overflow = overflow;
+            return this;
+        }
+
+        /**
+         * Builds the processor and subscribes the case subscribers to their routes
+         *
+         * @return processor
+         */
+        public RoutingProcessor<T> build() {
+            return new RoutingProcessor<>(this, traceContext(RoutingProcessor.class.getSimpleName()));
+        }
+
+        private int route(Flow.Subscriber<? super T> subscriber, RouteOverflow overflow) {
+            checkNotNull(subscriber);
+            subscribers.add(subscriber);
+            policies.add(overflow);
+            return subscribers.size() - 1;
+        }
+    }
+}
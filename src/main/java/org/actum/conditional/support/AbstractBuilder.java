@@ -0,0 +1,110 @@
+package org.actum.conditional.support;
+
+import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
+import org.actum.logger.LoggerSupport;
+import org.actum.metrics.ActumMetrics;
+import org.actum.visibility.Describable;
+import org.actum.visibility.Measurable;
+import org.actum.visibility.TraceSampler;
+import org.actum.visibility.Traceable;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Base class of builders producing immutable, reusable definitions.
+ * Keeps the label, description and logging surface of the fluent conditionals.
+ *
+ * @param <B> concrete builder type
+ */
+public abstract class AbstractBuilder<B extends AbstractBuilder<B>> implements Describable<B>,
+        Traceable<B>,
+        LoggerSupport<B>,
+        Measurable<B> {
+
+    private static final ActumLogger NO_OP_LOGGER = ActumLoggerFactory.noOp();
+    private String label;
+    private String description;
+    private TraceSampler sampler;
+    private ActumLogger logger = NO_OP_LOGGER;
+    private ActumMetrics metrics;
+
+    protected AbstractBuilder() {
+    }
+
+    @SuppressWarnings("unchecked")
+    protected final B self() {
+        return (B) this;
+    }
+
+    /**
+     * Labels the definition
+     *
+     * @param label label
+     * @return builder
+     */
+    @Override
+    public B label(String label) {
+        this.label = label;
+        return self();
+    }
+
+    /**
+     * Adds description to the definition
+     *
+     * @param description description message
+     * @return builder
+     */
+    @Override
+    public B describe(String description) {
+        this.description = description;
+        return self();
+    }
+
+    /**
+     * Trace every evaluation of the definition
+     *
+     * @return builder
+     */
+    @Override
+    public B trace() {
+        return trace(TraceSampler.always());
+    }
+
+    /**
+     * Trace evaluations of the definition selected by sampler
+     *
+     * @param sampler trace sampler
+     * @return builder
+     */
+    @Override
+    public B trace(TraceSampler sampler) {
+        checkNotNull(sampler);
+        this.sampler = sampler;
+        return self();
+    }
+
+    @Override
+    public B withLogger(ActumLogger logger) {
+        checkNotNull(logger);
+        this.logger = logger;
+        return self();
+    }
+
+    @Override
+    public B withMetrics(ActumMetrics metrics) {
+        checkNotNull(metrics);
+        this.metrics = metrics;
+        return self();
+    }
+
+    /**
+     * Captures current settings
+     *
+     * @param defaultLabel label used when none was provided
+     * @return immutable trace context
+     */
+    protected TraceContext traceContext(String defaultLabel) {
+        return new TraceContext(label, description, sampler, logger, metrics, defaultLabel);
+    }
+}
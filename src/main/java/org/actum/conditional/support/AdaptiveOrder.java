@@ -0,0 +1,201 @@
+package org.actum.conditional.support;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Evaluation order of the branches of an adaptive chain, re-sorted from their observed hit counts.
+ * Higher priorities are always tested first. Branches of equal priority keep their declaration order unless the
+ * chain declares its branches mutually exclusive, then the most hit branches are tested first. Hits are scored
+ * per window between reorders, the score of previous windows halving at each reorder, so the order follows
+ * shifts of traffic without flapping on a single window. A new order is only published when it lowers the
+ * expected comparisons by at least 1%, so branches of near equal traffic do not keep swapping.
+ * Evaluations count hits in striped counters and, about once every interval evaluations, hand a reorder to the
+ * executor: the new order is computed off the evaluation path and published with a single volatile write.
+ */
+public final class AdaptiveOrder {
+    public static final int NONE = -1;
+    private static final double MIN_GAIN = 0.99;
+
+    private final int[] priorities;
+    private final boolean exclusive;
+    private final int interval;
+    private final Executor executor;
+    private final LongAdder[] hits;
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    private final long[] windowStart;
+    private final long[] scores;
+    private final Runnable reorder = this::reorder;
+    private volatile int[] order;
+    private volatile long reorders;
+
+    /**
+     * Creates order of branches
+     *
+     * @param priorities priority of each branch, in declaration order
+     * @param exclusive  whether at most one branch can hold for any input
+     * @param interval   average number of evaluations between reorders
+     * @param executor   executor running reorders
+     */
+    public AdaptiveOrder(int[] priorities, boolean exclusive, int interval, Executor executor) {
+        checkNotNull(priorities);
+        checkNotNull(executor);
+        if (interval < 1) {
+            throw new IllegalArgumentException("Reorder interval must be at least 1");
+        }
+        this.priorities = priorities.clone();
+        this.exclusive = exclusive;
+        this.interval = interval;
+        this.executor = executor;
+        this.hits = new LongAdder[priorities.length];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = new LongAdder();
+        }
+        this.windowStart = new long[priorities.length];
+        this.scores = new long[priorities.length];
+        this.order = sorted(new long[priorities.length], identity(priorities.length));
+    }
+
+    /**
+     * Branch indexes in evaluation order, must not be modified
+     *
+     * @return evaluation order
+     */
+    public int[] order() {
+        return order;
+    }
+
+    /**
+     * Counts an evaluation
+     *
+     * @param branch branch executed, or {@link #NONE}
+     * @param tested number of conditions tested
+     */
+    public void completed(int branch, int tested) {
+        if (branch == NONE) {
+            misses.increment();
+        } else {
+            hits[branch].increment();
+        }
+        comparisons.add(tested);
+        if (exclusive && ThreadLocalRandom.current().nextInt(interval) == 0 && !reordering.get()) {
+            try {
+                executor.execute(reorder);
+            } catch (RejectedExecutionException e) {
+                // the next sampled evaluation retries
+            }
+        }
+    }
+
+    /**
+     * Re-sorts branches from their decayed hit scores, unless another reorder is running
+     */
+    public void reorder() {
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (int i = 0; i < hits.length; i++) {
+                long total = hits[i].sum();
+                scores[i] = scores[i] / 2 + total - windowStart[i];
+                windowStart[i] = total;
+            }
+            int[] current = order;
+            int[] next = sorted(scores, current);
+            if (expectedComparisons(next) < expectedComparisons(current) * MIN_GAIN) {
+                order = next;
+                reorders++;
+            }
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    /**
+     * Orders branches by priority, then by score if exclusive, ties keep their current order
+     */
+    private int[] sorted(long[] score, int[] current) {
+        int[] position = new int[current.length];
+        for (int i = 0; i < current.length; i++) {
+            position[current[i]] = i;
+        }
+        Comparator<Integer> comparator = (a, b) -> Integer.compare(priorities[b], priorities[a]);
+        if (exclusive) {
+            comparator = comparator.thenComparing((a, b) -> Long.compare(score[b], score[a]));
+        }
+        comparator = comparator.thenComparingInt(branch -> exclusive ? position[branch] : branch);
+        return Arrays.stream(current).boxed().sorted(comparator).mapToInt(Integer::intValue).toArray();
+    }
+
+    private double expectedComparisons(int[] candidate) {
+        double comparisons = 0;
+        for (int i = 0; i < candidate.length; i++) {
+            comparisons += (double) scores[candidate[i]] * (i + 1);
+        }
+        return comparisons;
+    }
+
+    private static int[] identity(int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Average number of conditions tested per evaluation
+     *
+     * @return average comparisons, 0 before the first evaluation
+     */
+    public double getAverageComparisons() {
+        long evaluations = getEvaluationCount();
+        return evaluations == 0 ? 0 : (double) comparisons.sum() / evaluations;
+    }
+
+    public long getEvaluationCount() {
+        long evaluations = misses.sum();
+        for (LongAdder hit : hits) {
+            evaluations += hit.sum();
+        }
+        return evaluations;
+    }
+
+    /**
+     * Number of evaluations that executed branch
+     *
+     * @param branch branch index, in declaration order
+     * @return hit count
+     */
+    public long getHitCount(int branch) {
+        return hits[branch].sum();
+    }
+
+    /**
+     * Number of times a different order was published
+     *
+     * @return reorder count
+     */
+    public long getReorderCount() {
+        return reorders;
+    }
+
+    public boolean isExclusive() {
+        return exclusive;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AdaptiveOrder[Order=%s, Exclusive=%s, AverageComparisons=%.2f, Reorders=%s]",
+                Arrays.toString(order), exclusive, getAverageComparisons(), reorders);
+    }
+}
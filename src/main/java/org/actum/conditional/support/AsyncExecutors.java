@@ -0,0 +1,87 @@
+package org.actum.conditional.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Default executor of the async conditionals.
+ * Starts as a virtual-thread-per-task executor when the runtime has virtual threads (JDK 21+),
+ * so blocking branch actions do not pin platform threads, and as the common fork/join pool otherwise.
+ * Usage:
+ * AsyncExecutors.setDefault(executor);
+ */
+public final class AsyncExecutors {
+
+    private static final Executor VIRTUAL_THREADS = virtualThreadsOrNull();
+    private static volatile Executor defaultExecutor = fallback();
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * Executor running async actions when none is given to the chain
+     *
+     * @return default executor
+     */
+    public static Executor getDefault() {
+        return defaultExecutor;
+    }
+
+    /**
+     * Replaces the default executor, chains already started keep theirs
+     *
+     * @param executor executor
+     */
+    public static void setDefault(Executor executor) {
+        checkNotNull(executor);
+        defaultExecutor = executor;
+    }
+
+    /**
+     * Restores the initial default executor
+     */
+    public static void reset() {
+        defaultExecutor = fallback();
+    }
+
+    /**
+     * Whether the runtime has virtual threads
+     *
+     * @return true on JDK 21+
+     */
+    public static boolean hasVirtualThreads() {
+        return VIRTUAL_THREADS != null;
+    }
+
+    /**
+     * Executor starting a virtual thread per task
+     *
+     * @return executor
+     * @throws UnsupportedOperationException if the runtime has no virtual threads
+     */
+    public static Executor virtualThreads() {
+        if (VIRTUAL_THREADS == null) {
+            throw new UnsupportedOperationException("Virtual threads need JDK 21 or later");
+        }
+        return VIRTUAL_THREADS;
+    }
+
+    private static Executor fallback() {
+        return VIRTUAL_THREADS != null ? VIRTUAL_THREADS : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Looked up reflectively so the library keeps compiling for JDK 17
+     */
+    private static Executor virtualThreadsOrNull() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+}
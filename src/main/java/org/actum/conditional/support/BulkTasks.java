@@ -0,0 +1,134 @@
+package org.actum.conditional.support;
+
+import org.actum.conditional.BulkMode;
+
+import java.util.Spliterator;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Runs an action over every index of a batch, or every element of a spliterator, sequentially or on the
+ * common fork/join pool. Parallel batches are halved until a chunk is below a size threshold derived from
+ * the batch size and the pool parallelism, so each worker gets a few chunks to steal and no chunk
+ * is small enough for the task overhead to dominate.
+ * The first failing action fails the whole batch, chunks already running are not interrupted.
+ */
+public final class BulkTasks {
+
+    static final int MIN_CHUNK = 1024;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private BulkTasks() {
+    }
+
+    /**
+     * Runs action for every index in [0, size)
+     *
+     * @param size   number of indexes
+     * @param mode   sequential or parallel
+     * @param action action run with each index
+     */
+    public static void forEachIndex(int size, BulkMode mode, IntConsumer action) {
+        checkNotNull(mode);
+        checkNotNull(action);
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        int chunk = chunk(size);
+        if (mode == BulkMode.SEQUENTIAL || size <= chunk) {
+            for (int i = 0; i < size; i++) {
+                action.accept(i);
+            }
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new IndexTask(0, size, chunk, action));
+    }
+
+    /**
+     * Runs action for every remaining element of source, in encounter order only when sequential
+     *
+     * @param source elements
+     * @param mode   sequential or parallel
+     * @param action action run with each element, thread-safe when parallel
+     */
+    public static <T> void forEachRemaining(Spliterator<T> source, BulkMode mode, Consumer<? super T> action) {
+        checkNotNull(source);
+        checkNotNull(mode);
+        checkNotNull(action);
+        if (mode == BulkMode.SEQUENTIAL) {
+            source.forEachRemaining(action);
+            return;
+        }
+        long size = source.estimateSize();
+        long chunk = size == Long.MAX_VALUE ? MIN_CHUNK : chunk(size);
+        ForkJoinPool.commonPool().invoke(new SpliteratorTask<>(null, source, chunk, action));
+    }
+
+    static int chunk(long size) {
+        long perWorker = size / ((long) ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_WORKER);
+        return (int) Math.max(MIN_CHUNK, Math.min(perWorker, Integer.MAX_VALUE));
+    }
+
+    private static final class IndexTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final IntConsumer action;
+
+        private IndexTask(int from, int to, int chunk, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new IndexTask(from, middle, chunk, action), new IndexTask(middle, to, chunk, action));
+        }
+    }
+
+    /**
+     * Forks the split-off prefix of the spliterator and keeps the rest, the way parallel streams do,
+     * so spliterators splitting unevenly still spread over the pool
+     */
+    private static final class SpliteratorTask<T> extends CountedCompleter<Void> {
+        private static final long serialVersionUID = 1L;
+        private final Spliterator<T> source;
+        private final long chunk;
+        private final Consumer<? super T> action;
+
+        private SpliteratorTask(CountedCompleter<?> parent, Spliterator<T> source, long chunk,
+                                Consumer<? super T> action) {
+            super(parent);
+            this.source = source;
+            this.chunk = chunk;
+            this.action = action;
+        }
+
+        @Override
+        public void compute() {
+            Spliterator<T> rest = source;
+            Spliterator<T> prefix;
+            while (rest.estimateSize() > chunk && (prefix = rest.trySplit()) != null) {
+                addToPendingCount(1);
+                new SpliteratorTask<>(this, prefix, chunk, action).fork();
+            }
+            rest.forEachRemaining(action);
+            propagateCompletion();
+        }
+    }
+}
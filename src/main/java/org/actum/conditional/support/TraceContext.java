@@ -0,0 +1,143 @@
+package org.actum.conditional.support;
+
+import org.actum.logger.ActumLogger;
+import org.actum.logger.LogLevel;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchKind;
+import org.actum.metrics.BranchMetrics;
+import org.actum.util.Formatter;
+import org.actum.visibility.TraceSampler;
+
+/**
+ * Immutable snapshot of the label, description and logging settings of a compiled definition or of an async step.
+ * The label is normalized once when the snapshot is taken, never on the evaluation path.
+ */
+public final class TraceContext {
+    private static final String NO_DESCRIPTION = "No description provided!";
+
+    private final String label;
+    private final String normalizedLabel;
+    private final String description;
+    private final boolean traceable;
+    private final TraceSampler sampler;
+    private final ActumLogger logger;
+    private final BranchMetrics metrics;
+
+    TraceContext(String label, String description, TraceSampler sampler, ActumLogger logger, ActumMetrics metrics,
+                 String defaultLabel) {
+        this.label = label == null || label.isBlank() ? defaultLabel : label;
+        this.normalizedLabel = Formatter.normalize(label, defaultLabel);
+        this.description = description == null ? NO_DESCRIPTION : description;
+        this.traceable = sampler != null;
+        this.sampler = sampler;
+        this.logger = logger;
+        this.metrics = metrics == null ? null : metrics.branch(normalizedLabel);
+    }
+
+    /**
+     * Snapshot of the current settings of a fluent definition, e.g. taken when an async step is composed
+     *
+     * @param label        label, the default label if blank
+     * @param description  description
+     * @param sampler      trace sampler, null when not traced
+     * @param logger       logger
+     * @param metrics      metrics registry, null when not measured
+     * @param defaultLabel label used when none was given
+     * @return snapshot
+     */
+    public static TraceContext of(String label, String description, TraceSampler sampler, ActumLogger logger,
+                                  ActumMetrics metrics, String defaultLabel) {
+        return new TraceContext(label, description, sampler, logger, metrics, defaultLabel);
+    }
+
+    /**
+     * Logs execution of a block
+     *
+     * @param block   block name, e.g. CaseOf
+     * @param matched whether a case matched
+     */
+    public void executing(String block, boolean matched) {
+        if (traceable && logger.isEnabled(LogLevel.DEBUG) && sampler.sample(normalizedLabel, matched)) {
+            logger.log(LogLevel.DEBUG, "[ {} ] Executing {} block (matched={}), (description={})",
+                    normalizedLabel, block, matched, description);
+        }
+    }
+
+    /**
+     * Logs that an exception is about to be thrown and counts it
+     *
+     * @param exception exception supplier
+     * @param matched   whether a case matched
+     */
+    public void throwing(Object exception, boolean matched) {
+        if (metrics != null) {
+            metrics.hit(BranchKind.THROWS);
+        }
+        if (traceable && logger.isEnabled(LogLevel.DEBUG) && sampler.sample(normalizedLabel, matched)) {
+            logger.log(LogLevel.DEBUG, "[ {} ] Throwing Exception (exception={}), (matched={}), (description={})",
+                    normalizedLabel, exception.getClass().getSimpleName(), matched, description);
+        }
+    }
+
+    /**
+     * Starts timing an action
+     *
+     * @return start timestamp, 0 when the action is not timed
+     */
+    public long start() {
+        return metrics == null ? 0L : metrics.start();
+    }
+
+    /**
+     * Counts a branch selection that runs no timed action, e.g. an element routed downstream
+     *
+     * @param kind   branch kind
+     * @param branch branch position
+     */
+    public void hit(BranchKind kind, int branch) {
+        if (metrics != null) {
+            metrics.hit(kind, branch);
+        }
+    }
+
+    /**
+     * Records a completed action
+     *
+     * @param kind   branch kind
+     * @param branch branch position
+     * @param start  timestamp returned by {@link #start()}
+     */
+    public void record(BranchKind kind, int branch, long start) {
+        if (metrics != null) {
+            metrics.complete(kind, branch, start);
+        }
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getNormalizedLabel() {
+        return normalizedLabel;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isTraceable() {
+        return traceable;
+    }
+
+    public TraceSampler getSampler() {
+        return sampler;
+    }
+
+    public ActumLogger getLogger() {
+        return logger;
+    }
+
+    public BranchMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,270 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.AdaptiveOrder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.GenericArrays;
+import org.actum.visibility.Debuggable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable chain of predicate branches computing a result, whose evaluation order adapts to the observed traffic.
+ * Branches are tested by decreasing priority. When the branches are declared mutually exclusive,
+ * branches of equal priority are periodically re-sorted so that the most hit ones are tested first,
+ * see {@link AdaptiveOrder}. Without that declaration branches of equal priority keep their declaration order,
+ * as the first matching branch would otherwise change.
+ * Usage:
+ * AdaptiveIfValue&lt;I, R&gt; mapper = AdaptiveIfValue.&lt;I, R&gt;builder()
+ * .branch(condition-1, function-1)
+ * .branch(condition-2, function-2)
+ * .exclusive()
+ * .elseThen(function)
+ * .build();
+ * R result = mapper.evaluate(input);
+ *
+ * @param <I> input type
+ * @param <R> result type
+ */
+public final class AdaptiveIfValue<I, R> implements Debuggable {
+
+    private final Predicate<? super I>[] conditions;
+    private final Function<? super I, ? extends R>[] actions;
+    private final Function<? super I, ? extends R> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+    private final AdaptiveOrder order;
+
+    private AdaptiveIfValue(Predicate<? super I>[] conditions, Function<? super I, ? extends R>[] actions,
+                            Function<? super I, ? extends R> fallback, Supplier<? extends RuntimeException> exception,
+                            TraceContext trace, AdaptiveOrder order) {
+        this.conditions = conditions;
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+        this.order = order;
+    }
+
+    /**
+     * Starts chain definition
+     *
+     * @return builder
+     */
+    public static <I, R> Builder<I, R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Computes the result of the first branch, in the current evaluation order, whose condition holds for input,
+     * or the else result
+     *
+     * @param input input
+     * @return result, or null if no branch matched and no else function was provided
+     */
+    public R evaluate(I input) {
+        int[] branches = order.order();
+        for (int i = 0; i < branches.length; i++) {
+            int branch = branches[i];
+            if (conditions[branch].test(input)) {
+                order.completed(branch, i + 1);
+                trace.executing(branch == 0 ? "Then" : "ElseIf", true);
+                long start = trace.start();
+                R result = actions[branch].apply(input);
+                trace.record(branch == 0 ? BranchKind.THEN : BranchKind.ELSE_IF, branch, start);
+                return result;
+            }
+        }
+        order.completed(AdaptiveOrder.NONE, branches.length);
+        if (fallback != null) {
+            trace.executing("ElseThen", false);
+            long start = trace.start();
+            R result = fallback.apply(input);
+            trace.record(BranchKind.ELSE_THEN, conditions.length, start);
+            return result;
+        }
+        if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return null;
+    }
+
+    /**
+     * Evaluation order and hit statistics
+     *
+     * @return adaptive order
+     */
+    public AdaptiveOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Number of branches, else excluded
+     *
+     * @return number of branches
+     */
+    public int size() {
+        return conditions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("AdaptiveIfValue[Label=%s, Description=%s, Traceable=%s, Branches=%s, Order=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), conditions.length, order);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link AdaptiveIfValue}
+     *
+     * @param <I> input type
+     * @param <R> result type
+     */
+    public static final class Builder<I, R> extends AbstractBuilder<Builder<I, R>> {
+
+        private static final int DEFAULT_INTERVAL = 10_000;
+
+        private final List<Predicate<? super I>> conditions = new ArrayList<>();
+        private final List<Function<? super I, ? extends R>> actions = new ArrayList<>();
+        private final List<Integer> priorities = new ArrayList<>();
+        private Function<? super I, ? extends R> fallback;
+        private Supplier<? extends RuntimeException> exception;
+        private boolean exclusive;
+        private int interval = DEFAULT_INTERVAL;
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers branch of priority 0
+         *
+         * @param condition logical condition on input
+         * @param action    function computing the result
+         * @return builder
+         */
+        public Builder<I, R> branch(Predicate<? super I> condition, Function<? super I, ? extends R> action) {
+            return branch(0, condition, action);
+        }
+
+        /**
+         * Registers branch, branches of higher priority are always tested first
+         *
+         * @param priority  priority
+         * @param condition logical condition on input
+         * @param action    function computing the result
+         * @return builder
+         */
+        public Builder<I, R> branch(int priority, Predicate<? super I> condition,
+                                    Function<? super I, ? extends R> action) {
+            checkNotNull(condition);
+            checkNotNull(action);
+            conditions.add(condition);
+            actions.add(action);
+            priorities.add(priority);
+            return this;
+        }
+
+        /**
+         * Declares that at most one branch condition holds for any input, allowing branches of equal priority
+         * to be reordered
+         *
+         * @return builder
+         */
+        public Builder<I, R> exclusive() {
+            this.exclusive = true;
+            return this;
+        }
+
+        /**
+         * Reorders on average once every interval evaluations, 10 000 by default
+         *
+         * @param interval evaluations between reorders
+         * @return builder
+         */
+        public Builder<I, R> reorderEvery(int interval) {
+            if (interval < 1) {
+                throw new IllegalArgumentException("Reorder interval must be at least 1");
+            }
+            this.interval = interval;
+            return this;
+        }
+
+        /**
+         * Runs reorders on executor, the common fork/join pool by default
+         *
+         * @param executor executor
+         * @return builder
+         */
+        public Builder<I, R> reorderOn(Executor executor) {
+            checkNotNull(executor);
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Registers function computing the result if no branch matches
+         *
+         * @param action function computing the result
+         * @return builder
+         */
+        public Builder<I, R> elseThen(Function<? super I, ? extends R> action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if no branch matches
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<I, R> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable chain
+         *
+         * @return adaptive chain
+         */
+        public AdaptiveIfValue<I, R> build() {
+            int[] priority = priorities.stream().mapToInt(Integer::intValue).toArray();
+            return new AdaptiveIfValue<>(GenericArrays.toArray(Predicate.class, conditions), GenericArrays.toArray(Function.class, actions),
+                    fallback, exception, traceContext(AdaptiveIfValue.class.getSimpleName()),
+                    new AdaptiveOrder(priority, exclusive, interval, executor));
+        }
+    }
+}
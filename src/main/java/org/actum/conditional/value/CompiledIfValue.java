@@ -0,0 +1,125 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.core.CompiledIf;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.MemoCache;
+import org.actum.visibility.Debuggable;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, reusable form of {@link IfValue} evaluated against an input.
+ * Branches are tested in declaration order and the first matching one computes the result.
+ * Thread-safe, see {@link CompiledIf}.
+ * Usage:
+ * CompiledIfValue&lt;I, R&gt; tier = IfValue.&lt;I, R&gt;builder()
+ * .when(condition, function)
+ * .elseIf(condition, function)
+ * .elseThen(function)
+ * .build();
+ * R result = tier.evaluate(input);
+ *
+ * @param <I> input type
+ * @param <R> result type
+ */
+public final class CompiledIfValue<I, R> implements Debuggable {
+
+    private final Predicate<? super I>[] conditions;
+    private final Function<? super I, ? extends R>[] actions;
+    private final Function<? super I, ? extends R> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+    private final MemoCache<I, R> cache;
+    private final Function<I, R> compute = this::compute;
+
+    CompiledIfValue(Predicate<? super I>[] conditions, Function<? super I, ? extends R>[] actions,
+                    Function<? super I, ? extends R> fallback, Supplier<? extends RuntimeException> exception,
+                    TraceContext trace, MemoCache<I, R> cache) {
+        this.conditions = conditions;
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+        this.cache = cache;
+    }
+
+    /**
+     * Computes the result of the first branch whose condition holds for input, or the else result.
+     * Memoized definitions return the cached result of input when present, skipping the action, its trace and metrics.
+     *
+     * @param input input
+     * @return result, or null if nothing matched and no else was provided
+     */
+    public R evaluate(I input) {
+        return cache == null ? compute(input) : cache.get(input, compute);
+    }
+
+    private R compute(I input) {
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].test(input)) {
+                trace.executing(i == 0 ? "Then" : "ElseIf", true);
+                long start = trace.start();
+                R result = actions[i].apply(input);
+                trace.record(i == 0 ? BranchKind.THEN : BranchKind.ELSE_IF, i, start);
+                return result;
+            }
+        }
+        if (fallback != null) {
+            trace.executing("ElseThen", false);
+            long start = trace.start();
+            R result = fallback.apply(input);
+            trace.record(BranchKind.ELSE_THEN, conditions.length, start);
+            return result;
+        }
+        if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return null;
+    }
+
+    /**
+     * Number of branches, else excluded
+     *
+     * @return number of branches
+     */
+    public int size() {
+        return conditions.length;
+    }
+
+    /**
+     * Cache of memoized results
+     *
+     * @return cache, or null if the definition is not memoized
+     */
+    public MemoCache<I, R> getCache() {
+        return cache;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("CompiledIfValue[Label=%s, Description=%s, Traceable=%s, Branches=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), conditions.length);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+}
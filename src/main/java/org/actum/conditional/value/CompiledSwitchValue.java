@@ -0,0 +1,249 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.BulkMode;
+import org.actum.conditional.core.CompiledIf;
+import org.actum.conditional.support.BulkTasks;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.GenericArrays;
+import org.actum.util.MemoCache;
+import org.actum.util.RangeLookup;
+import org.actum.visibility.Debuggable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable, reusable form of {@link SwitchValue} built once and evaluated many times.
+ * Cases are indexed in a hash table, so dispatch is a single lookup and allocates nothing.
+ * Range cases are searched by binary search once no equality case matched, predicate cases are tested last,
+ * so the builder only accepts cases declared in that order and the fluent form of a definition gives the same result.
+ * Thread-safe, see {@link CompiledIf}.
+ * Usage:
+ * CompiledSwitchValue&lt;Integer, String&gt; mapper = SwitchValue.&lt;Integer, String&gt;builder()
+ * .caseOf(case-1, supplier-1)
+ * .caseOf(case-2, supplier-2)
+ * .caseInRange(low, high, supplier-3)
+ * .caseWhen(condition, supplier-4)
+ * .defaultOf(default-supplier)
+ * .build();
+ * String result = mapper.dispatch(input);
+ * String[] results = mapper.mapAll(inputs, new String[inputs.length], BulkMode.PARALLEL);
+ *
+ * @param <I> input type
+ * @param <R> result type
+ */
+public final class CompiledSwitchValue<I, R> implements Debuggable {
+
+    private final Map<I, Integer> indexes;
+    private final Supplier<R>[] actions;
+    private final RangeLookup ranges;
+    private final int rangeOffset;
+    private final Predicate<? super I>[] conditions;
+    private final int conditionOffset;
+    private final Supplier<R> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+    private final MemoCache<I, R> cache;
+    private final Function<I, R> compute = this::compute;
+
+    CompiledSwitchValue(Map<I, Supplier<R>> cases, RangeLookup ranges, Supplier<R>[] rangeActions,
+                        Predicate<? super I>[] conditions, Supplier<R>[] conditionActions, Supplier<R> fallback,
+                        Supplier<? extends RuntimeException> exception, TraceContext trace,
+                        MemoCache<I, R> cache) {
+        this.indexes = new HashMap<>();
+        this.actions = GenericArrays.newArray(Supplier.class, cases.size() + rangeActions.length + conditionActions.length);
+        int branch = 0;
+        for (Map.Entry<I, Supplier<R>> entry : cases.entrySet()) {
+            indexes.put(entry.getKey(), branch);
+            actions[branch++] = entry.getValue();
+        }
+        this.ranges = ranges;
+        this.rangeOffset = branch;
+        System.arraycopy(rangeActions, 0, actions, rangeOffset, rangeActions.length);
+        this.conditions = conditions;
+        this.conditionOffset = rangeOffset + rangeActions.length;
+        System.arraycopy(conditionActions, 0, actions, conditionOffset, conditionActions.length);
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+        this.cache = cache;
+    }
+
+    /**
+     * Computes the result of the case matching input, or the default result.
+     * Memoized definitions return the cached result of input when present, skipping the action, its trace and metrics.
+     *
+     * @param input input object
+     * @return result, or null if nothing matched and no default was provided
+     */
+    public R dispatch(I input) {
+        return cache == null ? compute(input) : cache.get(input, compute);
+    }
+
+    private R compute(I input) {
+        Integer index = indexes.get(input);
+        int branch = index != null ? index : unindexed(input);
+        if (branch != RangeLookup.MISSING) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            R result = actions[branch].get();
+            trace.record(BranchKind.CASE_OF, branch, start);
+            return result;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            R result = fallback.get();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+            return result;
+        }
+        if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return null;
+    }
+
+    /**
+     * Computes the result of every input in order on the calling thread, see {@link #dispatch(Object)}
+     *
+     * @param inputs inputs
+     * @return unmodifiable list of results, results[i] of inputs[i]
+     */
+    public List<R> mapAll(List<? extends I> inputs) {
+        return mapAll(inputs, BulkMode.SEQUENTIAL);
+    }
+
+    /**
+     * Computes the result of every input, see {@link #dispatch(Object)}
+     *
+     * @param inputs inputs
+     * @param mode   sequential, or parallel on the common fork/join pool
+     * @return unmodifiable list of results, results[i] of inputs[i]
+     */
+    @SuppressWarnings("unchecked")
+    public List<R> mapAll(List<? extends I> inputs, BulkMode mode) {
+        checkNotNull(inputs);
+        I[] values = (I[]) (inputs instanceof RandomAccess ? null : inputs.toArray());
+        R[] results = (R[]) new Object[values == null ? inputs.size() : values.length];
+        if (values == null) {
+            BulkTasks.forEachIndex(results.length, mode, i -> results[i] = dispatch(inputs.get(i)));
+        } else {
+            BulkTasks.forEachIndex(results.length, mode, i -> results[i] = dispatch(values[i]));
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Computes the result of every input into results in order on the calling thread, see {@link #dispatch(Object)}
+     *
+     * @param inputs  inputs
+     * @param results preallocated results, at least as long as inputs
+     * @return results, results[i] of inputs[i]
+     */
+    public R[] mapAll(I[] inputs, R[] results) {
+        return mapAll(inputs, results, BulkMode.SEQUENTIAL);
+    }
+
+    /**
+     * Computes the result of every input into results, see {@link #dispatch(Object)}
+     *
+     * @param inputs  inputs
+     * @param results preallocated results, at least as long as inputs
+     * @param mode    sequential, or parallel on the common fork/join pool
+     * @return results, results[i] of inputs[i]
+     */
+    public R[] mapAll(I[] inputs, R[] results, BulkMode mode) {
+        checkNotNull(inputs);
+        checkNotNull(results);
+        if (results.length < inputs.length) {
+            throw new IllegalArgumentException("Results must be at least as long as inputs");
+        }
+        BulkTasks.forEachIndex(inputs.length, mode, i -> results[i] = dispatch(inputs[i]));
+        return results;
+    }
+
+    /**
+     * Computes the result of every remaining input of a spliterator and passes it to sink, see {@link #dispatch(Object)}.
+     * Parallel evaluation splits the spliterator on the common fork/join pool:
+     * sink is then called concurrently and out of order.
+     *
+     * @param inputs inputs
+     * @param sink   receives every result, thread-safe when parallel
+     * @param mode   sequential, or parallel on the common fork/join pool
+     */
+    public void mapAll(Spliterator<? extends I> inputs, Consumer<? super R> sink, BulkMode mode) {
+        checkNotNull(sink);
+        BulkTasks.forEachRemaining(inputs, mode, input -> sink.accept(dispatch(input)));
+    }
+
+    private int unindexed(I input) {
+        if (rangeOffset == actions.length) {
+            return RangeLookup.MISSING;
+        }
+        int range = ranges.indexOf(input);
+        if (range != RangeLookup.MISSING) {
+            return rangeOffset + range;
+        }
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].test(input)) {
+                return conditionOffset + i;
+            }
+        }
+        return RangeLookup.MISSING;
+    }
+
+    /**
+     * Number of cases, range and predicate cases included
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return actions.length;
+    }
+
+    /**
+     * Cache of memoized results
+     *
+     * @return cache, or null if the definition is not memoized
+     */
+    public MemoCache<I, R> getCache() {
+        return cache;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("CompiledSwitchValue[Label=%s, Description=%s, Traceable=%s, Cases=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), size());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+}
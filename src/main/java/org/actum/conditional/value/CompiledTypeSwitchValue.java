@@ -0,0 +1,103 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.TypeLookup;
+import org.actum.visibility.Debuggable;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, reusable value switch on the runtime type of its input.
+ * The most specific case of each concrete class is resolved once and cached in a ClassValue,
+ * so dispatch is a single per-class lookup however many cases there are, see {@link TypeLookup}.
+ * Usage:
+ * CompiledTypeSwitchValue&lt;R&gt; mapper = TypeSwitchValue.&lt;R&gt;builder()
+ * .caseOf(Type1.class, function-1)
+ * .caseOf(Type2.class, function-2)
+ * .defaultOf(default-supplier)
+ * .build();
+ * R result = mapper.dispatch(input);
+ *
+ * @param <R> result type
+ */
+public final class CompiledTypeSwitchValue<R> implements Debuggable {
+
+    private final TypeLookup lookup;
+    private final Function<Object, R>[] actions;
+    private final Supplier<R> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    CompiledTypeSwitchValue(Class<?>[] types, Function<Object, R>[] actions, Supplier<R> fallback,
+                            Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.lookup = TypeLookup.of(types);
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Computes the result of the most specific case matching the type of input, or the default result
+     *
+     * @param input input, null never matches a case
+     * @return result, or null if nothing matched and no default was provided
+     */
+    public R dispatch(Object input) {
+        int index = lookup.indexOf(input);
+        if (index != TypeLookup.MISSING) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            R result = actions[index].apply(input);
+            trace.record(BranchKind.CASE_OF, index, start);
+            return result;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            R result = fallback.get();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+            return result;
+        }
+        if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return null;
+    }
+
+    /**
+     * Number of cases
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return actions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("CompiledTypeSwitchValue[Label=%s, Description=%s, Traceable=%s, Cases=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), actions.length);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+}
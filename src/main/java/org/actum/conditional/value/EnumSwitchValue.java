@@ -0,0 +1,172 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.GenericArrays;
+import org.actum.visibility.Debuggable;
+
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable value switch on enum input, dispatches through an ordinal-indexed table.
+ * Usage:
+ * EnumSwitchValue&lt;E, R&gt; mapper = EnumSwitchValue.&lt;E, R&gt;builder(E.class)
+ * .caseOf(E.A, supplier-1)
+ * .caseOf(E.B, supplier-2)
+ * .defaultOf(default-supplier)
+ * .build();
+ * R result = mapper.dispatch(constant);
+ *
+ * @param <E> enum type
+ * @param <R> result type
+ */
+public final class EnumSwitchValue<E extends Enum<E>, R> implements Debuggable {
+
+    private final Supplier<R>[] actions;
+    private final Supplier<R> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    private EnumSwitchValue(Supplier<R>[] actions, Supplier<R> fallback,
+                            Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Starts switch definition
+     *
+     * @param type enum class
+     * @return builder
+     */
+    public static <E extends Enum<E>, R> Builder<E, R> builder(Class<E> type) {
+        checkNotNull(type);
+        return new Builder<>(type);
+    }
+
+    /**
+     * Computes the result of the case matching input, or the default result
+     *
+     * @param input input, null never matches a case
+     * @return result, or null if nothing matched and no default was provided
+     */
+    public R dispatch(E input) {
+        Supplier<R> action = input == null ? null : actions[input.ordinal()];
+        if (action != null) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            R result = action.get();
+            trace.record(BranchKind.CASE_OF, input.ordinal(), start);
+            return result;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            R result = fallback.get();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+            return result;
+        }
+        if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return null;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("EnumSwitchValue[Label=%s, Description=%s, Traceable=%s, Constants=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), actions.length);
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link EnumSwitchValue}
+     *
+     * @param <E> enum type
+     * @param <R> result type
+     */
+    public static final class Builder<E extends Enum<E>, R> extends AbstractBuilder<Builder<E, R>> {
+
+        private final Supplier<R>[] actions;
+        private Supplier<R> fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder(Class<E> type) {
+            this.actions = GenericArrays.newArray(Supplier.class, type.getEnumConstants().length);
+        }
+
+        /**
+         * Registers case, the first registration of a constant wins
+         *
+         * @param match  constant to match
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<E, R> caseOf(E match, Supplier<R> action) {
+            checkNotNull(match);
+            checkNotNull(action);
+            if (actions[match.ordinal()] == null) {
+                actions[match.ordinal()] = action;
+            }
+            return this;
+        }
+
+        /**
+         * Registers default action executed if none of the cases match
+         *
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<E, R> defaultOf(Supplier<R> action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<E, R> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         *
+         * @return switch
+         */
+        public EnumSwitchValue<E, R> build() {
+            return new EnumSwitchValue<>(actions.clone(), fallback, exception, traceContext(EnumSwitchValue.class.getSimpleName()));
+        }
+    }
+}
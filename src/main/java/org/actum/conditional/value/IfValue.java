@@ -1,32 +1,54 @@
 package org.actum.conditional.value;
 
+import org.actum.conditional.support.AbstractBuilder;
 import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
 import org.actum.logger.LogLevel;
 import org.actum.logger.LoggerSupport;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchEvent;
+import org.actum.metrics.BranchKind;
+import org.actum.metrics.BranchMetrics;
 import org.actum.util.Formatter;
+import org.actum.util.GenericArrays;
+import org.actum.util.MemoCache;
 import org.actum.visibility.Debuggable;
 import org.actum.visibility.Describable;
+import org.actum.visibility.Measurable;
+import org.actum.visibility.TraceSampler;
 import org.actum.visibility.Traceable;
 import org.actum.visibility.Viewable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static org.actum.util.Validator.checkNotNull;
 
 public class IfValue<T> implements Debuggable,
         Traceable<IfValue<T>>,
+        Measurable<IfValue<T>>,
         Viewable<IfValue<T>>,
         Describable<IfValue<T>>,
         LoggerSupport<IfValue<T>> {
 
+    private static final String DEFAULT_LABEL = Formatter.normalize(null, "IfValue");
     private boolean matched;
     private String label;
+    private String normalizedLabel = DEFAULT_LABEL;
     private String description;
     private boolean traceable = false;
+    private TraceSampler sampler = TraceSampler.always();
     private T result;
-    private ActumLogger logger = ((logLevel, message) -> {
-    });
+    private ActumLogger logger = ActumLoggerFactory.noOp();
+    private ActumMetrics metrics;
+    private BranchMetrics branchMetrics;
+    private int branches;
 
     private IfValue() {
     }
@@ -45,6 +67,26 @@ public class IfValue<T> implements Debuggable,
         return instance;
     }
 
+    /**
+     * Accepts lazily evaluated condition on what act upon
+     *
+     * @param condition logical condition
+     * @return instance of type T
+     */
+    public static <T> IfValue<T> when(BooleanSupplier condition) {
+        checkNotNull(condition);
+        return when(condition.getAsBoolean());
+    }
+
+    /**
+     * Starts a reusable chain evaluated against an input, see {@link CompiledIfValue}
+     *
+     * @return builder
+     */
+    public static <I, R> Builder<I, R> builder() {
+        return new Builder<>();
+    }
+
     /**
      * Acts based on action
      *
@@ -53,10 +95,13 @@ public class IfValue<T> implements Debuggable,
      */
     public IfValue<T> then(Supplier<T> action) {
         checkNotNull(action);
+        int branch = this.branches++;
         if (this.matched) {
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing Then block (matched=%s), (description=%s)",
-                    Formatter.normalize(this.label, this.getClass().getSimpleName()), this.matched, this.description), this.traceable);
-            result = action.get();
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing Then block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.description);
+            }
+            result = compute(BranchKind.THEN, branch, action);
         }
         return this;
     }
@@ -70,11 +115,36 @@ public class IfValue<T> implements Debuggable,
      */
     public IfValue<T> elseIf(boolean condition, Supplier<T> action) {
         checkNotNull(action);
+        int branch = this.branches++;
         if (!this.matched && condition) {
             this.matched = true;
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing ElseIf block (matched=%s), (condition=%s), (description=%s)",
-                    Formatter.normalize(this.label, this.getClass().getSimpleName()), this.matched, condition, this.description), this.traceable);
-            result = action.get();
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing ElseIf block (matched={}), (condition={}), (description={})",
+                        this.normalizedLabel, this.matched, condition, this.description);
+            }
+            result = compute(BranchKind.ELSE_IF, branch, action);
+        }
+        return this;
+    }
+
+    /**
+     * Accepts lazily evaluated condition and action, condition is only evaluated while nothing has matched
+     *
+     * @param condition logical condition
+     * @param action    action
+     * @return instance of type T
+     */
+    public IfValue<T> elseIf(BooleanSupplier condition, Supplier<T> action) {
+        checkNotNull(condition);
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!this.matched && condition.getAsBoolean()) {
+            this.matched = true;
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing ElseIf block (matched={}), (condition=true), (description={})",
+                        this.normalizedLabel, this.matched, this.description);
+            }
+            result = compute(BranchKind.ELSE_IF, branch, action);
         }
         return this;
     }
@@ -87,10 +157,13 @@ public class IfValue<T> implements Debuggable,
      */
     public T elseThen(Supplier<T> action) {
         checkNotNull(action);
+        int branch = this.branches++;
         if (!this.matched) {
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing ElseThen block (matched=%s), (description=%s)",
-                    Formatter.normalize(this.label, this.getClass().getSimpleName()), this.matched, this.description), this.traceable);
-            result = action.get();
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing ElseThen block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.description);
+            }
+            result = compute(BranchKind.ELSE_THEN, branch, action);
         }
         return result;
     }
@@ -102,8 +175,15 @@ public class IfValue<T> implements Debuggable,
      */
     public void orThrows(Supplier<? extends RuntimeException> exception) {
         if (!this.matched) {
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Throwing Exception (exception=%s), (matched=%s), (description=%s)",
-                    Formatter.normalize(this.label, this.getClass().getSimpleName()), exception.getClass().getSimpleName(), this.matched, this.description), this.traceable);
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Throwing Exception (exception={}), (matched={}), (description={})",
+                        this.normalizedLabel, exception.getClass().getSimpleName(), this.matched, this.description);
+            }
+            BranchMetrics branchMetrics = branchMetrics();
+            if (branchMetrics != null) {
+                branchMetrics.hit(BranchKind.THROWS);
+            }
+            BranchEvent.instant(this.normalizedLabel, BranchKind.THROWS, this.matched);
             throw exception.get();
         }
     }
@@ -114,6 +194,39 @@ public class IfValue<T> implements Debuggable,
         return this;
     }
 
+    /**
+     * Records branch hits per branch position, and action latency if the registry is timing,
+     * under the label set when the first branch runs
+     *
+     * @param metrics metrics registry
+     * @return instance
+     */
+    @Override
+    public IfValue<T> withMetrics(ActumMetrics metrics) {
+        checkNotNull(metrics);
+        this.metrics = metrics;
+        this.branchMetrics = null;
+        return this;
+    }
+
+    private T compute(BranchKind kind, int branch, Supplier<T> action) {
+        BranchEvent event = BranchEvent.start();
+        BranchMetrics branchMetrics = branchMetrics();
+        T value = branchMetrics == null ? action.get() : branchMetrics.get(kind, branch, action);
+        event.complete(this.normalizedLabel, kind, this.matched);
+        return value;
+    }
+
+    /**
+     * Metrics of the current label, resolved when the first branch executes so a label set afterwards leaves no orphan
+     */
+    private BranchMetrics branchMetrics() {
+        if (this.branchMetrics == null && this.metrics != null) {
+            this.branchMetrics = this.metrics.branch(this.normalizedLabel);
+        }
+        return this.branchMetrics;
+    }
+
     /**
      * Returns debuggable string
      *
@@ -133,6 +246,8 @@ public class IfValue<T> implements Debuggable,
     @Override
     public IfValue<T> label(String label) {
         this.label = label == null ? "" : label;
+        this.normalizedLabel = Formatter.normalize(this.label, "IfValue");
+        this.branchMetrics = null;
         return this;
     }
 
@@ -156,9 +271,29 @@ public class IfValue<T> implements Debuggable,
     @Override
     public IfValue<T> trace() {
         this.traceable = true;
+        this.sampler = TraceSampler.always();
+        return this;
+    }
+
+    /**
+     * Trace executions of current condition selected by sampler
+     *
+     * @param sampler trace sampler
+     * @return trace
+     */
+    @Override
+    public IfValue<T> trace(TraceSampler sampler) {
+        checkNotNull(sampler);
+        this.traceable = true;
+        this.sampler = sampler;
         return this;
     }
 
+    private boolean isTraced() {
+        return isLoggable(this.logger, LogLevel.DEBUG, this.traceable)
+                && this.sampler.sample(this.normalizedLabel, this.matched);
+    }
+
     /**
      * Used for side effects or debugging
      *
@@ -184,4 +319,120 @@ public class IfValue<T> implements Debuggable,
         consumer.accept(this);
         return this;
     }
+
+    /**
+     * Builder of {@link CompiledIfValue}
+     *
+     * @param <I> input type
+     * @param <R> result type
+     */
+    public static final class Builder<I, R> extends AbstractBuilder<Builder<I, R>> {
+
+        private final List<Predicate<? super I>> conditions = new ArrayList<>();
+        private final List<Function<? super I, ? extends R>> actions = new ArrayList<>();
+        private Function<? super I, ? extends R> fallback;
+        private Supplier<? extends RuntimeException> exception;
+        private int cacheSize;
+        private Duration cacheTtl = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers first branch
+         *
+         * @param condition logical condition on input
+         * @param action    function computing the result
+         * @return builder
+         */
+        public Builder<I, R> when(Predicate<? super I> condition, Function<? super I, ? extends R> action) {
+            if (!conditions.isEmpty()) {
+                throw new IllegalStateException("when must be the first branch, use elseIf");
+            }
+            return elseIf(condition, action);
+        }
+
+        /**
+         * Registers branch tested after the previous ones
+         *
+         * @param condition logical condition on input
+         * @param action    function computing the result
+         * @return builder
+         */
+        public Builder<I, R> elseIf(Predicate<? super I> condition, Function<? super I, ? extends R> action) {
+            checkNotNull(condition);
+            checkNotNull(action);
+            conditions.add(condition);
+            actions.add(action);
+            return this;
+        }
+
+        /**
+         * Registers function computing the result if no branch matches
+         *
+         * @param action function computing the result
+         * @return builder
+         */
+        public Builder<I, R> elseThen(Function<? super I, ? extends R> action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if no branch matches
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<I, R> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Caches results per input, keeping at most maximumSize of them
+         *
+         * @param maximumSize maximum number of cached results
+         * @return builder
+         */
+        public Builder<I, R> memoize(int maximumSize) {
+            return memoize(maximumSize, Duration.ZERO);
+        }
+
+        /**
+         * Caches results per input, keeping at most maximumSize of them for at most ttl
+         *
+         * @param maximumSize maximum number of cached results
+         * @param ttl         time to live, zero for no expiry
+         * @return builder
+         */
+        public Builder<I, R> memoize(int maximumSize, Duration ttl) {
+            checkNotNull(ttl);
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("Maximum size must be at least 1");
+            }
+            this.cacheSize = maximumSize;
+            this.cacheTtl = ttl;
+            return this;
+        }
+
+        /**
+         * Builds immutable chain
+         *
+         * @return compiled chain
+         */
+        public CompiledIfValue<I, R> build() {
+            return new CompiledIfValue<>(GenericArrays.toArray(Predicate.class, conditions), GenericArrays.toArray(Function.class, actions),
+                    fallback, exception, traceContext(CompiledIfValue.class.getSimpleName()),
+                    memoized());
+        }
+
+        private MemoCache<I, R> memoized() {
+            return cacheSize == 0 ? null : MemoCache.of(cacheSize, cacheTtl);
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.GenericArrays;
+import org.actum.util.LongLookup;
+import org.actum.visibility.Debuggable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable value switch on long input, dispatches without boxing.
+ * Compact case ranges are indexed by a dense array, sparse ones by an open-addressing long table.
+ * Usage:
+ * LongSwitchValue&lt;R&gt; mapper = LongSwitchValue.&lt;R&gt;builder()
+ * .caseOf(1, supplier-1)
+ * .caseOf(2, supplier-2)
+ * .defaultOf(default-supplier)
+ * .build();
+ * R result = mapper.dispatch(opcode);
+ *
+ * @param <R> result type
+ */
+public final class LongSwitchValue<R> implements Debuggable {
+
+    private final LongLookup lookup;
+    private final Supplier<R>[] actions;
+    private final Supplier<R> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    private LongSwitchValue(LongLookup lookup, Supplier<R>[] actions, Supplier<R> fallback,
+                            Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.lookup = lookup;
+        this.actions = actions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Starts switch definition
+     *
+     * @return builder
+     */
+    public static <R> Builder<R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Computes the result of the case matching input, or the default result
+     *
+     * @param input input
+     * @return result, or null if nothing matched and no default was provided
+     */
+    public R dispatch(long input) {
+        int index = lookup.indexOf(input);
+        if (index != LongLookup.MISSING) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            R result = actions[index].get();
+            trace.record(BranchKind.CASE_OF, index, start);
+            return result;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            R result = fallback.get();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+            return result;
+        }
+        if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return null;
+    }
+
+    /**
+     * Number of cases
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return actions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("LongSwitchValue[Label=%s, Description=%s, Traceable=%s, Cases=%s, Dense=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), actions.length, lookup.isDense());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link LongSwitchValue}
+     *
+     * @param <R> result type
+     */
+    public static final class Builder<R> extends AbstractBuilder<Builder<R>> {
+
+        private final Map<Long, Supplier<R>> cases = new LinkedHashMap<>();
+        private Supplier<R> fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers case, the first registration of a match wins
+         *
+         * @param match  value to match
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<R> caseOf(long match, Supplier<R> action) {
+            checkNotNull(action);
+            cases.putIfAbsent(match, action);
+            return this;
+        }
+
+        /**
+         * Registers default action executed if none of the cases match
+         *
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<R> defaultOf(Supplier<R> action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<R> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         *
+         * @return switch
+         */
+        public LongSwitchValue<R> build() {
+            long[] keys = new long[cases.size()];
+            Supplier<R>[] actions = GenericArrays.newArray(Supplier.class, cases.size());
+            int i = 0;
+            for (Map.Entry<Long, Supplier<R>> entry : cases.entrySet()) {
+                keys[i] = entry.getKey();
+                actions[i++] = entry.getValue();
+            }
+            return new LongSwitchValue<>(LongLookup.of(keys), actions, fallback, exception, traceContext(LongSwitchValue.class.getSimpleName()));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.util.GenericArrays;
+import org.actum.util.StringLookup;
+import org.actum.visibility.Debuggable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable value switch on String input.
+ * Exact cases are found by perfect hashing, so dispatch is one hash code read and a single equals.
+ * Prefix cases and case-insensitive switches are walked in a compact trie, the longest matching prefix wins.
+ * Usage:
+ * StringSwitchValue&lt;R&gt; mapper = StringSwitchValue.&lt;R&gt;builder()
+ * .caseOf("json", supplier-1)
+ * .casePrefix("text/", supplier-2)
+ * .defaultOf(default-supplier)
+ * .build();
+ * R result = mapper.dispatch(contentType);
+ *
+ * @param <R> result type
+ */
+public final class StringSwitchValue<R> implements Debuggable {
+
+    private final StringLookup lookup;
+    private final Supplier<R>[] actions;
+    private final Supplier<R>[] prefixActions;
+    private final Supplier<R> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    private StringSwitchValue(StringLookup lookup, Supplier<R>[] actions, Supplier<R>[] prefixActions,
+                              Supplier<R> fallback, Supplier<? extends RuntimeException> exception,
+                              TraceContext trace) {
+        this.lookup = lookup;
+        this.actions = actions;
+        this.prefixActions = prefixActions;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Starts switch definition
+     *
+     * @return builder
+     */
+    public static <R> Builder<R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Computes the result of the case equal to input, else of the longest prefix of input, else the default result
+     *
+     * @param input input, null never matches a case
+     * @return result, or null if nothing matched and no default was provided
+     */
+    public R dispatch(String input) {
+        Supplier<R> action = null;
+        int index = lookup.indexOf(input);
+        if (index != StringLookup.MISSING) {
+            action = actions[index];
+        } else if (prefixActions.length > 0) {
+            index = lookup.prefixIndexOf(input);
+            if (index != StringLookup.MISSING) {
+                action = prefixActions[index];
+                index += actions.length;
+            }
+        }
+        if (action != null) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            R result = action.get();
+            trace.record(BranchKind.CASE_OF, index, start);
+            return result;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            R result = fallback.get();
+            trace.record(BranchKind.DEFAULT_OF, actions.length + prefixActions.length, start);
+            return result;
+        }
+        if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return null;
+    }
+
+    /**
+     * Number of cases, prefix cases included
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return actions.length + prefixActions.length;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("StringSwitchValue[Label=%s, Description=%s, Traceable=%s, Cases=%s, Prefixes=%s, IgnoreCase=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), actions.length, prefixActions.length,
+                lookup.isIgnoreCase());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link StringSwitchValue}
+     *
+     * @param <R> result type
+     */
+    public static final class Builder<R> extends AbstractBuilder<Builder<R>> {
+
+        private final Map<String, Supplier<R>> cases = new LinkedHashMap<>();
+        private final Map<String, Supplier<R>> prefixes = new LinkedHashMap<>();
+        private boolean ignoreCase;
+        private Supplier<R> fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder() {
+        }
+
+        /**
+         * Matches cases and prefixes regardless of case
+         *
+         * @return builder
+         */
+        public Builder<R> ignoreCase() {
+            this.ignoreCase = true;
+            return this;
+        }
+
+        /**
+         * Registers case, the first registration of a match wins
+         *
+         * @param match  string to match
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<R> caseOf(String match, Supplier<R> action) {
+            checkNotNull(match);
+            checkNotNull(action);
+            cases.putIfAbsent(match, action);
+            return this;
+        }
+
+        /**
+         * Registers case matching inputs starting with prefix, used when no exact case matches
+         *
+         * @param prefix prefix to match
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<R> casePrefix(String prefix, Supplier<R> action) {
+            checkNotNull(prefix);
+            checkNotNull(action);
+            prefixes.putIfAbsent(prefix, action);
+            return this;
+        }
+
+        /**
+         * Registers default action executed if none of the cases match
+         *
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<R> defaultOf(Supplier<R> action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<R> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         *
+         * @return switch
+         */
+        public StringSwitchValue<R> build() {
+            StringLookup lookup = StringLookup.of(cases.keySet().toArray(new String[0]),
+                    prefixes.keySet().toArray(new String[0]), ignoreCase);
+            return new StringSwitchValue<>(lookup, GenericArrays.toArray(Supplier.class, cases.values()),
+                    GenericArrays.toArray(Supplier.class, prefixes.values()), fallback, exception,
+                    traceContext(StringSwitchValue.class.getSimpleName()));
+        }
+    }
+}
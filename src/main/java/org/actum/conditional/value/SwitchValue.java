@@ -1,33 +1,63 @@
 package org.actum.conditional.value;
 
+import org.actum.conditional.support.AbstractBuilder;
 import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
 import org.actum.logger.LogLevel;
 import org.actum.logger.LoggerSupport;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchEvent;
+import org.actum.metrics.BranchKind;
+import org.actum.metrics.BranchMetrics;
 import org.actum.util.Formatter;
+import org.actum.util.GenericArrays;
+import org.actum.util.MemoCache;
+import org.actum.util.RangeLookup;
 import org.actum.visibility.Debuggable;
 import org.actum.visibility.Describable;
+import org.actum.visibility.Measurable;
+import org.actum.visibility.TraceSampler;
 import org.actum.visibility.Traceable;
 import org.actum.visibility.Viewable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static org.actum.util.Validator.checkNotNull;
 
 public class SwitchValue<I, R> implements Debuggable,
         Traceable<SwitchValue<I, R>>,
+        Measurable<SwitchValue<I, R>>,
         Viewable<SwitchValue<I, R>>,
         Describable<SwitchValue<I, R>>,
         LoggerSupport<SwitchValue<I, R>> {
 
+    private static final String DEFAULT_LABEL = Formatter.normalize(null, "SwitchValue");
     private boolean matched;
     private String label;
+    private String normalizedLabel = DEFAULT_LABEL;
     private String description;
     private boolean traceable = false;
+    private TraceSampler sampler = TraceSampler.always();
     private I input;
+    private Supplier<R> selected;
+    private int selectedBranch;
+    private String selectedBlock;
+    private Supplier<R> fallback;
+    private int fallbackBranch;
+    private boolean computed;
     private R result;
-    private ActumLogger logger = ((logLevel, message) -> {
-    });
+    private ActumLogger logger = ActumLoggerFactory.noOp();
+    private ActumMetrics metrics;
+    private BranchMetrics branchMetrics;
+    private int branches;
 
     private SwitchValue(I input){
         this.input = input;
@@ -43,47 +73,143 @@ public class SwitchValue<I, R> implements Debuggable,
     }
 
     /**
-     * Matches case object with input and executes action
+     * Accepts Object as input for switching on its runtime type
+     * @param input input object
+     * @return type switch computing a result of type R
+     */
+    public static <R> TypeSwitchValue<R> onType(Object input){
+        return new TypeSwitchValue<>(input);
+    }
+
+    /**
+     * Starts a reusable switch definition, see {@link CompiledSwitchValue}
+     * @return builder
+     */
+    public static <I, R> Builder<I, R> builder(){
+        return new Builder<>();
+    }
+
+    /**
+     * Matches case object with input, the first matching case wins and its action runs when the result is requested
      * @param match object to match
      * @param action action to execute
      * @return instance of type R
      */
     public SwitchValue<I, R> caseOf(I match, Supplier<R> action){
         checkNotNull(action);
-        if (input.equals(match)){
+        int branch = this.branches++;
+        if (!matched && Objects.equals(input, match)){
+            this.matched = true;
+            this.selected = action;
+            this.selectedBranch = branch;
+            this.selectedBlock = "CaseOf";
+        }
+        return this;
+    }
+
+    /**
+     * Matches input in the half-open range [low, high), the first matching case wins.
+     * Only inputs of the same class as the bounds are in range.
+     * @param low inclusive lower bound
+     * @param high exclusive upper bound
+     * @param action action to execute
+     * @return instance of type R
+     */
+    public <C extends Comparable<? super C>> SwitchValue<I, R> caseInRange(C low, C high, Supplier<R> action){
+        RangeLookup.checkRange(low, high);
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!matched && RangeLookup.contains(low, high, input)){
+            this.matched = true;
+            this.selected = action;
+            this.selectedBranch = branch;
+            this.selectedBlock = "CaseInRange";
+        }
+        return this;
+    }
+
+    /**
+     * Matches input with condition, the first matching case wins
+     * @param condition logical condition on input
+     * @param action action to execute
+     * @return instance of type R
+     */
+    public SwitchValue<I, R> caseWhen(Predicate<? super I> condition, Supplier<R> action){
+        checkNotNull(condition);
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!matched && condition.test(input)){
             this.matched = true;
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing CaseOf block (matched=%s), (description=%s)",
-                    Formatter.normalize(this.label, this.getClass().getSimpleName()), this.matched, this.description), this.traceable);
-            result = action.get();
+            this.selected = action;
+            this.selectedBranch = branch;
+            this.selectedBlock = "CaseWhen";
         }
         return this;
     }
 
     /**
-     * Executes default action if no of the cases are true
+     * Registers default action, run when the result is requested if none of the cases matched
      * @param action action to execute
      * @return instance of type R
      */
     public SwitchValue<I, R> defaultOf(Supplier<R> action){
         checkNotNull(action);
-        this.matched = false;
-        log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Executing DefaultOf block (matched=%s), (description=%s)",
-                Formatter.normalize(this.label, this.getClass().getSimpleName()), this.matched, this.description), this.traceable);
-        result = action.get();
+        int branch = this.branches++;
+        if (!matched) {
+            this.fallback = action;
+            this.fallbackBranch = branch;
+        }
         return this;
     }
 
     /**
-     * Throws exception
+     * Computes the result of the matched case, or of the default action, on the first call only
+     * @return result, or null if nothing matched and no default action was registered
+     */
+    public R get(){
+        if (!computed) {
+            if (matched) {
+                traceExecuting(selectedBlock);
+                result = compute(BranchKind.CASE_OF, selectedBranch, selected);
+            } else if (fallback != null) {
+                traceExecuting("DefaultOf");
+                result = compute(BranchKind.DEFAULT_OF, fallbackBranch, fallback);
+            }
+            computed = true;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the result of the matched case, or of action if none of the cases matched
+     * @param action action computing the default result
+     * @return result
+     */
+    public R orElse(Supplier<R> action){
+        return defaultOf(action).get();
+    }
+
+    /**
+     * Throws exception if none of the cases matched
      *
      * @param exception exception to throw
+     * @return result of the matched case
      */
-    public void orThrows(Supplier<? extends RuntimeException> exception) {
+    public R orThrows(Supplier<? extends RuntimeException> exception) {
+        checkNotNull(exception);
         if (!this.matched) {
-            log(this.logger, LogLevel.DEBUG, () -> String.format("[ %s ] Throwing Exception (exception=%s), (matched=%s), (description=%s)",
-                    Formatter.normalize(this.label, this.getClass().getSimpleName()), exception.getClass().getSimpleName(), this.matched, this.description), this.traceable);
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Throwing Exception (exception={}), (matched={}), (description={})",
+                        this.normalizedLabel, exception.getClass().getSimpleName(), this.matched, this.description);
+            }
+            BranchMetrics branchMetrics = branchMetrics();
+            if (branchMetrics != null) {
+                branchMetrics.hit(BranchKind.THROWS);
+            }
+            BranchEvent.instant(this.normalizedLabel, BranchKind.THROWS, this.matched);
             throw exception.get();
         }
+        return get();
     }
 
     @Override
@@ -92,6 +218,46 @@ public class SwitchValue<I, R> implements Debuggable,
         return this;
     }
 
+    /**
+     * Records branch hits per branch position, and action latency if the registry is timing,
+     * under the label set when the first branch runs
+     *
+     * @param metrics metrics registry
+     * @return instance
+     */
+    @Override
+    public SwitchValue<I, R> withMetrics(ActumMetrics metrics) {
+        checkNotNull(metrics);
+        this.metrics = metrics;
+        this.branchMetrics = null;
+        return this;
+    }
+
+    private void traceExecuting(String block) {
+        if (isTraced()) {
+            this.logger.log(LogLevel.DEBUG, "[ {} ] Executing {} block (matched={}), (description={})",
+                    this.normalizedLabel, block, this.matched, this.description);
+        }
+    }
+
+    private R compute(BranchKind kind, int branch, Supplier<R> action) {
+        BranchEvent event = BranchEvent.start();
+        BranchMetrics branchMetrics = branchMetrics();
+        R value = branchMetrics == null ? action.get() : branchMetrics.get(kind, branch, action);
+        event.complete(this.normalizedLabel, kind, this.matched);
+        return value;
+    }
+
+    /**
+     * Metrics of the current label, resolved when the first branch executes so a label set afterwards leaves no orphan
+     */
+    private BranchMetrics branchMetrics() {
+        if (this.branchMetrics == null && this.metrics != null) {
+            this.branchMetrics = this.metrics.branch(this.normalizedLabel);
+        }
+        return this.branchMetrics;
+    }
+
     /**
      * Returns debuggable string
      *
@@ -111,6 +277,8 @@ public class SwitchValue<I, R> implements Debuggable,
     @Override
     public SwitchValue<I, R> label(String label) {
         this.label = label == null ? "" : label;
+        this.normalizedLabel = Formatter.normalize(this.label, "SwitchValue");
+        this.branchMetrics = null;
         return this;
     }
 
@@ -134,9 +302,29 @@ public class SwitchValue<I, R> implements Debuggable,
     @Override
     public SwitchValue<I, R> trace() {
         this.traceable = true;
+        this.sampler = TraceSampler.always();
         return this;
     }
 
+    /**
+     * Trace executions of current condition selected by sampler
+     *
+     * @param sampler trace sampler
+     * @return trace
+     */
+    @Override
+    public SwitchValue<I, R> trace(TraceSampler sampler) {
+        checkNotNull(sampler);
+        this.traceable = true;
+        this.sampler = sampler;
+        return this;
+    }
+
+    private boolean isTraced() {
+        return isLoggable(this.logger, LogLevel.DEBUG, this.traceable)
+                && this.sampler.sample(this.normalizedLabel, this.matched);
+    }
+
     /**
      * Used for side effects or debugging
      *
@@ -162,4 +350,142 @@ public class SwitchValue<I, R> implements Debuggable,
         consumer.accept(this);
         return this;
     }
+
+    /**
+     * Builder of {@link CompiledSwitchValue}
+     * @param <I> input type
+     * @param <R> result type
+     */
+    public static final class Builder<I, R> extends AbstractBuilder<Builder<I, R>> {
+
+        private final Map<I, Supplier<R>> cases = new LinkedHashMap<>();
+        private final List<Comparable<?>> lows = new ArrayList<>();
+        private final List<Comparable<?>> highs = new ArrayList<>();
+        private final List<Supplier<R>> rangeActions = new ArrayList<>();
+        private final List<Predicate<? super I>> conditions = new ArrayList<>();
+        private final List<Supplier<R>> conditionActions = new ArrayList<>();
+        private Supplier<R> fallback;
+        private Supplier<? extends RuntimeException> exception;
+        private int cacheSize;
+        private Duration cacheTtl = Duration.ZERO;
+
+        private Builder(){
+        }
+
+        /**
+         * Registers case, the first registration of a match wins
+         * @param match object to match
+         * @param action action to execute
+         * @return builder
+         * @throws IllegalStateException if a range or predicate case is already registered
+         */
+        public Builder<I, R> caseOf(I match, Supplier<R> action){
+            checkNotNull(action);
+            if (!rangeActions.isEmpty() || !conditions.isEmpty()) {
+                throw new IllegalStateException("Equality cases must be declared before range and predicate cases");
+            }
+            cases.putIfAbsent(match, action);
+            return this;
+        }
+
+        /**
+         * Registers range case matching inputs in [low, high) of the same class as the bounds.
+         * Ranges may overlap, the first registered range containing the input wins.
+         * @param low inclusive lower bound
+         * @param high exclusive upper bound
+         * @param action action to execute
+         * @return builder
+         * @throws IllegalStateException if a predicate case is already registered
+         */
+        public <C extends Comparable<? super C>> Builder<I, R> caseInRange(C low, C high, Supplier<R> action){
+            RangeLookup.checkRange(low, high);
+            checkNotNull(action);
+            if (!conditions.isEmpty()) {
+                throw new IllegalStateException("Range cases must be declared before predicate cases");
+            }
+            lows.add(low);
+            highs.add(high);
+            rangeActions.add(action);
+            return this;
+        }
+
+        /**
+         * Registers case matching inputs satisfying condition, tested in registration order
+         * @param condition logical condition on input
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<I, R> caseWhen(Predicate<? super I> condition, Supplier<R> action){
+            checkNotNull(condition);
+            checkNotNull(action);
+            conditions.add(condition);
+            conditionActions.add(action);
+            return this;
+        }
+
+        /**
+         * Registers default action executed if none of the cases match
+         * @param action action to execute
+         * @return builder
+         */
+        public Builder<I, R> defaultOf(Supplier<R> action){
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<I, R> orThrows(Supplier<? extends RuntimeException> exception){
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Caches results per input, keeping at most maximumSize of them
+         *
+         * @param maximumSize maximum number of cached results
+         * @return builder
+         */
+        public Builder<I, R> memoize(int maximumSize) {
+            return memoize(maximumSize, Duration.ZERO);
+        }
+
+        /**
+         * Caches results per input, keeping at most maximumSize of them for at most ttl
+         *
+         * @param maximumSize maximum number of cached results
+         * @param ttl         time to live, zero for no expiry
+         * @return builder
+         */
+        public Builder<I, R> memoize(int maximumSize, Duration ttl) {
+            checkNotNull(ttl);
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("Maximum size must be at least 1");
+            }
+            this.cacheSize = maximumSize;
+            this.cacheTtl = ttl;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         * @return compiled switch
+         */
+        public CompiledSwitchValue<I, R> build(){
+            return new CompiledSwitchValue<>(cases, RangeLookup.of(lows, highs), GenericArrays.toArray(Supplier.class, rangeActions),
+                    GenericArrays.toArray(Predicate.class, conditions), GenericArrays.toArray(Supplier.class, conditionActions),
+                    fallback, exception, traceContext(CompiledSwitchValue.class.getSimpleName()), memoized());
+        }
+
+        private MemoCache<I, R> memoized() {
+            return cacheSize == 0 ? null : MemoCache.of(cacheSize, cacheTtl);
+        }
+    }
 }
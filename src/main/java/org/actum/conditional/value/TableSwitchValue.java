@@ -0,0 +1,198 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.conditional.support.TraceContext;
+import org.actum.metrics.BranchKind;
+import org.actum.table.DecisionTable;
+import org.actum.util.GenericArrays;
+import org.actum.visibility.Debuggable;
+
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Immutable value switch on long keys routed by a memory-mapped {@link DecisionTable}.
+ * The table maps keys to action ids, the switch binds action ids to result suppliers: hundreds of thousands of rows
+ * stay off-heap while only the handful of distinct suppliers live in code.
+ * Keys whose action id is not bound behave as unmatched keys.
+ * Usage:
+ * TableSwitchValue&lt;R&gt; mapper = TableSwitchValue.&lt;R&gt;builder(DecisionTable.open(path))
+ * .bind(1, supplier-1)
+ * .bind(2, supplier-2)
+ * .defaultOf(default-supplier)
+ * .build();
+ * R result = mapper.dispatch(key);
+ *
+ * @param <R> result type
+ */
+public final class TableSwitchValue<R> implements Debuggable {
+
+    private final DecisionTable table;
+    private final Supplier<R>[] actions;
+    private final int bound;
+    private final Supplier<R> fallback;
+    private final Supplier<? extends RuntimeException> exception;
+    private final TraceContext trace;
+
+    private TableSwitchValue(DecisionTable table, Supplier<R>[] actions, int bound, Supplier<R> fallback,
+                        Supplier<? extends RuntimeException> exception, TraceContext trace) {
+        this.table = table;
+        this.actions = actions;
+        this.bound = bound;
+        this.fallback = fallback;
+        this.exception = exception;
+        this.trace = trace;
+    }
+
+    /**
+     * Starts switch definition over table
+     *
+     * @param table decision table
+     * @return builder
+     */
+    public static <R> Builder<R> builder(DecisionTable table) {
+        checkNotNull(table);
+        return new Builder<>(table);
+    }
+
+    /**
+     * Computes the result bound to the action id of key, or the default result
+     *
+     * @param key key
+     * @return result, or null if nothing matched and no default was provided
+     */
+    public R dispatch(long key) {
+        int id = table.actionOf(key);
+        Supplier<R> action = id >= 0 && id < actions.length ? actions[id] : null;
+        if (action != null) {
+            trace.executing("CaseOf", true);
+            long start = trace.start();
+            R result = action.get();
+            trace.record(BranchKind.CASE_OF, id, start);
+            return result;
+        }
+        if (fallback != null) {
+            trace.executing("DefaultOf", false);
+            long start = trace.start();
+            R result = fallback.get();
+            trace.record(BranchKind.DEFAULT_OF, actions.length, start);
+            return result;
+        }
+        if (exception != null) {
+            trace.throwing(exception, false);
+            throw exception.get();
+        }
+        return null;
+    }
+
+    /**
+     * Number of bound action ids
+     *
+     * @return number of cases
+     */
+    public int size() {
+        return bound;
+    }
+
+    public DecisionTable getTable() {
+        return table;
+    }
+
+    public String getLabel() {
+        return trace.getLabel();
+    }
+
+    public String getDescription() {
+        return trace.getDescription();
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("TableSwitchValue[Label=%s, Description=%s, Traceable=%s, Cases=%s, Rows=%s]",
+                trace.getLabel(), trace.getDescription(), trace.isTraceable(), bound, table.size());
+    }
+
+    @Override
+    public String toString() {
+        return debug();
+    }
+
+    /**
+     * Builder of {@link TableSwitchValue}
+     *
+     * @param <R> result type
+     */
+    public static final class Builder<R> extends AbstractBuilder<Builder<R>> {
+
+        private final DecisionTable table;
+        private final TreeMap<Integer, Supplier<R>> cases = new TreeMap<>();
+        private Supplier<R> fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder(DecisionTable table) {
+            this.table = table;
+        }
+
+        /**
+         * Binds supplier of the result to action id, the first binding of an id wins.
+         * Actions are indexed by id, so ids are expected to be small and dense
+         *
+         * @param actionId action id referenced by table rows
+         * @param action   supplier of the result
+         * @return builder
+         */
+        public Builder<R> bind(int actionId, Supplier<R> action) {
+            checkNotNull(action);
+            if (actionId < 0) {
+                throw new IllegalArgumentException("Action ids must not be negative: " + actionId);
+            }
+            cases.putIfAbsent(actionId, action);
+            return this;
+        }
+
+        /**
+         * Registers supplier of the result for keys missing from the table or bound to no action
+         *
+         * @param action supplier of the result
+         * @return builder
+         */
+        public Builder<R> defaultOf(Supplier<R> action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception for keys missing from the table or bound to no action
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<R> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable switch
+         *
+         * @return switch
+         */
+        public TableSwitchValue<R> build() {
+            Supplier<R>[] actions = GenericArrays.newArray(Supplier.class, cases.isEmpty() ? 0 : cases.lastKey() + 1);
+            cases.forEach((id, action) -> actions[id] = action);
+            return new TableSwitchValue<>(table, actions, cases.size(), fallback, exception,
+                    traceContext(TableSwitchValue.class.getSimpleName()));
+        }
+    }
+}
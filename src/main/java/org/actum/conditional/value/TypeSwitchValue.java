@@ -0,0 +1,339 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.support.AbstractBuilder;
+import org.actum.logger.ActumLogger;
+import org.actum.logger.ActumLoggerFactory;
+import org.actum.logger.LogLevel;
+import org.actum.logger.LoggerSupport;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchKind;
+import org.actum.metrics.BranchMetrics;
+import org.actum.util.Formatter;
+import org.actum.util.GenericArrays;
+import org.actum.visibility.Debuggable;
+import org.actum.visibility.Describable;
+import org.actum.visibility.Measurable;
+import org.actum.visibility.TraceSampler;
+import org.actum.visibility.Traceable;
+import org.actum.visibility.Viewable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * TypeSwitchValue class computes a result from the runtime type of its input, cases are tested in declaration order
+ * Usage:
+ * R result = SwitchValue.&lt;R&gt;onType(input)
+ * .caseOf(Type1.class, function-1)
+ * .caseOf(Type2.class, function-2)
+ * .defaultOf(default-supplier);
+ *
+ * @param <R> result type
+ */
+public class TypeSwitchValue<R> implements Debuggable,
+        Traceable<TypeSwitchValue<R>>,
+        Measurable<TypeSwitchValue<R>>,
+        Viewable<TypeSwitchValue<R>>,
+        Describable<TypeSwitchValue<R>>,
+        LoggerSupport<TypeSwitchValue<R>> {
+
+    private static final String DEFAULT_LABEL = Formatter.normalize(null, "TypeSwitchValue");
+    private boolean matched;
+    private String label;
+    private String normalizedLabel = DEFAULT_LABEL;
+    private String description;
+    private boolean traceable = false;
+    private TraceSampler sampler = TraceSampler.always();
+    private final Object input;
+    private R result;
+    private ActumLogger logger = ActumLoggerFactory.noOp();
+    private ActumMetrics metrics;
+    private BranchMetrics branchMetrics;
+    private int branches;
+
+    TypeSwitchValue(Object input) {
+        this.input = input;
+    }
+
+    /**
+     * Starts a reusable type switch resolving the most specific case, see {@link CompiledTypeSwitchValue}
+     *
+     * @return builder
+     */
+    public static <R> Builder<R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Computes the result from the input cast to type if input is an instance of type
+     *
+     * @param type   type to match
+     * @param action function computing the result
+     * @return instance of type R
+     */
+    public <T> TypeSwitchValue<R> caseOf(Class<T> type, Function<? super T, ? extends R> action) {
+        checkNotNull(type);
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!matched && type.isInstance(input)) {
+            this.matched = true;
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing CaseOf block (matched={}), (type={}), (description={})",
+                        this.normalizedLabel, this.matched, type.getSimpleName(), this.description);
+            }
+            T value = type.cast(input);
+            result = compute(BranchKind.CASE_OF, branch, () -> action.apply(value));
+        }
+        return this;
+    }
+
+    /**
+     * Computes the default result if none of the cases matched
+     *
+     * @param action action to execute
+     * @return result
+     */
+    public R defaultOf(Supplier<? extends R> action) {
+        checkNotNull(action);
+        int branch = this.branches++;
+        if (!matched) {
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Executing DefaultOf block (matched={}), (description={})",
+                        this.normalizedLabel, this.matched, this.description);
+            }
+            result = compute(BranchKind.DEFAULT_OF, branch, action);
+        }
+        return result;
+    }
+
+    /**
+     * Throws exception if none of the cases matched
+     *
+     * @param exception exception to throw
+     * @return result of the matched case
+     */
+    public R orThrows(Supplier<? extends RuntimeException> exception) {
+        checkNotNull(exception);
+        if (!this.matched) {
+            if (isTraced()) {
+                this.logger.log(LogLevel.DEBUG, "[ {} ] Throwing Exception (exception={}), (matched={}), (description={})",
+                        this.normalizedLabel, exception.getClass().getSimpleName(), this.matched, this.description);
+            }
+            BranchMetrics branchMetrics = branchMetrics();
+            if (branchMetrics != null) {
+                branchMetrics.hit(BranchKind.THROWS);
+            }
+            throw exception.get();
+        }
+        return result;
+    }
+
+    /**
+     * Result of the matched case
+     *
+     * @return result, or null if nothing matched
+     */
+    public R get() {
+        return result;
+    }
+
+    @Override
+    public TypeSwitchValue<R> withLogger(ActumLogger logger) {
+        checkNotNull(logger);
+        this.logger = logger;
+        return this;
+    }
+
+    /**
+     * Records branch hits per branch position, and action latency if the registry is timing,
+     * under the label set when the first branch runs
+     *
+     * @param metrics metrics registry
+     * @return instance
+     */
+    @Override
+    public TypeSwitchValue<R> withMetrics(ActumMetrics metrics) {
+        checkNotNull(metrics);
+        this.metrics = metrics;
+        this.branchMetrics = null;
+        return this;
+    }
+
+    private R compute(BranchKind kind, int branch, Supplier<? extends R> action) {
+        BranchMetrics branchMetrics = branchMetrics();
+        return branchMetrics == null ? action.get() : branchMetrics.get(kind, branch, action::get);
+    }
+
+    /**
+     * Metrics of the current label, resolved when the first branch executes so a label set afterwards leaves no orphan
+     */
+    private BranchMetrics branchMetrics() {
+        if (this.branchMetrics == null && this.metrics != null) {
+            this.branchMetrics = this.metrics.branch(this.normalizedLabel);
+        }
+        return this.branchMetrics;
+    }
+
+    /**
+     * Returns debuggable string
+     *
+     * @return debuggable string
+     */
+    @Override
+    public String debug() {
+        return String.format("TypeSwitchValue[Label=%s, Description=%s, Traceable=%s, Matched=%s]", label, description, traceable, matched);
+    }
+
+    /**
+     * Labels current condition
+     *
+     * @param label label
+     * @return label
+     */
+    @Override
+    public TypeSwitchValue<R> label(String label) {
+        this.label = label == null ? "" : label;
+        this.normalizedLabel = Formatter.normalize(this.label, "TypeSwitchValue");
+        this.branchMetrics = null;
+        return this;
+    }
+
+    /**
+     * Adds description to condition
+     *
+     * @param description description message
+     * @return description
+     */
+    @Override
+    public TypeSwitchValue<R> describe(String description) {
+        this.description = description == null ? "No description provided!" : description;
+        return this;
+    }
+
+    /**
+     * Trace current condition
+     *
+     * @return trace
+     */
+    @Override
+    public TypeSwitchValue<R> trace() {
+        this.traceable = true;
+        this.sampler = TraceSampler.always();
+        return this;
+    }
+
+    /**
+     * Trace executions of current condition selected by sampler
+     *
+     * @param sampler trace sampler
+     * @return trace
+     */
+    @Override
+    public TypeSwitchValue<R> trace(TraceSampler sampler) {
+        checkNotNull(sampler);
+        this.traceable = true;
+        this.sampler = sampler;
+        return this;
+    }
+
+    private boolean isTraced() {
+        return isLoggable(this.logger, LogLevel.DEBUG, this.traceable)
+                && this.sampler.sample(this.normalizedLabel, this.matched);
+    }
+
+    /**
+     * Used for side effects or debugging
+     *
+     * @param action action
+     * @return action result
+     */
+    @Override
+    public TypeSwitchValue<R> peek(Runnable action) {
+        if (this.matched) {
+            action.run();
+        }
+        return this;
+    }
+
+    /**
+     * Used for side effects or debugging
+     *
+     * @param consumer consumer
+     * @return consumer result
+     */
+    @Override
+    public TypeSwitchValue<R> view(Consumer<TypeSwitchValue<R>> consumer) {
+        consumer.accept(this);
+        return this;
+    }
+
+    /**
+     * Builder of {@link CompiledTypeSwitchValue}
+     *
+     * @param <R> result type
+     */
+    public static final class Builder<R> extends AbstractBuilder<Builder<R>> {
+
+        private final Map<Class<?>, Function<Object, R>> cases = new LinkedHashMap<>();
+        private Supplier<R> fallback;
+        private Supplier<? extends RuntimeException> exception;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers case for type and its subtypes, the first registration of a type wins
+         *
+         * @param type   type to match
+         * @param action function computing the result from the input cast to type
+         * @return builder
+         */
+        public <T> Builder<R> caseOf(Class<T> type, Function<? super T, ? extends R> action) {
+            checkNotNull(type);
+            checkNotNull(action);
+            cases.putIfAbsent(type, input -> action.apply(type.cast(input)));
+            return this;
+        }
+
+        /**
+         * Registers supplier of the result if none of the cases match
+         *
+         * @param action supplier of the result
+         * @return builder
+         */
+        public Builder<R> defaultOf(Supplier<R> action) {
+            checkNotNull(action);
+            this.fallback = action;
+            this.exception = null;
+            return this;
+        }
+
+        /**
+         * Throws exception if none of the cases match
+         *
+         * @param exception exception to throw
+         * @return builder
+         */
+        public Builder<R> orThrows(Supplier<? extends RuntimeException> exception) {
+            checkNotNull(exception);
+            this.exception = exception;
+            this.fallback = null;
+            return this;
+        }
+
+        /**
+         * Builds immutable type switch
+         *
+         * @return compiled type switch
+         */
+        public CompiledTypeSwitchValue<R> build() {
+            return new CompiledTypeSwitchValue<>(cases.keySet().toArray(new Class<?>[0]), GenericArrays.toArray(Function.class, cases.values()),
+                    fallback, exception, traceContext(CompiledTypeSwitchValue.class.getSimpleName()));
+        }
+    }
+}
@@ -1,6 +1,30 @@
 package org.actum.logger;
 
+import org.actum.util.Formatter;
+
 @FunctionalInterface
 public interface ActumLogger {
     void log(LogLevel logLevel, String message);
+
+    /**
+     * Checks whether messages of the level are logged, callers skip building messages otherwise
+     * @param logLevel log level
+     * @return true if enabled
+     */
+    default boolean isEnabled(LogLevel logLevel) {
+        return true;
+    }
+
+    /**
+     * Logs parameterized message, each {} placeholder is replaced by the next argument.
+     * Nothing is formatted unless the level is enabled.
+     * @param logLevel log level
+     * @param template message template
+     * @param args template arguments
+     */
+    default void log(LogLevel logLevel, String template, Object... args) {
+        if (isEnabled(logLevel)) {
+            log(logLevel, Formatter.format(template, args));
+        }
+    }
 }
@@ -7,6 +7,25 @@ import org.slf4j.Logger;
  */
 public class ActumLoggerFactory {
 
+    private static final ActumLogger NO_OP = new ActumLogger() {
+        @Override
+        public void log(LogLevel logLevel, String message) {
+        }
+
+        @Override
+        public boolean isEnabled(LogLevel logLevel) {
+            return false;
+        }
+    };
+
+    /**
+     * Logger discarding every message, reports every level as disabled
+     * @return ActumLogger
+     */
+    public static ActumLogger noOp(){
+        return NO_OP;
+    }
+
     /**
      * Standard system out trace
      * @return ActumLogger
@@ -21,14 +40,27 @@ public class ActumLoggerFactory {
      * @return ActumLogger
      */
     public static ActumLogger slf4j(Logger logger){
-        return ((logLevel, message) -> {
-            switch (logLevel){
-                case TRACE -> logger.trace(message);
-                case INFO -> logger.info(message);
-                case DEBUG -> logger.debug(message);
-                case WARN -> logger.warn(message);
-                case ERROR -> logger.error(message);
-            }
-        });
+        return new Slf4jActumLogger(logger);
+    }
+
+    /**
+     * Asynchronous trace, events are buffered and written by a background thread.
+     * Overflowing events are dropped.
+     * @param delegate logger events are written to
+     * @return AsyncActumLogger
+     */
+    public static AsyncActumLogger async(ActumLogger delegate){
+        return async(delegate, AsyncActumLogger.DEFAULT_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    /**
+     * Asynchronous trace, events are buffered and written by a background thread
+     * @param delegate logger events are written to
+     * @param capacity buffer capacity
+     * @param overflowPolicy what to do when the buffer is full
+     * @return AsyncActumLogger
+     */
+    public static AsyncActumLogger async(ActumLogger delegate, int capacity, OverflowPolicy overflowPolicy){
+        return new AsyncActumLogger(delegate, capacity, overflowPolicy, AsyncActumLogger.DEFAULT_SAMPLE_RATE);
     }
 }
@@ -0,0 +1,295 @@
+package org.actum.logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Asynchronous logger, callers only publish events to a bounded lock-free ring buffer
+ * and a single drainer thread writes them to the delegate in batches.
+ * Parameterized messages are formatted on the drainer thread.
+ * Usage:
+ * AsyncActumLogger logger = ActumLoggerFactory.async(ActumLoggerFactory.slf4j(slf4jLogger));
+ * If.when(condition).trace().withLogger(logger)...
+ * logger.close();
+ */
+public final class AsyncActumLogger implements ActumLogger, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_SAMPLE_RATE = 64;
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final ActumLogger delegate;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final LogLevel[] levels;
+    private final String[] messages;
+    private final Object[][] arguments;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicInteger publishing = new AtomicInteger();
+    private final Object writeLock = new Object();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Thread drainer;
+    private long head;
+    private volatile boolean closed;
+    private volatile boolean quiescent;
+    private volatile boolean handOff;
+    private volatile boolean idle;
+
+    /**
+     * Creates logger and starts its drainer thread
+     *
+     * @param delegate       logger events are written to
+     * @param capacity       buffer capacity, rounded up to a power of two
+     * @param overflowPolicy what to do when the buffer is full
+     * @param sampleRate     one in sampleRate overflowing events is kept with {@link OverflowPolicy#SAMPLE}
+     */
+    public AsyncActumLogger(ActumLogger delegate, int capacity, OverflowPolicy overflowPolicy, int sampleRate) {
+        checkNotNull(delegate);
+        checkNotNull(overflowPolicy);
+        if (capacity < 2 || capacity > (1 << 30) || sampleRate < 1) {
+            throw new IllegalArgumentException("Capacity must be in [2, 2^30] and sample rate positive");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.delegate = delegate;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.levels = new LogLevel[size];
+        this.messages = new String[size];
+        this.arguments = new Object[size][];
+        this.drainer = new Thread(this::drain, "actum-async-logger");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public void log(LogLevel logLevel, String message) {
+        publish(logLevel, message, null);
+    }
+
+    @Override
+    public void log(LogLevel logLevel, String template, Object... args) {
+        if (isEnabled(logLevel)) {
+            publish(logLevel, template, args);
+        }
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel logLevel) {
+        return delegate.isEnabled(logLevel);
+    }
+
+    /**
+     * Number of events discarded because the buffer was full
+     *
+     * @return dropped events
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of events that found the buffer full
+     *
+     * @return overflowing events
+     */
+    public long getOverflowCount() {
+        return overflowed.sum();
+    }
+
+    /**
+     * Number of events the delegate failed to write
+     *
+     * @return failed events
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Stops accepting events, waits until buffered events are written.
+     * Events logged after close are written synchronously, one at a time, so the delegate is never called concurrently.
+     * If interrupted, the remaining events are written on the calling thread and the interrupt flag is restored.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        // producers that saw the logger open finish publishing before the buffer is declared final
+        while (publishing.get() != 0) {
+            Thread.yield();
+        }
+        quiescent = true;
+        LockSupport.unpark(drainer);
+        boolean interrupted = false;
+        while (drainer.isAlive()) {
+            try {
+                drainer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                handOff = true;
+                LockSupport.unpark(drainer);
+            }
+        }
+        // the drainer has exited, this thread is now the only consumer
+        while (drainBatch() > 0) {
+            Thread.onSpinWait();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(LogLevel logLevel, String message, Object[] args) {
+        publishing.incrementAndGet();
+        try {
+            if (closed) {
+                writeSerialized(logLevel, message, args);
+            } else {
+                enqueue(logLevel, message, args);
+            }
+        } finally {
+            publishing.decrementAndGet();
+        }
+    }
+
+    private void enqueue(LogLevel logLevel, String message, Object[] args) {
+        if (offer(logLevel, message, args)) {
+            return;
+        }
+        overflowed.increment();
+        boolean wait = switch (overflowPolicy) {
+            case DROP -> false;
+            case BLOCK -> true;
+            case SAMPLE -> overflowed.sum() % sampleRate == 0;
+        };
+        if (wait) {
+            while (!offer(logLevel, message, args)) {
+                if (closed) {
+                    writeSerialized(logLevel, message, args);
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Multi-producer claim of a slot, a slot is free when its sequence equals the claimed position
+     */
+    private boolean offer(LogLevel logLevel, String message, Object[] args) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    levels[index] = logLevel;
+                    messages[index] = message;
+                    arguments[index] = args;
+                    sequences.setRelease(index, position + 1);
+                    if (idle) {
+                        idle = false;
+                        LockSupport.unpark(drainer);
+                    }
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Parks while the buffer is empty until a producer unparks it, the park time doubles up to
+     * {@link #MAX_IDLE_PARK_NANOS} so a missed wake-up only delays the next event
+     */
+    private void drain() {
+        long parkNanos = IDLE_PARK_NANOS;
+        while (!handOff) {
+            if (drainBatch() > 0) {
+                parkNanos = IDLE_PARK_NANOS;
+                continue;
+            }
+            if (quiescent && tail.get() == head) {
+                return;
+            }
+            idle = true;
+            if (sequences.getAcquire((int) (head & mask)) != head + 1) {
+                LockSupport.parkNanos(this, parkNanos);
+                parkNanos = Math.min(parkNanos << 1, MAX_IDLE_PARK_NANOS);
+            }
+            idle = false;
+        }
+    }
+
+    /**
+     * Single consumer, slot is readable when its sequence is one past the read position
+     */
+    private int drainBatch() {
+        int written = 0;
+        synchronized (writeLock) {
+            while (written < BATCH_SIZE) {
+                int index = (int) (head & mask);
+                if (sequences.getAcquire(index) != head + 1) {
+                    break;
+                }
+                LogLevel logLevel = levels[index];
+                String message = messages[index];
+                Object[] args = arguments[index];
+                messages[index] = null;
+                arguments[index] = null;
+                sequences.setRelease(index, head + mask + 1);
+                head++;
+                write(logLevel, message, args);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Writes an event of a closed logger on the calling thread, serialized with the drainer
+     */
+    private void writeSerialized(LogLevel logLevel, String message, Object[] args) {
+        synchronized (writeLock) {
+            write(logLevel, message, args);
+        }
+    }
+
+    private void write(LogLevel logLevel, String message, Object[] args) {
+        try {
+            if (args == null) {
+                delegate.log(logLevel, message);
+            } else {
+                delegate.log(logLevel, message, args);
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.actum.logger;
+
+/**
+ * What an asynchronous logger does when its buffer is full
+ */
+public enum OverflowPolicy {
+    /**
+     * Discard the event and count it as dropped
+     */
+    DROP,
+    /**
+     * Wait on the logging thread until the buffer has room
+     */
+    BLOCK,
+    /**
+     * Keep one in every sample-rate overflowing events by waiting for room, drop the others
+     */
+    SAMPLE
+}
@@ -0,0 +1,48 @@
+package org.actum.logger;
+
+import org.slf4j.Logger;
+
+/**
+ * Slf4j adapter, level checks and parameterized messages are forwarded to slf4j
+ */
+class Slf4jActumLogger implements ActumLogger {
+
+    private final Logger logger;
+
+    Slf4jActumLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void log(LogLevel logLevel, String message) {
+        switch (logLevel) {
+            case TRACE -> logger.trace(message);
+            case INFO -> logger.info(message);
+            case DEBUG -> logger.debug(message);
+            case WARN -> logger.warn(message);
+            case ERROR -> logger.error(message);
+        }
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel logLevel) {
+        return switch (logLevel) {
+            case TRACE -> logger.isTraceEnabled();
+            case INFO -> logger.isInfoEnabled();
+            case DEBUG -> logger.isDebugEnabled();
+            case WARN -> logger.isWarnEnabled();
+            case ERROR -> logger.isErrorEnabled();
+        };
+    }
+
+    @Override
+    public void log(LogLevel logLevel, String template, Object... args) {
+        switch (logLevel) {
+            case TRACE -> logger.trace(template, args);
+            case INFO -> logger.info(template, args);
+            case DEBUG -> logger.debug(template, args);
+            case WARN -> logger.warn(template, args);
+            case ERROR -> logger.error(template, args);
+        }
+    }
+}
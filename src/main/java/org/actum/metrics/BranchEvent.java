@@ -0,0 +1,72 @@
+package org.actum.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of one executed branch: its label, branch kind, whether a condition matched,
+ * the action duration and, as for every event, the thread.
+ * Emitted by If, Switch, IfValue and SwitchValue. When no recording enables the event,
+ * {@link #shouldCommit()} is a constant false after JIT compilation and the event allocation is eliminated,
+ * so the cost is nil: it can stay in production code and be turned on with
+ * -XX:StartFlightRecording or jcmd JFR.start. Summarize recordings with {@link BranchEventReport}.
+ */
+@Name(BranchEvent.NAME)
+@Label("Branch Decision")
+@Category("Actum")
+@Description("Branch executed by a conditional chain, the duration is the duration of its action")
+@StackTrace(false)
+public final class BranchEvent extends Event {
+    public static final String NAME = "org.actum.Branch";
+
+    @Label("Label")
+    private String label;
+
+    @Label("Branch Kind")
+    private String kind;
+
+    @Label("Matched")
+    private boolean matched;
+
+    /**
+     * Starts timing a branch action
+     *
+     * @return event
+     */
+    public static BranchEvent start() {
+        BranchEvent event = new BranchEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Records a branch without action, such as a thrown exception
+     *
+     * @param label   normalized label
+     * @param kind    branch kind
+     * @param matched whether a condition matched
+     */
+    public static void instant(String label, BranchKind kind, boolean matched) {
+        new BranchEvent().complete(label, kind, matched);
+    }
+
+    /**
+     * Ends timing and commits the event if enabled
+     *
+     * @param label   normalized label
+     * @param kind    branch kind
+     * @param matched whether a condition matched
+     */
+    public void complete(String label, BranchKind kind, boolean matched) {
+        if (shouldCommit()) {
+            this.label = label;
+            this.kind = kind.name();
+            this.matched = matched;
+            commit();
+        }
+    }
+}
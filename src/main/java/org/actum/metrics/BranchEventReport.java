@@ -0,0 +1,174 @@
+package org.actum.metrics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Summary per label of the {@link BranchEvent}s of a .jfr recording, labels spending the most time first.
+ * Events are streamed from the file, its size does not matter.
+ * Command line:
+ * java -cp actum.jar org.actum.metrics.BranchEventReport recording.jfr
+ */
+public final class BranchEventReport {
+
+    private final List<Summary> summaries;
+
+    private BranchEventReport(List<Summary> summaries) {
+        this.summaries = summaries;
+    }
+
+    /**
+     * Reads the branch events of a recording
+     *
+     * @param recording .jfr file
+     * @return report
+     * @throws UncheckedIOException if the recording cannot be read
+     */
+    public static BranchEventReport read(Path recording) {
+        checkNotNull(recording);
+        Map<String, Summary> byLabel = new LinkedHashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (BranchEvent.NAME.equals(event.getEventType().getName())) {
+                    byLabel.computeIfAbsent(event.getString("label"), Summary::new).add(event);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Summary> summaries = new ArrayList<>(byLabel.values());
+        summaries.sort(Comparator.comparingLong(Summary::getTotalNanos).reversed());
+        return new BranchEventReport(summaries);
+    }
+
+    /**
+     * Prints the report of a recording
+     *
+     * @param args .jfr file
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: BranchEventReport <recording.jfr>");
+            System.exit(2);
+        }
+        System.out.print(read(Path.of(args[0])));
+    }
+
+    public List<Summary> getSummaries() {
+        return summaries;
+    }
+
+    /**
+     * Summary of a label
+     *
+     * @param label normalized label
+     * @return summary, or null if the recording has no event of label
+     */
+    public Summary getSummary(String label) {
+        for (Summary summary : summaries) {
+            if (summary.label.equals(label)) {
+                return summary;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format("%-32s %10s %10s %12s %12s %8s  %s%n",
+                "Label", "Events", "Matched", "Total(us)", "Max(us)", "Threads", "Kinds"));
+        for (Summary summary : summaries) {
+            report.append(String.format("%-32s %10d %10d %12.1f %12.1f %8d  %s%n", summary.label, summary.count,
+                    summary.matched, summary.totalNanos / 1_000.0, summary.maxNanos / 1_000.0,
+                    summary.threads.size(), summary.kinds));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Branch events of one label
+     */
+    public static final class Summary {
+        private final String label;
+        private final Map<String, Long> kinds = new LinkedHashMap<>();
+        private final Set<Long> threads = new HashSet<>();
+        private long count;
+        private long matched;
+        private long totalNanos;
+        private long maxNanos;
+
+        private Summary(String label) {
+            this.label = label;
+        }
+
+        private void add(RecordedEvent event) {
+            long nanos = event.getDuration().toNanos();
+            count++;
+            if (event.getBoolean("matched")) {
+                matched++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            kinds.merge(event.getString("kind"), 1L, Long::sum);
+            RecordedThread thread = event.getThread();
+            if (thread != null) {
+                threads.add(thread.getId());
+            }
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMatchedCount() {
+            return matched;
+        }
+
+        /**
+         * Number of events of kind
+         *
+         * @param kind branch kind
+         * @return count
+         */
+        public long getCount(BranchKind kind) {
+            return kinds.getOrDefault(kind.name(), 0L);
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public int getThreadCount() {
+            return threads.size();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Summary[Label=%s, Events=%s, Matched=%s, TotalNanos=%s, MaxNanos=%s, Threads=%s, Kinds=%s]",
+                    label, count, matched, totalNanos, maxNanos, threads.size(), kinds);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.actum.metrics;
+
+/**
+ * Kinds of branches a conditional executes
+ */
+public enum BranchKind {
+    THEN,
+    ELSE_IF,
+    ELSE_THEN,
+    CASE_OF,
+    DEFAULT_OF,
+    THROWS
+}
@@ -0,0 +1,320 @@
+package org.actum.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hit counters and action latency of one label, per branch and per branch kind.
+ * A branch is identified by its declaration position: the then branch or first case is 0,
+ * the else or default branch follows the last declared one. Label-level latency is aggregated on read.
+ */
+public final class BranchMetrics implements BranchMetricsMBean {
+
+    private final String label;
+    private final boolean timed;
+    private final int sampleRate;
+    private final LongAdder[] hits = new LongAdder[BranchKind.values().length];
+    private volatile Branch[] branches = new Branch[0];
+
+    BranchMetrics(String label, boolean timed, int sampleRate) {
+        this.label = label;
+        this.timed = timed;
+        this.sampleRate = sampleRate;
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Counts an execution that belongs to no declared branch, e.g. a thrown exception
+     *
+     * @param kind branch kind
+     */
+    public void hit(BranchKind kind) {
+        hits[kind.ordinal()].increment();
+    }
+
+    /**
+     * Counts a branch execution
+     *
+     * @param kind   branch kind
+     * @param branch branch position
+     */
+    public void hit(BranchKind kind, int branch) {
+        hits[kind.ordinal()].increment();
+        branch(branch).hits.increment();
+    }
+
+    /**
+     * Counts a branch execution and records its action duration
+     *
+     * @param kind   branch kind
+     * @param branch branch position
+     * @param nanos  action duration
+     */
+    public void record(BranchKind kind, int branch, long nanos) {
+        hits[kind.ordinal()].increment();
+        Branch slot = branch(branch);
+        slot.hits.increment();
+        if (slot.latency != null) {
+            slot.latency.record(nanos);
+        }
+    }
+
+    /**
+     * Starts timing an action, only one in sample rate actions of a timing registry is timed
+     *
+     * @return start timestamp, 0 when the action is not timed
+     */
+    public long start() {
+        if (!timed || sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return 0L;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Counts a completed action and records its duration if it was timed
+     *
+     * @param kind   branch kind
+     * @param branch branch position
+     * @param start  timestamp returned by {@link #start()}
+     */
+    public void complete(BranchKind kind, int branch, long start) {
+        if (start == 0L) {
+            hit(kind, branch);
+        } else {
+            record(kind, branch, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs action and records it
+     *
+     * @param kind   branch kind
+     * @param branch branch position
+     * @param action action
+     */
+    public void run(BranchKind kind, int branch, Runnable action) {
+        long start = start();
+        action.run();
+        complete(kind, branch, start);
+    }
+
+    /**
+     * Computes action result and records it
+     *
+     * @param kind   branch kind
+     * @param branch branch position
+     * @param action action
+     * @return action result
+     */
+    public <R> R get(BranchKind kind, int branch, Supplier<R> action) {
+        long start = start();
+        R result = action.get();
+        complete(kind, branch, start);
+        return result;
+    }
+
+    /**
+     * Whether action durations are recorded
+     *
+     * @return true if timed
+     */
+    public boolean isTimed() {
+        return timed;
+    }
+
+    public long getHits(BranchKind kind) {
+        return hits[kind.ordinal()].sum();
+    }
+
+    /**
+     * Hits of a branch
+     *
+     * @param branch branch position
+     * @return hits, 0 if the branch never ran
+     */
+    public long getHits(int branch) {
+        Branch[] current = branches;
+        return branch < current.length ? current[branch].hits.sum() : 0;
+    }
+
+    /**
+     * Action latency of a branch
+     *
+     * @param branch branch position
+     * @return histogram, empty if the branch never ran or the registry is counting
+     */
+    public LatencyHistogram getLatency(int branch) {
+        Branch[] current = branches;
+        return branch < current.length && current[branch].latency != null ? current[branch].latency : new LatencyHistogram();
+    }
+
+    /**
+     * Snapshot of the action latency of every branch
+     *
+     * @return aggregated histogram
+     */
+    public LatencyHistogram getLatency() {
+        LatencyHistogram latency = new LatencyHistogram();
+        for (Branch branch : branches) {
+            if (branch.latency != null) {
+                latency.add(branch.latency);
+            }
+        }
+        return latency;
+    }
+
+    /**
+     * Number of branch positions seen so far
+     *
+     * @return branch count
+     */
+    public int getBranchCount() {
+        return branches.length;
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public long getThenHits() {
+        return getHits(BranchKind.THEN);
+    }
+
+    @Override
+    public long getElseIfHits() {
+        return getHits(BranchKind.ELSE_IF);
+    }
+
+    @Override
+    public long getElseThenHits() {
+        return getHits(BranchKind.ELSE_THEN);
+    }
+
+    @Override
+    public long getCaseOfHits() {
+        return getHits(BranchKind.CASE_OF);
+    }
+
+    @Override
+    public long getDefaultOfHits() {
+        return getHits(BranchKind.DEFAULT_OF);
+    }
+
+    @Override
+    public long getThrowsHits() {
+        return getHits(BranchKind.THROWS);
+    }
+
+    @Override
+    public long getTimedActions() {
+        return getLatency().getCount();
+    }
+
+    @Override
+    public int getTimingSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public double getMeanLatencyNanos() {
+        return getLatency().getMeanNanos();
+    }
+
+    @Override
+    public long getP50LatencyNanos() {
+        return getLatency().getPercentileNanos(50);
+    }
+
+    @Override
+    public long getP99LatencyNanos() {
+        return getLatency().getPercentileNanos(99);
+    }
+
+    @Override
+    public long getMaxLatencyNanos() {
+        return getLatency().getMaxNanos();
+    }
+
+    @Override
+    public long[] getBranchHits() {
+        Branch[] current = branches;
+        long[] values = new long[current.length];
+        for (int i = 0; i < current.length; i++) {
+            values[i] = current[i].hits.sum();
+        }
+        return values;
+    }
+
+    @Override
+    public long[] getBranchP50LatencyNanos() {
+        return branchPercentiles(50);
+    }
+
+    @Override
+    public long[] getBranchP99LatencyNanos() {
+        return branchPercentiles(99);
+    }
+
+    @Override
+    public long[] getBranchMaxLatencyNanos() {
+        Branch[] current = branches;
+        long[] values = new long[current.length];
+        for (int i = 0; i < current.length; i++) {
+            values[i] = current[i].latency == null ? 0 : current[i].latency.getMaxNanos();
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BranchMetrics[Label=%s, Then=%s, ElseIf=%s, ElseThen=%s, CaseOf=%s, DefaultOf=%s, Throws=%s, Branches=%s, P99=%sns]",
+                label, getThenHits(), getElseIfHits(), getElseThenHits(), getCaseOfHits(), getDefaultOfHits(),
+                getThrowsHits(), Arrays.toString(getBranchHits()), getP99LatencyNanos());
+    }
+
+    private long[] branchPercentiles(double percentile) {
+        Branch[] current = branches;
+        long[] values = new long[current.length];
+        for (int i = 0; i < current.length; i++) {
+            values[i] = current[i].latency == null ? 0 : current[i].latency.getPercentileNanos(percentile);
+        }
+        return values;
+    }
+
+    private Branch branch(int index) {
+        Branch[] current = branches;
+        return index < current.length ? current[index] : grow(index);
+    }
+
+    private synchronized Branch grow(int index) {
+        Branch[] current = branches;
+        if (index < current.length) {
+            return current[index];
+        }
+        Branch[] grown = Arrays.copyOf(current, index + 1);
+        for (int i = current.length; i < grown.length; i++) {
+            grown[i] = new Branch(timed);
+        }
+        branches = grown;
+        return grown[index];
+    }
+
+    /**
+     * Counters of one branch position, the array holding them is copied on growth so reads never lock
+     */
+    private static final class Branch {
+        private final LongAdder hits = new LongAdder();
+        private final LatencyHistogram latency;
+
+        private Branch(boolean timed) {
+            this.latency = timed ? new LatencyHistogram() : null;
+        }
+    }
+}
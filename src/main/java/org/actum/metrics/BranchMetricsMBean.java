@@ -0,0 +1,40 @@
+package org.actum.metrics;
+
+/**
+ * JMX view of {@link BranchMetrics}, the branch arrays are indexed by branch position
+ */
+public interface BranchMetricsMBean {
+    String getLabel();
+
+    long getThenHits();
+
+    long getElseIfHits();
+
+    long getElseThenHits();
+
+    long getCaseOfHits();
+
+    long getDefaultOfHits();
+
+    long getThrowsHits();
+
+    long getTimedActions();
+
+    int getTimingSampleRate();
+
+    double getMeanLatencyNanos();
+
+    long getP50LatencyNanos();
+
+    long getP99LatencyNanos();
+
+    long getMaxLatencyNanos();
+
+    long[] getBranchHits();
+
+    long[] getBranchP50LatencyNanos();
+
+    long[] getBranchP99LatencyNanos();
+
+    long[] getBranchMaxLatencyNanos();
+}
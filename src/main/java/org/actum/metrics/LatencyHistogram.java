@@ -0,0 +1,103 @@
+package org.actum.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two buckets: bucket i counts durations in [2^(i-1), 2^i) nanoseconds.
+ * Recording is a leading-zero count and a striped increment, percentiles are bucket upper bounds.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records duration
+     *
+     * @param nanos duration in nanoseconds, negative values count as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value))].increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Adds the durations recorded by another histogram, used to aggregate histograms on read
+     *
+     * @param other histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i].add(other.buckets[i].sum());
+        }
+        total.add(other.total.sum());
+        max.accumulate(other.max.get());
+    }
+
+    /**
+     * Number of recorded durations
+     *
+     * @return count
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return total.sum();
+    }
+
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    public double getMeanNanos() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    /**
+     * Upper bound of the bucket holding the percentile
+     *
+     * @param percentile percentile in [0, 100]
+     * @return latency upper bound in nanoseconds, 0 if nothing was recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in [0, 100]");
+        }
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(getMaxNanos(), i == 0 ? 0 : (1L << i) - 1);
+            }
+        }
+        return getMaxNanos();
+    }
+}
@@ -0,0 +1,127 @@
+package org.actum.table;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Read-only key to action id table memory-mapped from a file written by {@link DecisionTableWriter}.
+ * Opening maps the file without reading its rows, so startup does not depend on the table size,
+ * and lookups search the mapped keys directly: nothing is copied to the heap or allocated per lookup.
+ * Keys are stored as a static B-tree of 8-key nodes, one cache line each, laid out breadth-first:
+ * a search reads log9(rows) nodes instead of the log2(rows) scattered probes of a binary search,
+ * and the keys of a node are compared without branches.
+ * Pages are loaded by the operating system on first touch and shared between processes mapping the same file.
+ * Every open creates a new mapping, released only once the table is garbage collected: open a table once and share it.
+ * The file must not be modified while mapped.
+ * Layout, little-endian:
+ * int magic, int version, long rows, long[nodes * 8] keys, int[nodes * 8] action ids of the keys,
+ * the last node is padded with Long.MAX_VALUE keys of action id -1
+ */
+public final class DecisionTable {
+    public static final int MISSING = -1;
+    static final int MAGIC = 0x54434141;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int ROW_BYTES = Long.BYTES + Integer.BYTES;
+    static final int NODE_KEYS = 8;
+
+    private final ByteBuffer buffer;
+    private final int rows;
+    private final int nodes;
+    private final int actionsOffset;
+
+    private DecisionTable(ByteBuffer buffer, int rows) {
+        this.buffer = buffer;
+        this.rows = rows;
+        this.nodes = nodes(rows);
+        this.actionsOffset = HEADER_BYTES + nodes * NODE_KEYS * Long.BYTES;
+    }
+
+    /**
+     * Maps table file
+     *
+     * @param path table file
+     * @return table
+     * @throws IllegalArgumentException if path is not a decision table
+     * @throws UncheckedIOException     if path cannot be read
+     */
+    public static DecisionTable open(Path path) {
+        checkNotNull(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes < HEADER_BYTES || bytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Not a decision table: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            long rows = buffer.getLong(8);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || rows < 0 || rows > Integer.MAX_VALUE || fileBytes((int) rows) != bytes) {
+                throw new IllegalArgumentException("Not a decision table: " + path);
+            }
+            return new DecisionTable(buffer, (int) rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Action id of key
+     *
+     * @param key key
+     * @return action id, or {@link #MISSING}
+     */
+    public int actionOf(long key) {
+        ByteBuffer buffer = this.buffer;
+        int found = MISSING;
+        int node = 0;
+        while (node < nodes) {
+            int offset = HEADER_BYTES + node * NODE_KEYS * Long.BYTES;
+            int rank = 0;
+            for (int i = 0; i < NODE_KEYS; i++) {
+                rank += buffer.getLong(offset + i * Long.BYTES) < key ? 1 : 0;
+            }
+            if (rank < NODE_KEYS) {
+                found = node * NODE_KEYS + rank;
+            }
+            node = node * (NODE_KEYS + 1) + rank + 1;
+        }
+        // found is the first slot, in key order, holding a key not less than key
+        return found != MISSING && buffer.getLong(HEADER_BYTES + found * Long.BYTES) == key
+                ? buffer.getInt(actionsOffset + found * Integer.BYTES) : MISSING;
+    }
+
+    public boolean contains(long key) {
+        return actionOf(key) != MISSING;
+    }
+
+    /**
+     * Number of rows
+     *
+     * @return size
+     */
+    public int size() {
+        return rows;
+    }
+
+    static int nodes(int rows) {
+        return (rows + NODE_KEYS - 1) / NODE_KEYS;
+    }
+
+    static long fileBytes(int rows) {
+        return HEADER_BYTES + (long) nodes(rows) * NODE_KEYS * ROW_BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DecisionTable[Rows=%s]", rows);
+    }
+}
@@ -0,0 +1,183 @@
+package org.actum.table;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Writes the binary files mapped by {@link DecisionTable}, from arrays or from CSV rows.
+ * Command line import:
+ * java -cp actum.jar org.actum.table.DecisionTableWriter routes.csv routes.table
+ */
+public final class DecisionTableWriter {
+
+    private static final int CHUNK_ROWS = 8192;
+    private static final int PADDING = -1;
+
+    private DecisionTableWriter() {
+    }
+
+    /**
+     * Writes table mapping keys[i] to actions[i]
+     *
+     * @param path    target file, replaced if present
+     * @param keys    distinct keys, in any order
+     * @param actions non-negative action ids
+     */
+    public static void write(Path path, long[] keys, int[] actions) {
+        checkNotNull(path);
+        checkNotNull(keys);
+        checkNotNull(actions);
+        if (keys.length != actions.length) {
+            throw new IllegalArgumentException("Every key needs an action id");
+        }
+        if (keys.length > Integer.MAX_VALUE / DecisionTable.ROW_BYTES
+                || DecisionTable.fileBytes(keys.length) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Decision tables are limited to 2 GB");
+        }
+        int[] order = sortedOrder(keys);
+        for (int i = 0; i < order.length; i++) {
+            if (actions[order[i]] < 0) {
+                throw new IllegalArgumentException("Action ids must not be negative: " + actions[order[i]]);
+            }
+            if (i > 0 && keys[order[i]] == keys[order[i - 1]]) {
+                throw new IllegalArgumentException("Duplicate key: " + keys[order[i]]);
+            }
+        }
+        int[] layout = new int[DecisionTable.nodes(keys.length) * DecisionTable.NODE_KEYS];
+        layout(order, layout, 0, 0);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_ROWS * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(DecisionTable.MAGIC).putInt(DecisionTable.VERSION).putLong(keys.length);
+            for (int row : layout) {
+                flushIfFull(channel, buffer, Long.BYTES);
+                buffer.putLong(row == PADDING ? Long.MAX_VALUE : keys[row]);
+            }
+            for (int row : layout) {
+                flushIfFull(channel, buffer, Integer.BYTES);
+                buffer.putInt(row == PADDING ? DecisionTable.MISSING : actions[row]);
+            }
+            flush(channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes table from CSV rows "key,actionId", blank lines and lines starting with # are skipped
+     *
+     * @param csv  CSV rows
+     * @param path target file, replaced if present
+     * @return number of rows written
+     */
+    public static int importCsv(Reader csv, Path path) {
+        checkNotNull(csv);
+        checkNotNull(path);
+        long[] keys = new long[1024];
+        int[] actions = new int[1024];
+        int rows = 0;
+        BufferedReader reader = csv instanceof BufferedReader ? (BufferedReader) csv : new BufferedReader(csv);
+        try {
+            int number = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                number++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int comma = line.indexOf(',');
+                if (comma < 0) {
+                    throw new IllegalArgumentException("Line " + number + " is not key,actionId: " + line);
+                }
+                if (rows == keys.length) {
+                    keys = Arrays.copyOf(keys, rows * 2);
+                    actions = Arrays.copyOf(actions, rows * 2);
+                }
+                try {
+                    keys[rows] = Long.parseLong(line.substring(0, comma).trim());
+                    actions[rows] = Integer.parseInt(line.substring(comma + 1).trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Line " + number + " is not key,actionId: " + line, e);
+                }
+                rows++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        write(path, Arrays.copyOf(keys, rows), Arrays.copyOf(actions, rows));
+        return rows;
+    }
+
+    /**
+     * Imports a CSV file into a table file
+     *
+     * @param args CSV file and table file
+     * @throws IOException if the CSV file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: DecisionTableWriter <input.csv> <output.table>");
+            System.exit(2);
+        }
+        try (Reader csv = Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8)) {
+            int rows = importCsv(csv, Path.of(args[1]));
+            System.out.println("Wrote " + rows + " rows to " + args[1]);
+        }
+    }
+
+    private static int[] sortedOrder(long[] keys) {
+        Integer[] rows = new Integer[keys.length];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i;
+        }
+        Arrays.sort(rows, (a, b) -> Long.compare(keys[a], keys[b]));
+        int[] order = new int[rows.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = rows[i];
+        }
+        return order;
+    }
+
+    /**
+     * Places sorted rows in the nodes of the static B-tree, node k having children k * 9 + 1 to k * 9 + 9:
+     * an in-order walk of the tree visits the sorted rows in turn, followed by the padding
+     */
+    private static int layout(int[] sorted, int[] layout, int next, int node) {
+        int nodes = layout.length / DecisionTable.NODE_KEYS;
+        if (node < nodes) {
+            for (int i = 0; i < DecisionTable.NODE_KEYS; i++) {
+                next = layout(sorted, layout, next, node * (DecisionTable.NODE_KEYS + 1) + i + 1);
+                layout[node * DecisionTable.NODE_KEYS + i] = next < sorted.length ? sorted[next] : PADDING;
+                next++;
+            }
+            next = layout(sorted, layout, next, node * (DecisionTable.NODE_KEYS + 1) + DecisionTable.NODE_KEYS + 1);
+        }
+        return next;
+    }
+
+    private static void flushIfFull(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+        if (buffer.remaining() < needed) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
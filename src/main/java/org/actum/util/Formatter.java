@@ -1,13 +1,19 @@
 package org.actum.util;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Utility class to help sanitize input strings
  */
 public class Formatter {
     private static final String DEFAULT_LABEL_PREFIX = "actum";
+    private static final int MAX_CACHED_LABELS = 1024;
+    private static final ConcurrentMap<String, String> NORMALIZED = new ConcurrentHashMap<>();
 
     /**
      * Normalize string to kebab-case
+     * Results are cached, the cache stops growing once it holds {@value #MAX_CACHED_LABELS} labels
      * @param input Input string
      * @param defaultValue In case input is not provided
      * @return kebab-case normalized string
@@ -16,17 +22,81 @@ public class Formatter {
         if (input == null || input.isBlank()) {
             input = DEFAULT_LABEL_PREFIX + defaultValue;
         }
-        String normalized = replace(input);
-        return normalized.toLowerCase();
+        String normalized = NORMALIZED.get(input);
+        if (normalized == null) {
+            normalized = replace(input).toLowerCase();
+            if (NORMALIZED.size() < MAX_CACHED_LABELS) {
+                NORMALIZED.putIfAbsent(input, normalized);
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Replaces each {} placeholder of template with the next argument
+     * @param template message template
+     * @param args arguments
+     * @return formatted message
+     */
+    public static String format(String template, Object... args) {
+        if (template == null || args == null || args.length == 0) {
+            return template;
+        }
+        StringBuilder builder = new StringBuilder(template.length() + 16 * args.length);
+        int from = 0;
+        for (Object arg : args) {
+            int at = template.indexOf("{}", from);
+            if (at < 0) {
+                break;
+            }
+            builder.append(template, from, at).append(arg);
+            from = at + 2;
+        }
+        return builder.append(template, from, template.length()).toString();
     }
 
+    /**
+     * Single pass equivalent of: "_" to "-", dash between lower and upper case ("aB" to "a-B"),
+     * dash before the last capital of an acronym followed by a word ("ABc" to "A-Bc"),
+     * collapsing dash runs and trimming leading and trailing dash
+     */
     private static String replace(String input) {
-        String normalized = input.replaceAll("_", "-");
+        int length = input.length();
+        StringBuilder normalized = new StringBuilder(length + 8);
+        for (int i = 0; i < length; i++) {
+            char current = input.charAt(i);
+            if (current == '_') {
+                current = '-';
+            }
+            if (isUpper(current) && i > 0) {
+                char previous = input.charAt(i - 1);
+                if (isLower(previous) || (isUpper(previous) && i + 1 < length && isLower(input.charAt(i + 1)))) {
+                    appendDash(normalized);
+                }
+            }
+            if (current == '-') {
+                appendDash(normalized);
+            } else {
+                normalized.append(current);
+            }
+        }
+        int start = normalized.length() > 0 && normalized.charAt(0) == '-' ? 1 : 0;
+        int end = normalized.length() > start && normalized.charAt(normalized.length() - 1) == '-'
+                ? normalized.length() - 1 : normalized.length();
+        return normalized.substring(start, end);
+    }
 
-        normalized = normalized.replaceAll("([a-z])([A-Z])", "$1-$2");
-        normalized = normalized.replaceAll("([A-Z]+)([A-Z][a-z])", "$1-$2");
+    private static void appendDash(StringBuilder builder) {
+        if (builder.length() == 0 || builder.charAt(builder.length() - 1) != '-') {
+            builder.append('-');
+        }
+    }
 
-        normalized = normalized.replaceAll("--+", "-").replaceAll("^-|-$", "");
-        return normalized;
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLower(char c) {
+        return c >= 'a' && c <= 'z';
     }
 }
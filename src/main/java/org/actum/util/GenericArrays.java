@@ -0,0 +1,39 @@
+package org.actum.util;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+/**
+ * Creates arrays of parameterized element types, which cannot be instantiated with {@code new}.
+ * The only unchecked cast of the library lives here, callers stay free of warning suppressions.
+ */
+public final class GenericArrays {
+
+    private GenericArrays() {
+    }
+
+    /**
+     * Creates an empty array whose runtime component type is the raw class of the elements
+     *
+     * @param component raw element class
+     * @param size array length
+     * @param <E> element type
+     * @return new array
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> E[] newArray(Class<? super E> component, int size) {
+        return (E[]) Array.newInstance(component, size);
+    }
+
+    /**
+     * Copies the values into a new array whose runtime component type is the raw class of the elements
+     *
+     * @param component raw element class
+     * @param values values in iteration order
+     * @param <E> element type
+     * @return new array
+     */
+    public static <E> E[] toArray(Class<? super E> component, Collection<? extends E> values) {
+        return values.toArray(GenericArrays.<E>newArray(component, values.size()));
+    }
+}
@@ -0,0 +1,105 @@
+package org.actum.util;
+
+import java.util.Arrays;
+
+/**
+ * Immutable long key to index table without boxing.
+ * Compact key ranges are stored as a dense array indexed by key offset,
+ * sparse keys in an open-addressing table with linear probing.
+ */
+public final class LongLookup {
+    public static final int MISSING = -1;
+    private static final int MIN_DENSE_SPAN = 64;
+    private static final int DENSITY = 4;
+
+    private final long min;
+    private final int[] dense;
+    private final long[] keys;
+    private final int[] indexes;
+    private final int mask;
+
+    private LongLookup(long min, int[] dense, long[] keys, int[] indexes) {
+        this.min = min;
+        this.dense = dense;
+        this.keys = keys;
+        this.indexes = indexes;
+        this.mask = keys == null ? 0 : keys.length - 1;
+    }
+
+    /**
+     * Builds lookup mapping keys[i] to i, keys must be distinct
+     *
+     * @param keys distinct keys
+     * @return lookup
+     */
+    public static LongLookup of(long[] keys) {
+        Validator.checkNotNull(keys);
+        if (keys.length == 0) {
+            return new LongLookup(0, new int[0], null, null);
+        }
+        long min = keys[0];
+        long max = keys[0];
+        for (long key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+        long span = max - min + 1;
+        if (span > 0 && span <= Math.max(MIN_DENSE_SPAN, (long) keys.length * DENSITY)) {
+            int[] dense = new int[(int) span];
+            Arrays.fill(dense, MISSING);
+            for (int i = 0; i < keys.length; i++) {
+                dense[(int) (keys[i] - min)] = i;
+            }
+            return new LongLookup(min, dense, null, null);
+        }
+        int capacity = Integer.highestOneBit(keys.length * 2 - 1) << 1;
+        long[] table = new long[capacity];
+        int[] indexes = new int[capacity];
+        Arrays.fill(indexes, MISSING);
+        for (int i = 0; i < keys.length; i++) {
+            int slot = mix(keys[i]) & (capacity - 1);
+            while (indexes[slot] != MISSING) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            table[slot] = keys[i];
+            indexes[slot] = i;
+        }
+        return new LongLookup(0, null, table, indexes);
+    }
+
+    /**
+     * Index of key
+     *
+     * @param key key
+     * @return index, or {@link #MISSING}
+     */
+    public int indexOf(long key) {
+        if (dense != null) {
+            long offset = key - min;
+            return offset >= 0 && offset < dense.length ? dense[(int) offset] : MISSING;
+        }
+        int slot = mix(key) & mask;
+        int index;
+        while ((index = indexes[slot]) != MISSING) {
+            if (keys[slot] == key) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    /**
+     * Whether keys are stored in a dense array
+     *
+     * @return true if dense
+     */
+    public boolean isDense() {
+        return dense != null;
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
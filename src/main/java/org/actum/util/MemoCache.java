@@ -0,0 +1,278 @@
+package org.actum.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.actum.util.Validator.checkNotNull;
+
+/**
+ * Bounded concurrent cache of computed values, split into independently locked LRU segments.
+ * Concurrent misses of the same key compute the value once, the other callers wait for it.
+ * Null keys and null values are cached like any other, failed computations are not cached.
+ * A loader must not ask the cache for its own key, that fails with IllegalStateException instead of deadlocking.
+ * Usage:
+ * MemoCache&lt;K, V&gt; cache = MemoCache.of(1024, Duration.ofMinutes(5));
+ * V value = cache.get(key, loader);
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class MemoCache<K, V> {
+
+    private static final Object NULL = new Object();
+    private static final int MAX_SEGMENTS = 64;
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private final Segment[] segments;
+    private final int mask;
+    private final long ttlNanos;
+    private final ConcurrentMap<Object, Load> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicLong generation = new AtomicLong();
+
+    private MemoCache(int maximumSize, long ttlNanos) {
+        int count = 1;
+        while (count < MAX_SEGMENTS && count * 2 * MIN_SEGMENT_SIZE <= maximumSize
+                && count < Runtime.getRuntime().availableProcessors() * 4) {
+            count *= 2;
+        }
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximumSize / count, ttlNanos, evictions, generation);
+        }
+        this.mask = count - 1;
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * Cache keeping at most maximumSize values
+     *
+     * @param maximumSize maximum number of values, at least 1
+     * @return cache
+     */
+    public static <K, V> MemoCache<K, V> of(int maximumSize) {
+        return of(maximumSize, Duration.ZERO);
+    }
+
+    /**
+     * Cache keeping at most maximumSize values, each for at most ttl after it was computed
+     *
+     * @param maximumSize maximum number of values, at least 1
+     * @param ttl         time to live, zero for no expiry
+     * @return cache
+     */
+    public static <K, V> MemoCache<K, V> of(int maximumSize, Duration ttl) {
+        checkNotNull(ttl);
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1");
+        }
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("Time to live must not be negative");
+        }
+        return new MemoCache<>(maximumSize, ttl.toNanos());
+    }
+
+    /**
+     * Returns the cached value of key, computing and caching it on a miss
+     *
+     * @param key    key
+     * @param loader computes the value of key
+     * @return value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Object mapped = key == null ? NULL : key;
+        Segment segment = segmentFor(mapped);
+        Object value = segment.find(mapped);
+        if (value != null) {
+            hits.increment();
+            return unmask(value);
+        }
+        misses.increment();
+        Load load = new Load(generation.get());
+        Load pending = loading.putIfAbsent(mapped, load);
+        if (pending != null) {
+            if (pending.owner == Thread.currentThread()) {
+                throw new IllegalStateException("Recursive load of key " + key);
+            }
+            return unmask(await(pending.future));
+        }
+        try {
+            value = segment.find(mapped);
+            if (value == null) {
+                V computed = loader.apply(key);
+                value = computed == null ? NULL : computed;
+                segment.store(mapped, value, load.generation);
+            }
+            load.future.complete(value);
+            return unmask(value);
+        } catch (RuntimeException | Error e) {
+            load.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(mapped, load);
+        }
+    }
+
+    /**
+     * Removes every cached value, values of loads started before are returned to their callers but not cached
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        loading.clear();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Number of cached values, including expired values not yet removed
+     *
+     * @return size
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of values removed because the cache was full or they expired
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MemoCache[Size=%s, Hits=%s, Misses=%s, Evictions=%s]",
+                size(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    private Segment segmentFor(Object key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unmask(Object value) {
+        return value == NULL ? null : (V) value;
+    }
+
+    private static Object await(CompletableFuture<Object> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Value being computed, owned by the computing thread
+     */
+    private static final class Load {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final Thread owner = Thread.currentThread();
+        private final long generation;
+
+        private Load(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<Object, Entry> {
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
+        private final long ttlNanos;
+        private final LongAdder evictions;
+        private final AtomicLong generation;
+
+        private Segment(int capacity, long ttlNanos, LongAdder evictions, AtomicLong generation) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.ttlNanos = ttlNanos;
+            this.evictions = evictions;
+            this.generation = generation;
+        }
+
+        private synchronized Object find(Object key) {
+            Entry entry = get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ttlNanos > 0 && System.nanoTime() - entry.expiresAt >= 0) {
+                remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.value;
+        }
+
+        /**
+         * Stores value unless the cache was invalidated since its load started,
+         * checked under the segment lock so a concurrent invalidation either sees the value or rejects it
+         */
+        private synchronized void store(Object key, Object value, long generation) {
+            if (this.generation.get() == generation) {
+                put(key, new Entry(value, ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0));
+            }
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
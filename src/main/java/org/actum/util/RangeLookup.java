@@ -0,0 +1,177 @@
+package org.actum.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Immutable table of half-open ranges [low, high) to the index of their declaration.
+ * Bounds are split into elementary intervals sorted per bound class, each owned by the first declared range
+ * covering it, so a lookup is one binary search whatever the overlaps.
+ * A value only falls in ranges whose bounds have exactly its class.
+ */
+public final class RangeLookup {
+    public static final int MISSING = -1;
+
+    private final Map<Class<?>, Index> indexes;
+    private final Class<?> onlyClass;
+    private final Index only;
+    private final int size;
+
+    private RangeLookup(Map<Class<?>, Index> indexes, int size) {
+        this.indexes = indexes;
+        this.size = size;
+        if (indexes.size() == 1) {
+            Map.Entry<Class<?>, Index> entry = indexes.entrySet().iterator().next();
+            this.onlyClass = entry.getKey();
+            this.only = entry.getValue();
+        } else {
+            this.onlyClass = null;
+            this.only = null;
+        }
+    }
+
+    /**
+     * Builds lookup mapping the range [lows[i], highs[i]) to i
+     *
+     * @param lows  inclusive lower bounds
+     * @param highs exclusive upper bounds
+     * @return lookup
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static RangeLookup of(List<? extends Comparable<?>> lows, List<? extends Comparable<?>> highs) {
+        Validator.checkNotNull(lows);
+        Validator.checkNotNull(highs);
+        if (lows.size() != highs.size()) {
+            throw new IllegalArgumentException("Every range needs a low and a high bound");
+        }
+        Map<Class<?>, List<Integer>> byClass = new LinkedHashMap<>();
+        for (int i = 0; i < lows.size(); i++) {
+            checkRange(lows.get(i), highs.get(i));
+            byClass.computeIfAbsent(lows.get(i).getClass(), key -> new ArrayList<>()).add(i);
+        }
+        Map<Class<?>, Index> indexes = new HashMap<>();
+        for (Map.Entry<Class<?>, List<Integer>> entry : byClass.entrySet()) {
+            indexes.put(entry.getKey(), Index.of((List) lows, (List) highs, entry.getValue()));
+        }
+        return new RangeLookup(indexes, lows.size());
+    }
+
+    /**
+     * Checks that low and high are non-null bounds of the same class with low before high
+     *
+     * @param low  inclusive lower bound
+     * @param high exclusive upper bound
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static void checkRange(Comparable<?> low, Comparable<?> high) {
+        Validator.checkNotNull(low);
+        Validator.checkNotNull(high);
+        if (low.getClass() != high.getClass()) {
+            throw new IllegalArgumentException("Range bounds must have the same class");
+        }
+        if (((Comparable) low).compareTo(high) >= 0) {
+            throw new IllegalArgumentException("Range low bound must be before its high bound");
+        }
+    }
+
+    /**
+     * Checks whether value is in [low, high), values of another class than the bounds never are
+     *
+     * @param low   inclusive lower bound
+     * @param high  exclusive upper bound
+     * @param value value
+     * @return true if in range
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static boolean contains(Comparable<?> low, Comparable<?> high, Object value) {
+        return value != null && value.getClass() == low.getClass()
+                && ((Comparable) low).compareTo(value) <= 0 && ((Comparable) high).compareTo(value) > 0;
+    }
+
+    /**
+     * Index of the first declared range containing value
+     *
+     * @param value value
+     * @return index, or {@link #MISSING}
+     */
+    public int indexOf(Object value) {
+        if (value == null) {
+            return MISSING;
+        }
+        Class<?> type = value.getClass();
+        Index index = type == onlyClass ? only : indexes.get(type);
+        return index == null ? MISSING : index.indexOf(value);
+    }
+
+    /**
+     * Number of ranges
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    private static final class Index {
+        private final Object[] bounds;
+        private final int[] owners;
+
+        private Index(Object[] bounds, int[] owners) {
+            this.bounds = bounds;
+            this.owners = owners;
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static Index of(List<Comparable> lows, List<Comparable> highs, List<Integer> ranges) {
+            TreeSet<Comparable> sorted = new TreeSet<>();
+            for (int range : ranges) {
+                sorted.add(lows.get(range));
+                sorted.add(highs.get(range));
+            }
+            Object[] bounds = sorted.toArray();
+            int[] owners = new int[bounds.length];
+            Arrays.fill(owners, MISSING);
+            int[] next = new int[bounds.length];
+            for (int i = 0; i < next.length; i++) {
+                next[i] = i;
+            }
+            for (int range : ranges) {
+                int end = Arrays.binarySearch(bounds, highs.get(range));
+                for (int i = free(next, Arrays.binarySearch(bounds, lows.get(range))); i < end; i = free(next, i)) {
+                    owners[i] = range;
+                    next[i] = i + 1;
+                }
+            }
+            return new Index(bounds, owners);
+        }
+
+        /**
+         * First interval at or after i without owner, path halving keeps the fill near linear
+         */
+        private static int free(int[] next, int i) {
+            while (i < next.length && next[i] != i) {
+                if (next[i] < next.length) {
+                    next[i] = next[next[i]];
+                }
+                i = next[i];
+            }
+            return i;
+        }
+
+        private int indexOf(Object value) {
+            int slot = Arrays.binarySearch(bounds, value);
+            if (slot < 0) {
+                slot = -slot - 2;
+                if (slot < 0) {
+                    return MISSING;
+                }
+            }
+            return owners[slot];
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package org.actum.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * Immutable string key to index table built once for a known key set.
+ * Case-sensitive keys are placed by perfect hashing (hash and displace) over the cached String.hashCode:
+ * a per-bucket displacement sends every key to its own slot, so a lookup is two multiplications,
+ * two array reads and a single equals.
+ * Prefixes, case-insensitive keys and key sets with colliding hash codes are walked in a compact trie.
+ * Exact lookups are on par with HashMap.get, which is also a single probe over the cached hash code:
+ * the perfect hash only saves the map's entry objects and Integer values.
+ * What the table adds is the trie: longest-prefix routing without scanning the prefixes,
+ * and case-insensitive lookups without a lower-cased copy of the input.
+ */
+public final class StringLookup {
+    public static final int MISSING = -1;
+    private static final int BUCKET_MULTIPLIER = 0x9E3779B9;
+    private static final int SLOT_MULTIPLIER = 0x85EBCA6B;
+    private static final int MAX_DISPLACEMENT_TRIES = 1 << 16;
+    private static final int MAX_LOAD_DOUBLINGS = 4;
+
+    private final boolean ignoreCase;
+    private final int[] displacements;
+    private final int bucketShift;
+    private final String[] slots;
+    private final int[] slotIndexes;
+    private final int slotShift;
+    private final char[][] labels;
+    private final int[][] children;
+    private final int[] exact;
+    private final int[] prefix;
+    private final boolean perfect;
+    private final boolean hasPrefixes;
+
+    private StringLookup(boolean ignoreCase, PerfectHash hash, Trie trie, boolean hasPrefixes) {
+        this.ignoreCase = ignoreCase;
+        this.perfect = hash != null;
+        this.displacements = hash == null ? null : hash.displacements;
+        this.bucketShift = hash == null ? 0 : hash.bucketShift;
+        this.slots = hash == null ? null : hash.slots;
+        this.slotIndexes = hash == null ? null : hash.indexes;
+        this.slotShift = hash == null ? 0 : hash.slotShift;
+        this.labels = trie.labels;
+        this.children = trie.children;
+        this.exact = trie.exact;
+        this.prefix = trie.prefix;
+        this.hasPrefixes = hasPrefixes;
+    }
+
+    /**
+     * Builds case-sensitive lookup mapping keys[i] to i, keys must be distinct
+     *
+     * @param keys distinct keys
+     * @return lookup
+     */
+    public static StringLookup of(String[] keys) {
+        return of(keys, new String[0], false);
+    }
+
+    /**
+     * Builds lookup mapping keys[i] to i and prefixes[i] to i
+     *
+     * @param keys       distinct keys, compared ignoring case if requested
+     * @param prefixes   distinct prefixes, compared ignoring case if requested
+     * @param ignoreCase whether keys and prefixes match regardless of case
+     * @return lookup
+     */
+    public static StringLookup of(String[] keys, String[] prefixes, boolean ignoreCase) {
+        Validator.checkNotNull(keys);
+        Validator.checkNotNull(prefixes);
+        for (String key : keys) {
+            Validator.checkNotNull(key);
+        }
+        for (String key : prefixes) {
+            Validator.checkNotNull(key);
+        }
+        PerfectHash hash = ignoreCase ? null : PerfectHash.of(keys);
+        Trie trie = new Trie(ignoreCase);
+        if (hash == null) {
+            for (int i = 0; i < keys.length; i++) {
+                trie.add(keys[i], i, true);
+            }
+        }
+        for (int i = 0; i < prefixes.length; i++) {
+            trie.add(prefixes[i], i, false);
+        }
+        return new StringLookup(ignoreCase, hash, trie.flatten(), prefixes.length > 0);
+    }
+
+    /**
+     * Index of the key equal to input
+     *
+     * @param input input
+     * @return index, or {@link #MISSING}
+     */
+    public int indexOf(String input) {
+        if (input == null) {
+            return MISSING;
+        }
+        if (perfect) {
+            int hash = input.hashCode();
+            int[] displacements = this.displacements;
+            String[] slots = this.slots;
+            int displacement = displacements[((hash * BUCKET_MULTIPLIER) >>> bucketShift) & (displacements.length - 1)];
+            int slot = (((hash ^ displacement) * SLOT_MULTIPLIER) >>> slotShift) & (slots.length - 1);
+            return input.equals(slots[slot]) ? slotIndexes[slot] : MISSING;
+        }
+        int node = 0;
+        for (int i = 0; i < input.length() && node != MISSING; i++) {
+            node = child(node, input.charAt(i));
+        }
+        return node == MISSING ? MISSING : exact[node];
+    }
+
+    /**
+     * Index of the longest prefix input starts with
+     *
+     * @param input input
+     * @return index, or {@link #MISSING}
+     */
+    public int prefixIndexOf(String input) {
+        if (input == null || !hasPrefixes) {
+            return MISSING;
+        }
+        int node = 0;
+        int best = prefix[0];
+        for (int i = 0; i < input.length(); i++) {
+            node = child(node, input.charAt(i));
+            if (node == MISSING) {
+                break;
+            }
+            if (prefix[node] != MISSING) {
+                best = prefix[node];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Whether exact keys are placed by perfect hashing rather than walked in the trie
+     *
+     * @return true if perfect
+     */
+    public boolean isPerfect() {
+        return perfect;
+    }
+
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    private int child(int node, char c) {
+        char[] edges = labels[node];
+        int slot = Arrays.binarySearch(edges, ignoreCase ? fold(c) : c);
+        return slot < 0 ? MISSING : children[node][slot];
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int bits(int size) {
+        return size <= 1 ? 1 : 32 - Integer.numberOfLeadingZeros(size - 1);
+    }
+
+    private static final class PerfectHash {
+        private final int[] displacements;
+        private final int bucketShift;
+        private final String[] slots;
+        private final int[] indexes;
+        private final int slotShift;
+
+        private PerfectHash(int[] displacements, int bucketShift, String[] slots, int[] indexes, int slotShift) {
+            this.displacements = displacements;
+            this.bucketShift = bucketShift;
+            this.slots = slots;
+            this.indexes = indexes;
+            this.slotShift = slotShift;
+        }
+
+        /**
+         * Hash and displace: keys are grouped in buckets, largest buckets first pick a displacement
+         * sending all their keys to free slots. Returns null if hash codes collide or no placement is found.
+         */
+        private static PerfectHash of(String[] keys) {
+            Set<Integer> hashes = new HashSet<>();
+            for (String key : keys) {
+                if (!hashes.add(key.hashCode())) {
+                    return null;
+                }
+            }
+            int bucketBits = Math.max(1, bits(keys.length) - 1);
+            int bucketShift = 32 - bucketBits;
+            List<List<Integer>> buckets = new ArrayList<>();
+            for (int i = 0; i < 1 << bucketBits; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            for (int i = 0; i < keys.length; i++) {
+                buckets.get((keys[i].hashCode() * BUCKET_MULTIPLIER) >>> bucketShift).add(i);
+            }
+            Integer[] order = new Integer[buckets.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+            for (int slotBits = bits(keys.length) + 1; slotBits <= bits(keys.length) + MAX_LOAD_DOUBLINGS; slotBits++) {
+                PerfectHash hash = place(keys, buckets, order, bucketShift, slotBits);
+                if (hash != null) {
+                    return hash;
+                }
+            }
+            return null;
+        }
+
+        private static PerfectHash place(String[] keys, List<List<Integer>> buckets, Integer[] order,
+                                         int bucketShift, int slotBits) {
+            int slotShift = 32 - slotBits;
+            String[] slots = new String[1 << slotBits];
+            int[] indexes = new int[1 << slotBits];
+            Arrays.fill(indexes, MISSING);
+            int[] displacements = new int[buckets.size()];
+            SplittableRandom random = new SplittableRandom(slotBits);
+            int[] taken = new int[keys.length];
+            for (int bucket : order) {
+                List<Integer> members = buckets.get(bucket);
+                if (members.isEmpty()) {
+                    break;
+                }
+                boolean placed = false;
+                for (int attempt = 0; attempt < MAX_DISPLACEMENT_TRIES && !placed; attempt++) {
+                    int displacement = attempt == 0 ? 0 : random.nextInt();
+                    int count = 0;
+                    placed = true;
+                    for (int member : members) {
+                        int slot = ((keys[member].hashCode() ^ displacement) * SLOT_MULTIPLIER) >>> slotShift;
+                        if (slots[slot] != null) {
+                            placed = false;
+                            break;
+                        }
+                        slots[slot] = keys[member];
+                        taken[count++] = slot;
+                    }
+                    if (placed) {
+                        displacements[bucket] = displacement;
+                        for (int i = 0; i < count; i++) {
+                            indexes[taken[i]] = members.get(i);
+                        }
+                    } else {
+                        for (int i = 0; i < count; i++) {
+                            slots[taken[i]] = null;
+                        }
+                    }
+                }
+                if (!placed) {
+                    return null;
+                }
+            }
+            return new PerfectHash(displacements, bucketShift, slots, indexes, slotShift);
+        }
+    }
+
+    private static final class Trie {
+        private final boolean ignoreCase;
+        private final List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        private final List<int[]> values = new ArrayList<>();
+        private char[][] labels;
+        private int[][] children;
+        private int[] exact;
+        private int[] prefix;
+
+        private Trie(boolean ignoreCase) {
+            this.ignoreCase = ignoreCase;
+            node();
+        }
+
+        private int node() {
+            edges.add(new TreeMap<>());
+            values.add(new int[]{MISSING, MISSING});
+            return edges.size() - 1;
+        }
+
+        private void add(String key, int index, boolean isExact) {
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                char c = ignoreCase ? fold(key.charAt(i)) : key.charAt(i);
+                Integer next = edges.get(node).get(c);
+                if (next == null) {
+                    next = node();
+                    edges.get(node).put(c, next);
+                }
+                node = next;
+            }
+            int[] value = values.get(node);
+            int slot = isExact ? 0 : 1;
+            if (value[slot] == MISSING) {
+                value[slot] = index;
+            }
+        }
+
+        private Trie flatten() {
+            int size = edges.size();
+            labels = new char[size][];
+            children = new int[size][];
+            exact = new int[size];
+            prefix = new int[size];
+            for (int node = 0; node < size; node++) {
+                TreeMap<Character, Integer> next = edges.get(node);
+                labels[node] = new char[next.size()];
+                children[node] = new int[next.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> entry : next.entrySet()) {
+                    labels[node][i] = entry.getKey();
+                    children[node][i++] = entry.getValue();
+                }
+                exact[node] = values.get(node)[0];
+                prefix[node] = values.get(node)[1];
+            }
+            return this;
+        }
+    }
+}
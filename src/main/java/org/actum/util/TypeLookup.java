@@ -0,0 +1,90 @@
+package org.actum.util;
+
+/**
+ * Immutable table of case types to the index of their declaration.
+ * The most specific case of a concrete class is resolved on its first lookup and cached in a ClassValue,
+ * so steady-state lookups are a single per-class cache read.
+ * Resolution: among the case types the class is assignable to, supertypes of another candidate are dropped;
+ * if several unrelated candidates remain, e.g. two interfaces, the first declared wins.
+ */
+public final class TypeLookup {
+    public static final int MISSING = -1;
+
+    private final Class<?>[] types;
+    private final ClassValue<Integer> resolved = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private TypeLookup(Class<?>[] types) {
+        this.types = types;
+    }
+
+    /**
+     * Builds lookup mapping types[i] and its subtypes to i, types must be distinct
+     *
+     * @param types distinct case types
+     * @return lookup
+     */
+    public static TypeLookup of(Class<?>[] types) {
+        Validator.checkNotNull(types);
+        Class<?>[] copy = types.clone();
+        for (Class<?> type : copy) {
+            Validator.checkNotNull(type);
+            if (type.isPrimitive()) {
+                throw new IllegalArgumentException("Primitive case types never match, use the wrapper type");
+            }
+        }
+        return new TypeLookup(copy);
+    }
+
+    /**
+     * Index of the most specific case type of value
+     *
+     * @param value value
+     * @return index, or {@link #MISSING} for null and unmatched values
+     */
+    public int indexOf(Object value) {
+        return value == null ? MISSING : resolved.get(value.getClass());
+    }
+
+    /**
+     * Index of the most specific case type of type
+     *
+     * @param type concrete type
+     * @return index, or {@link #MISSING}
+     */
+    public int indexOf(Class<?> type) {
+        Validator.checkNotNull(type);
+        return resolved.get(type);
+    }
+
+    /**
+     * Number of case types
+     *
+     * @return size
+     */
+    public int size() {
+        return types.length;
+    }
+
+    private int resolve(Class<?> type) {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i].isAssignableFrom(type) && !hasMoreSpecific(type, types[i])) {
+                return i;
+            }
+        }
+        return MISSING;
+    }
+
+    private boolean hasMoreSpecific(Class<?> type, Class<?> candidate) {
+        for (Class<?> other : types) {
+            if (other != candidate && candidate.isAssignableFrom(other) && other.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
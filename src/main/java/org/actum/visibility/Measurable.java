@@ -0,0 +1,16 @@
+package org.actum.visibility;
+
+import org.actum.metrics.ActumMetrics;
+
+/**
+ * Provide capabilities to record metrics of current condition
+ * @param <T> type of measurable
+ */
+public interface Measurable<T> {
+    /**
+     * Records branch hits, and action latency if the registry is timing, under the condition label
+     * @param metrics metrics registry
+     * @return measurable
+     */
+    T withMetrics(ActumMetrics metrics);
+}
@@ -0,0 +1,47 @@
+package org.actum.visibility;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket per label, kept as a single theoretical arrival time updated with compare-and-set
+ */
+final class RateLimitedSampler implements TraceSampler {
+
+    private final long interval;
+    private final long tolerance;
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    RateLimitedSampler(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1");
+        }
+        this.interval = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.tolerance = interval * (burst - 1);
+    }
+
+    @Override
+    public boolean sample(String label, boolean matched) {
+        return acquire(label, System.nanoTime());
+    }
+
+    boolean acquire(String label, long now) {
+        AtomicLong bucket = buckets.get(label);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(label, key -> new AtomicLong(now));
+        }
+        while (true) {
+            long arrival = bucket.get();
+            if (now - arrival < -tolerance) {
+                return false;
+            }
+            if (bucket.compareAndSet(arrival, Math.max(arrival, now) + interval)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.actum.visibility;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which executions of a traced condition are logged.
+ * Samplers are only consulted when tracing is on and the logger accepts the level.
+ * Usage:
+ * If.when(condition).trace(TraceSampler.probability(0.01))
+ */
+@FunctionalInterface
+public interface TraceSampler {
+
+    /**
+     * Decides whether an execution is logged
+     *
+     * @param label   normalized label of the condition
+     * @param matched whether a branch or case matched
+     * @return true to log
+     */
+    boolean sample(String label, boolean matched);
+
+    /**
+     * Logs every execution
+     *
+     * @return sampler
+     */
+    static TraceSampler always() {
+        return (label, matched) -> true;
+    }
+
+    /**
+     * Logs executions with a fixed probability
+     *
+     * @param probability probability in [0, 1]
+     * @return sampler
+     */
+    static TraceSampler probability(double probability) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("Probability must be in [0, 1]");
+        }
+        return (label, matched) -> ThreadLocalRandom.current().nextDouble() < probability;
+    }
+
+    /**
+     * Logs one execution in n on average
+     *
+     * @param n sampling period, at least 1
+     * @return sampler
+     */
+    static TraceSampler oneIn(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Sampling period must be at least 1");
+        }
+        return n == 1 ? always() : (label, matched) -> ThreadLocalRandom.current().nextInt(n) == 0;
+    }
+
+    /**
+     * Logs at most permitsPerSecond executions per label, allowing bursts of up to burst executions
+     *
+     * @param permitsPerSecond sustained rate per label
+     * @param burst            burst size, at least 1
+     * @return sampler
+     */
+    static TraceSampler rateLimited(double permitsPerSecond, int burst) {
+        return new RateLimitedSampler(permitsPerSecond, burst);
+    }
+
+    /**
+     * Logs only executions where nothing matched, i.e. else, default and thrown exceptions
+     *
+     * @return sampler
+     */
+    static TraceSampler unmatchedOnly() {
+        return (label, matched) -> !matched;
+    }
+}
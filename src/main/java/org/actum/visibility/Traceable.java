@@ -11,11 +11,21 @@ import java.util.function.Supplier;
  */
 public interface Traceable<T> {
     /**
-     * Trace current condition
+     * Trace every execution of current condition
      * @return trace
      */
     T trace();
 
+    /**
+     * Trace executions of current condition selected by sampler,
+     * implementations that do not sample ignore it and trace every execution
+     * @param sampler trace sampler
+     * @return trace
+     */
+    default T trace(TraceSampler sampler) {
+        return trace();
+    }
+
     /**
      * Provides default logging
      * @param logger Logger
@@ -24,8 +34,19 @@ public interface Traceable<T> {
      * @param traceable Boolean flag if trace is enabled
      */
     default void log(ActumLogger logger, LogLevel level, Supplier<String> message, boolean traceable) {
-        if (traceable) {
+        if (isLoggable(logger, level, traceable)) {
             logger.log(level, message.get());
         }
     }
+
+    /**
+     * Checks if a message would be logged, so callers can skip building it
+     * @param logger Logger
+     * @param level Log Level
+     * @param traceable Boolean flag if trace is enabled
+     * @return true if trace is enabled and logger accepts the level
+     */
+    default boolean isLoggable(ActumLogger logger, LogLevel level, boolean traceable) {
+        return traceable && logger.isEnabled(level);
+    }
 }
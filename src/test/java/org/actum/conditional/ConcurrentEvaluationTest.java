@@ -0,0 +1,128 @@
+package org.actum.conditional;
+
+import org.actum.conditional.core.CompiledIf;
+import org.actum.conditional.core.CompiledSwitch;
+import org.actum.conditional.core.If;
+import org.actum.conditional.core.Switch;
+import org.actum.conditional.value.CompiledIfValue;
+import org.actum.conditional.value.CompiledSwitchValue;
+import org.actum.conditional.value.IfValue;
+import org.actum.conditional.value.SwitchValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Shares one instance of each immutable definition between threads and checks no evaluation sees another's state
+ */
+class ConcurrentEvaluationTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 50_000;
+    private static final int CASES = 4;
+
+    private static final CompiledIfValue<Integer, Integer> IF_VALUE = IfValue.<Integer, Integer>builder()
+            .when(x -> x % CASES == 0, x -> 0)
+            .elseIf(x -> x % CASES == 1, x -> 1)
+            .elseIf(x -> x % CASES == 2, x -> 2)
+            .elseThen(x -> 3)
+            .build();
+
+    private static final CompiledSwitchValue<Integer, Integer> SWITCH_VALUE = switchValue();
+
+    @Test
+    void test_shared_value_definitions_do_not_interfere() throws Exception {
+        List<Long> mismatches = runConcurrently(thread -> {
+            long wrong = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                int input = thread * ITERATIONS + i;
+                if (IF_VALUE.evaluate(input) != input % CASES) {
+                    wrong++;
+                }
+                if (SWITCH_VALUE.dispatch(input % CASES) != input % CASES * 10) {
+                    wrong++;
+                }
+            }
+            return wrong;
+        });
+
+        mismatches.forEach(wrong -> assertEquals(0, wrong));
+    }
+
+    @Test
+    void test_shared_action_definitions_do_not_interfere() throws Exception {
+        AtomicLongArray ifHits = new AtomicLongArray(CASES);
+        AtomicLongArray switchHits = new AtomicLongArray(CASES);
+        CompiledIf<Integer> check = If.<Integer>builder()
+                .when(x -> x % CASES == 0, x -> ifHits.incrementAndGet(0))
+                .elseIf(x -> x % CASES == 1, x -> ifHits.incrementAndGet(1))
+                .elseIf(x -> x % CASES == 2, x -> ifHits.incrementAndGet(2))
+                .elseThen(x -> ifHits.incrementAndGet(3))
+                .build();
+        Switch.Builder builder = Switch.builder();
+        for (int i = 0; i < CASES; i++) {
+            int index = i;
+            builder.caseOf(i, () -> switchHits.incrementAndGet(index));
+        }
+        CompiledSwitch router = builder.build();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                check.evaluate(i);
+                router.dispatch(i % CASES);
+            }
+            return 0L;
+        });
+
+        long expected = (long) THREADS * ITERATIONS / CASES;
+        for (int i = 0; i < CASES; i++) {
+            assertEquals(expected, ifHits.get(i));
+            assertEquals(expected, switchHits.get(i));
+        }
+    }
+
+    private static CompiledSwitchValue<Integer, Integer> switchValue() {
+        SwitchValue.Builder<Integer, Integer> builder = SwitchValue.builder();
+        for (int i = 0; i < CASES; i++) {
+            int result = i * 10;
+            builder.caseOf(i, () -> result);
+        }
+        return builder.build();
+    }
+
+    private interface Worker {
+        long run(int thread) throws Exception;
+    }
+
+    private static List<Long> runConcurrently(Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                Callable<Long> task = () -> {
+                    start.await();
+                    return worker.run(thread);
+                };
+                futures.add(executor.submit(task));
+            }
+            List<Long> results = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,7 +1,119 @@
 package org.actum.conditional;
 
-/**
- * Unit test for simple App.
- */
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public class ConditionalActumTest {
+
+    private List<String> fired;
+    private AtomicInteger evaluations;
+    private Predicate<Integer> positive;
+    private Predicate<Integer> even;
+
+    @BeforeEach
+    void setUp() {
+        fired = new ArrayList<>();
+        evaluations = new AtomicInteger();
+        positive = x -> {
+            evaluations.incrementAndGet();
+            return x > 0;
+        };
+        even = x -> x % 2 == 0;
+    }
+
+    private ConditionalActum.Builder<Integer> rules() {
+        return ConditionalActum.<Integer>builder()
+                .rule("positive", 1, List.of(positive), x -> fired.add("positive"))
+                .rule("positive-even", 5, List.of(positive, even), x -> fired.add("positive-even"))
+                .rule("even", 1, List.of(even), x -> fired.add("even"));
+    }
+
+    @Test
+    void test_first_match_fires_highest_priority_rule() {
+        RuleReport report = rules().build().evaluate(4);
+
+        assertEquals(List.of("positive-even"), report.getFiredRules());
+        assertEquals(List.of("positive-even"), fired);
+        assertEquals(MatchMode.FIRST_MATCH, report.getMode());
+    }
+
+    @Test
+    void test_all_match_fires_in_priority_then_registration_order() {
+        RuleReport report = rules().mode(MatchMode.ALL_MATCH).build().evaluate(4);
+
+        assertEquals(List.of("positive-even", "positive", "even"), report.getFiredRules());
+        assertEquals(3, report.getFiredCount());
+    }
+
+    @Test
+    void test_extreme_priorities_keep_descending_order() {
+        RuleReport report = ConditionalActum.<Integer>builder()
+                .rule("lowest", Integer.MIN_VALUE, List.of(even), x -> fired.add("lowest"))
+                .rule("default", even, x -> fired.add("default"))
+                .rule("highest", Integer.MAX_VALUE, List.of(even), x -> fired.add("highest"))
+                .mode(MatchMode.ALL_MATCH)
+                .build()
+                .evaluate(4);
+
+        assertEquals(List.of("highest", "default", "lowest"), report.getFiredRules());
+    }
+
+    @Test
+    void test_shared_condition_is_evaluated_once_per_fact() {
+        ConditionalActum<Integer> engine = rules().mode(MatchMode.ALL_MATCH).build();
+
+        RuleReport report = engine.evaluate(4);
+
+        assertEquals(1, evaluations.get());
+        assertEquals(2, report.getConditionEvaluations());
+        assertEquals(2, engine.getConditionCount());
+    }
+
+    @Test
+    void test_no_rule_matches() {
+        RuleReport report = rules().build().evaluate(-3);
+
+        assertFalse(report.isMatched());
+        assertEquals(0, report.getFiredCount());
+    }
+
+    @Test
+    void test_fire_counts_accumulate_across_evaluations() {
+        ConditionalActum<Integer> engine = rules().build();
+
+        engine.evaluate(2);
+        engine.evaluate(3);
+        engine.evaluate(-2, MatchMode.ALL_MATCH);
+
+        assertEquals(1, engine.getFireCount("positive-even"));
+        assertEquals(1, engine.getFireCount("positive"));
+        assertEquals(1, engine.getFireCount("even"));
+    }
+
+    @Test
+    void test_duplicate_rule_name_should_throw() {
+        assertThrows(IllegalArgumentException.class, () -> rules().rule("even", even, x -> {}));
+    }
+
+    @Test
+    void test_thousands_of_rules_share_conditions() {
+        ConditionalActum.Builder<Integer> builder = ConditionalActum.<Integer>builder().mode(MatchMode.ALL_MATCH);
+        for (int i = 0; i < 2000; i++) {
+            builder.rule("rule-" + i, i % 7, List.of(positive, even), x -> {});
+        }
+
+        RuleReport report = builder.build().evaluate(8);
+
+        assertEquals(2000, report.getFiredCount());
+        assertEquals(1, evaluations.get());
+    }
 }
@@ -0,0 +1,117 @@
+package org.actum.conditional;
+
+import org.actum.conditional.value.CompiledSwitchValue;
+import org.actum.conditional.value.SwitchValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReloadableTest {
+
+    @Test
+    void test_swap_publishes_next_version_and_keeps_previous() {
+        Reloadable<CompiledSwitchValue<String, Integer>> prices = Reloadable.of(prices(1));
+        CompiledSwitchValue<String, Integer> inFlight = prices.get();
+
+        Reloadable.Version<CompiledSwitchValue<String, Integer>> next = prices.swap(prices(2));
+
+        assertEquals(2, next.getNumber());
+        assertEquals(20, prices.get().dispatch("B"));
+        assertEquals(10, inFlight.dispatch("B"));
+        assertSame(inFlight, prices.previous().getDefinition());
+        assertEquals(1, prices.getSwapLatency().getCount());
+    }
+
+    @Test
+    void test_reload_and_rollback() throws Exception {
+        AtomicInteger generation = new AtomicInteger();
+        Reloadable<CompiledSwitchValue<String, Integer>> prices = Reloadable.of(() -> prices(generation.incrementAndGet()));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(2, prices.reloadAsync(executor).get().getNumber());
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(20, prices.get().dispatch("B"));
+        assertTrue(prices.rollback());
+        assertEquals(10, prices.get().dispatch("B"));
+        assertEquals(3, prices.current().getNumber());
+        assertEquals(1, prices.getBuildLatency().getCount());
+    }
+
+    @Test
+    void test_failed_reload_keeps_current_version() {
+        AtomicInteger loads = new AtomicInteger();
+        Reloadable<String> rules = Reloadable.of(() -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IllegalStateException("invalid rules");
+            }
+            return "v1";
+        });
+
+        assertThrows(IllegalStateException.class, rules::reload);
+        assertEquals("v1", rules.get());
+        assertEquals(1, rules.current().getNumber());
+        assertThrows(IllegalArgumentException.class, () -> Reloadable.of(() -> null));
+        assertThrows(IllegalStateException.class, () -> Reloadable.of("v1").reload());
+        assertFalse(Reloadable.of("v1").rollback());
+        assertNull(Reloadable.of("v1").previous());
+    }
+
+    @Test
+    void test_readers_never_see_partial_definition() throws Exception {
+        Reloadable<int[]> pair = Reloadable.of(new int[]{0, 0});
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit(() -> {
+                    while (running.get()) {
+                        int[] current = pair.get();
+                        if (current[0] != current[1]) {
+                            throw new AssertionError("Partial definition " + current[0] + " " + current[1]);
+                        }
+                    }
+                }));
+            }
+            for (int i = 1; i <= 10_000; i++) {
+                int[] next = new int[2];
+                next[0] = i;
+                next[1] = i;
+                pair.swap(next);
+            }
+            running.set(false);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } catch (ExecutionException e) {
+            throw new AssertionError(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(10_001, pair.current().getNumber());
+    }
+
+    private static CompiledSwitchValue<String, Integer> prices(int generation) {
+        return SwitchValue.<String, Integer>builder()
+                .caseOf("A", () -> generation)
+                .caseOf("B", () -> generation * 10)
+                .build();
+    }
+}
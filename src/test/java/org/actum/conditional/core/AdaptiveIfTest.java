@@ -0,0 +1,165 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AdaptiveOrder;
+import org.actum.conditional.value.AdaptiveIfValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveIfTest {
+
+    private AtomicInteger result;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+    }
+
+    @Test
+    void test_exclusive_branches_are_reordered_by_hits() {
+        AdaptiveIf<Integer> check = AdaptiveIf.<Integer>builder()
+                .branch(x -> x == 1, x -> result.set(1))
+                .branch(x -> x == 2, x -> result.set(2))
+                .branch(x -> x == 3, x -> result.set(3))
+                .exclusive()
+                .reorderEvery(Integer.MAX_VALUE)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            check.evaluate(3);
+        }
+        check.getOrder().reorder();
+        check.evaluate(2);
+        check.evaluate(2);
+        check.getOrder().reorder();
+
+        AdaptiveOrder order = check.getOrder();
+        assertArrayEquals(new int[]{2, 1, 0}, order.order());
+        assertEquals(2, order.getReorderCount());
+        assertEquals(100, order.getHitCount(2));
+        assertTrue(check.evaluate(1));
+        assertEquals(1, result.get());
+    }
+
+    @Test
+    void test_average_comparisons_drop_after_reorder() {
+        AdaptiveIf<Integer> check = AdaptiveIf.<Integer>builder()
+                .branch(x -> x == 1, x -> { })
+                .branch(x -> x == 2, x -> { })
+                .branch(x -> x == 3, x -> { })
+                .branch(x -> x == 4, x -> { })
+                .exclusive()
+                .reorderEvery(Integer.MAX_VALUE)
+                .build();
+
+        check.evaluate(4);
+        assertEquals(4.0, check.getOrder().getAverageComparisons());
+        check.getOrder().reorder();
+        check.evaluate(4);
+        assertEquals(2.5, check.getOrder().getAverageComparisons());
+        assertEquals(2, check.getOrder().getEvaluationCount());
+    }
+
+    @Test
+    void test_non_exclusive_branches_keep_declaration_order_within_priority() {
+        AdaptiveIf<Integer> check = AdaptiveIf.<Integer>builder()
+                .branch(x -> x > 0, x -> result.set(1))
+                .branch(x -> x > 10, x -> result.set(2))
+                .branch(5, x -> x > 100, x -> result.set(3))
+                .reorderEvery(1)
+                .reorderOn(Runnable::run)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            check.evaluate(50);
+        }
+        check.getOrder().reorder();
+
+        assertArrayEquals(new int[]{2, 0, 1}, check.getOrder().order());
+        assertEquals(1, result.get());
+        check.evaluate(500);
+        assertEquals(3, result.get());
+    }
+
+    @Test
+    void test_priorities_bound_exclusive_reordering() {
+        AdaptiveIf<Integer> check = AdaptiveIf.<Integer>builder()
+                .branch(1, x -> x == 1, x -> { })
+                .branch(x -> x == 2, x -> { })
+                .branch(x -> x == 3, x -> { })
+                .exclusive()
+                .reorderEvery(Integer.MAX_VALUE)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            check.evaluate(3);
+        }
+        check.getOrder().reorder();
+
+        assertArrayEquals(new int[]{0, 2, 1}, check.getOrder().order());
+    }
+
+    @Test
+    void test_extreme_priorities_keep_descending_order() {
+        AdaptiveIf<Integer> check = AdaptiveIf.<Integer>builder()
+                .branch(Integer.MIN_VALUE, x -> x > 0, x -> result.set(1))
+                .branch(x -> x > 0, x -> result.set(2))
+                .branch(Integer.MAX_VALUE, x -> x > 0, x -> result.set(3))
+                .exclusive()
+                .reorderEvery(Integer.MAX_VALUE)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            check.evaluate(1);
+        }
+        check.getOrder().reorder();
+
+        assertArrayEquals(new int[]{2, 1, 0}, check.getOrder().order());
+        assertEquals(3, result.get());
+    }
+
+    @Test
+    void test_fallback_and_throws() {
+        AdaptiveIf<Integer> check = AdaptiveIf.<Integer>builder()
+                .branch(x -> x == 1, x -> result.set(1))
+                .elseThen(x -> result.set(-x))
+                .build();
+        AdaptiveIf<Integer> strict = AdaptiveIf.<Integer>builder()
+                .branch(x -> x == 1, x -> result.set(1))
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        assertFalse(check.evaluate(7));
+        assertEquals(-7, result.get());
+        assertThrows(IllegalStateException.class, () -> strict.evaluate(7));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveIf.<Integer>builder().reorderEvery(0));
+    }
+
+    @Test
+    void test_adaptive_if_value() {
+        AdaptiveIfValue<Integer, String> mapper = AdaptiveIfValue.<Integer, String>builder()
+                .branch(x -> x < 0, x -> "negative")
+                .branch(x -> x == 0, x -> "zero")
+                .branch(x -> x > 0, x -> "positive")
+                .exclusive()
+                .reorderEvery(1)
+                .reorderOn(Runnable::run)
+                .build();
+
+        for (int i = 1; i <= 50; i++) {
+            assertEquals("positive", mapper.evaluate(i));
+        }
+
+        assertEquals(2, mapper.getOrder().order()[0]);
+        assertEquals("negative", mapper.evaluate(-1));
+        assertNull(AdaptiveIfValue.<Integer, String>builder().branch(x -> false, x -> "never").build().evaluate(1));
+    }
+}
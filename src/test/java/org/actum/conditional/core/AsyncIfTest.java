@@ -0,0 +1,191 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.support.AsyncExecutors;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncIfTest {
+
+    private AtomicInteger result;
+    private AtomicInteger evaluated;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+        evaluated = new AtomicInteger();
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "async-if-test"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        AsyncExecutors.reset();
+    }
+
+    @Test
+    void test_then_async_runs_when_condition_completes_true() {
+        CompletableFuture<Boolean> condition = new CompletableFuture<>();
+        CompletableFuture<Void> done = If.whenAsync(condition)
+                .thenAsync(() -> result.set(1))
+                .elseThenAsync(() -> result.set(2));
+
+        assertFalse(done.isDone());
+        condition.complete(true);
+        done.join();
+
+        assertEquals(1, result.get());
+    }
+
+    @Test
+    void test_lazy_async_else_if_is_not_evaluated_after_match() {
+        boolean matched = AsyncIf.when(true)
+                .thenAsync(() -> result.set(1))
+                .elseIfAsync(() -> CompletableFuture.completedFuture(evaluated.incrementAndGet() > 0), () -> result.set(2))
+                .toFuture()
+                .join();
+
+        assertTrue(matched);
+        assertEquals(1, result.get());
+        assertEquals(0, evaluated.get());
+    }
+
+    @Test
+    void test_first_matching_async_else_if_wins() {
+        AsyncIf.when(false)
+                .thenAsync(() -> result.set(1))
+                .elseIfAsync(false, () -> result.set(2))
+                .elseIfAsync(() -> CompletableFuture.supplyAsync(() -> evaluated.incrementAndGet() > 0), () -> result.set(3))
+                .elseIfAsync(() -> CompletableFuture.completedFuture(evaluated.incrementAndGet() > 0), () -> result.set(4))
+                .elseThenAsync(() -> result.set(5))
+                .join();
+
+        assertEquals(3, result.get());
+        assertEquals(1, evaluated.get());
+    }
+
+    @Test
+    void test_actions_run_on_given_executor() {
+        AtomicReference<String> thread = new AtomicReference<>();
+        AsyncIf.when(false)
+                .executeOn(executor)
+                .thenAsync(() -> result.set(1))
+                .elseThenAsync(() -> thread.set(Thread.currentThread().getName()))
+                .join();
+
+        assertEquals("async-if-test", thread.get());
+        assertEquals(0, result.get());
+    }
+
+    @Test
+    void test_default_executor_is_pluggable() {
+        AtomicReference<String> thread = new AtomicReference<>();
+        AsyncExecutors.setDefault(executor);
+
+        AsyncIf.when(true).thenAsync(() -> thread.set(Thread.currentThread().getName())).toFuture().join();
+
+        assertEquals("async-if-test", thread.get());
+        AsyncExecutors.reset();
+        assertNotSame(executor, AsyncExecutors.getDefault());
+    }
+
+    @Test
+    void test_virtual_threads_are_only_offered_when_available() {
+        if (AsyncExecutors.hasVirtualThreads()) {
+            assertSame(AsyncExecutors.virtualThreads(), AsyncExecutors.getDefault());
+        } else {
+            assertThrows(UnsupportedOperationException.class, AsyncExecutors::virtualThreads);
+        }
+    }
+
+    @Test
+    void test_or_throws_fails_future_without_match() {
+        CompletableFuture<Void> done = AsyncIf.when(CompletableFuture.supplyAsync(() -> false))
+                .thenAsync(() -> result.set(1))
+                .orThrows(IllegalStateException::new);
+
+        CompletionException exception = assertThrows(CompletionException.class, done::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals(0, result.get());
+    }
+
+    @Test
+    void test_failed_action_fails_the_chain() {
+        CompletableFuture<Void> done = AsyncIf.when(true)
+                .thenAsync(() -> {
+                    throw new IllegalStateException("boom");
+                })
+                .elseThenAsync(() -> result.set(2));
+
+        CompletionException exception = assertThrows(CompletionException.class, done::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals(0, result.get());
+    }
+
+    @Test
+    void test_async_branches_are_counted() {
+        ActumMetrics metrics = ActumMetrics.counting();
+        AsyncIf.when(false).label("gateway").withMetrics(metrics)
+                .thenAsync(() -> result.set(1))
+                .elseIfAsync(true, () -> result.set(2))
+                .toFuture()
+                .join();
+
+        BranchMetrics branch = metrics.branch("gateway");
+        assertEquals(0, branch.getThenHits());
+        assertEquals(1, branch.getElseIfHits());
+    }
+
+    @Test
+    void test_composed_step_keeps_label_it_was_composed_with() {
+        ActumMetrics metrics = ActumMetrics.counting();
+        CompletableFuture<Boolean> gate = new CompletableFuture<>();
+        AsyncIf chain = AsyncIf.when(gate).label("gateway").withMetrics(metrics)
+                .thenAsync(() -> result.set(1));
+
+        chain.label("renamed");
+        gate.complete(true);
+        chain.toFuture().join();
+
+        assertEquals(1, metrics.branch("gateway").getThenHits());
+        assertEquals(0, metrics.branch("renamed").getThenHits());
+    }
+
+    @Test
+    void test_flow_executes_async() {
+        Flow flow = new Flow() {
+            @Override
+            public void execute() {
+                result.set(Thread.currentThread().getName().equals("async-if-test") ? 1 : 2);
+            }
+
+            @Override
+            public boolean matched() {
+                return true;
+            }
+        };
+
+        flow.executeAsync(executor).join();
+
+        assertEquals(1, result.get());
+        assertThrows(IllegalArgumentException.class, () -> flow.executeAsync(null));
+    }
+}
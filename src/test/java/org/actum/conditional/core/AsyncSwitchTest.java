@@ -0,0 +1,96 @@
+package org.actum.conditional.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncSwitchTest {
+
+    private AtomicInteger result;
+    private AtomicInteger evaluated;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+        evaluated = new AtomicInteger();
+    }
+
+    @Test
+    void test_case_of_async_runs_once_input_completes() {
+        CompletableFuture<String> input = new CompletableFuture<>();
+        CompletableFuture<Void> done = Switch.onAsync(input)
+                .caseOfAsync("A", () -> result.set(1))
+                .caseOfAsync("B", () -> result.set(2))
+                .defaultOfAsync(() -> result.set(3));
+
+        assertFalse(done.isDone());
+        input.complete("B");
+        done.join();
+
+        assertEquals(2, result.get());
+    }
+
+    @Test
+    void test_first_matching_case_wins() {
+        boolean matched = AsyncSwitch.on(2)
+                .caseWhenAsync(x -> CompletableFuture.completedFuture((Integer) x > 1), () -> result.addAndGet(1))
+                .caseOfAsync(2, () -> result.addAndGet(10))
+                .toFuture()
+                .join();
+
+        assertTrue(matched);
+        assertEquals(1, result.get());
+    }
+
+    @Test
+    void test_async_condition_is_not_evaluated_after_match() {
+        AsyncSwitch.on("A")
+                .caseOfAsync("A", () -> result.set(1))
+                .caseWhenAsync(x -> CompletableFuture.completedFuture(evaluated.incrementAndGet() > 0), () -> result.set(2))
+                .defaultOfAsync(() -> result.set(3))
+                .join();
+
+        assertEquals(1, result.get());
+        assertEquals(0, evaluated.get());
+    }
+
+    @Test
+    void test_default_runs_without_match() {
+        AsyncSwitch.on(null)
+                .caseOfAsync("A", () -> result.set(1))
+                .caseWhenAsync(x -> CompletableFuture.completedFuture(null), () -> result.set(2))
+                .defaultOfAsync(() -> result.set(3))
+                .join();
+
+        assertEquals(3, result.get());
+    }
+
+    @Test
+    void test_or_throws_fails_future_without_match() {
+        CompletableFuture<Void> done = AsyncSwitch.on("C")
+                .caseOfAsync("A", () -> result.set(1))
+                .orThrows(IllegalStateException::new);
+
+        CompletionException exception = assertThrows(CompletionException.class, done::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void test_failed_input_fails_the_switch() {
+        CompletableFuture<Void> done = Switch.onAsync(CompletableFuture.failedFuture(new IllegalStateException()))
+                .caseOfAsync("A", () -> result.set(1))
+                .defaultOfAsync(() -> result.set(3));
+
+        assertThrows(CompletionException.class, done::join);
+        assertEquals(0, result.get());
+    }
+}
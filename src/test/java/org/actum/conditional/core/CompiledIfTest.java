@@ -0,0 +1,106 @@
+package org.actum.conditional.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledIfTest {
+
+    private AtomicInteger result;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+    }
+
+    private CompiledIf<Integer> tiers() {
+        return If.<Integer>builder()
+                .when(x -> x < 10, x -> result.set(1))
+                .elseIf(x -> x < 100, x -> result.set(2))
+                .elseIf(x -> x < 1000, x -> result.set(3))
+                .elseThen(x -> result.set(-x))
+                .build();
+    }
+
+    @Test
+    void test_evaluate_executes_first_matching_branch() {
+        CompiledIf<Integer> check = tiers();
+
+        assertTrue(check.evaluate(5));
+        assertEquals(1, result.get());
+        assertTrue(check.evaluate(50));
+        assertEquals(2, result.get());
+        assertFalse(check.evaluate(5000));
+        assertEquals(-5000, result.get());
+    }
+
+    @Test
+    void test_or_throws_when_no_branch_matches() {
+        CompiledIf<String> check = If.<String>builder()
+                .when(String::isEmpty, s -> {})
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> check.evaluate("x"));
+    }
+
+    @Test
+    void test_when_after_first_branch_should_throw() {
+        If.Builder<String> builder = If.<String>builder().when(String::isEmpty, s -> {});
+
+        assertThrows(IllegalStateException.class, () -> builder.when(String::isBlank, s -> {}));
+    }
+
+    @Test
+    void test_method_handle_matches_evaluate() throws Throwable {
+        MethodHandle handle = tiers().toMethodHandle();
+
+        assertTrue((boolean) handle.invokeExact((Object) 50));
+        assertEquals(2, result.get());
+        assertTrue((boolean) handle.invokeExact((Object) 500));
+        assertEquals(3, result.get());
+        assertFalse((boolean) handle.invokeExact((Object) 5000));
+        assertEquals(-5000, result.get());
+    }
+
+    @Test
+    void test_method_handle_traces_and_throws() {
+        AtomicInteger logged = new AtomicInteger();
+        MethodHandle handle = If.<String>builder()
+                .trace()
+                .withLogger((level, message) -> logged.incrementAndGet())
+                .when(String::isEmpty, s -> result.set(1))
+                .orThrows(IllegalStateException::new)
+                .build()
+                .toMethodHandle();
+
+        assertThrows(IllegalStateException.class, () -> {
+            boolean ignored = (boolean) handle.invokeExact((Object) "x");
+        });
+        assertEquals(1, logged.get());
+    }
+
+    @Test
+    void test_switch_method_handle_small_and_large() throws Throwable {
+        for (int size : new int[]{3, 40}) {
+            Switch.Builder builder = Switch.builder();
+            for (int i = 0; i < size; i++) {
+                int value = i;
+                builder.caseOf("case-" + i, () -> result.set(value));
+            }
+            MethodHandle handle = builder.defaultOf(() -> result.set(-1)).build().toMethodHandle();
+
+            assertTrue((boolean) handle.invokeExact((Object) ("case-" + (size - 1))));
+            assertEquals(size - 1, result.get());
+            assertFalse((boolean) handle.invokeExact((Object) "missing"));
+            assertEquals(-1, result.get());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package org.actum.conditional.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledSwitchTest {
+
+    private AtomicInteger result;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+    }
+
+    @Test
+    void test_dispatch_executes_matching_case() {
+        CompiledSwitch router = Switch.builder()
+                .caseOf("A", () -> result.set(1))
+                .caseOf("B", () -> result.set(2))
+                .build();
+
+        assertTrue(router.dispatch("B"));
+        assertEquals(2, result.get());
+    }
+
+    @Test
+    void test_dispatch_is_reusable() {
+        CompiledSwitch router = Switch.builder()
+                .caseOf(1, result::incrementAndGet)
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            router.dispatch(1);
+        }
+        assertEquals(5, result.get());
+    }
+
+    @Test
+    void test_first_registered_case_wins() {
+        CompiledSwitch router = Switch.builder()
+                .caseOf("A", () -> result.set(1))
+                .caseOf("A", () -> result.set(2))
+                .build();
+
+        router.dispatch("A");
+        assertEquals(1, result.get());
+        assertEquals(1, router.size());
+    }
+
+    @Test
+    void test_null_case_matches_null_input() {
+        CompiledSwitch router = Switch.builder()
+                .caseOf(null, () -> result.set(3))
+                .build();
+
+        assertTrue(router.dispatch(null));
+        assertEquals(3, result.get());
+    }
+
+    @Test
+    void test_default_executes_when_no_match() {
+        CompiledSwitch router = Switch.builder()
+                .caseOf("A", () -> result.set(1))
+                .defaultOf(() -> result.set(9))
+                .build();
+
+        assertFalse(router.dispatch("X"));
+        assertEquals(9, result.get());
+    }
+
+    @Test
+    void test_or_throws_when_no_match() {
+        CompiledSwitch router = Switch.builder()
+                .caseOf("A", () -> {})
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> router.dispatch("Z"));
+    }
+
+    @Test
+    void test_builder_changes_do_not_affect_built_switch() {
+        Switch.Builder builder = Switch.builder().caseOf("A", () -> result.set(1));
+        CompiledSwitch router = builder.build();
+        builder.caseOf("B", () -> result.set(2));
+
+        assertFalse(router.dispatch("B"));
+        assertEquals(0, result.get());
+    }
+
+    @Test
+    void test_null_action_should_throw() {
+        assertThrows(IllegalArgumentException.class, () -> Switch.builder().caseOf("A", null));
+    }
+
+    @Test
+    void test_label_and_description() {
+        CompiledSwitch router = Switch.builder()
+                .label("router")
+                .describe("routes requests")
+                .build();
+
+        assertEquals("router", router.getLabel());
+        assertEquals("routes requests", router.getDescription());
+    }
+
+    @Test
+    void test_trace_logging_executes_when_enabled() {
+        AtomicInteger logged = new AtomicInteger();
+        CompiledSwitch router = Switch.builder()
+                .trace()
+                .withLogger((level, message) -> logged.incrementAndGet())
+                .caseOf("A", () -> result.set(1))
+                .build();
+
+        router.dispatch("A");
+        router.dispatch("A");
+        assertEquals(2, logged.get());
+    }
+
+    @Test
+    void test_range_case_matches_half_open_interval() {
+        CompiledSwitch tiers = Switch.builder()
+                .caseInRange(0, 100, () -> result.set(1))
+                .caseInRange(100, 500, () -> result.set(2))
+                .defaultOf(() -> result.set(3))
+                .build();
+
+        tiers.dispatch(100);
+        assertEquals(2, result.get());
+        tiers.dispatch(99);
+        assertEquals(1, result.get());
+        tiers.dispatch(500);
+        assertEquals(3, result.get());
+    }
+
+    @Test
+    void test_equality_case_is_tested_before_ranges_and_predicates() {
+        CompiledSwitch router = Switch.builder()
+                .caseOf(5, () -> result.set(1))
+                .caseInRange(0, 10, () -> result.set(2))
+                .caseWhen(input -> true, () -> result.set(3))
+                .build();
+
+        router.dispatch(5);
+        assertEquals(1, result.get());
+        router.dispatch(6);
+        assertEquals(2, result.get());
+        router.dispatch(60);
+        assertEquals(3, result.get());
+        assertEquals(3, router.size());
+    }
+
+    @Test
+    void test_interleaved_case_kinds_are_rejected() {
+        assertThrows(IllegalStateException.class, () -> Switch.builder()
+                .caseWhen(input -> true, () -> result.set(1))
+                .caseOf(5, () -> result.set(2)));
+        assertThrows(IllegalStateException.class, () -> Switch.builder()
+                .caseInRange(0, 10, () -> result.set(1))
+                .caseOf(5, () -> result.set(2)));
+        assertThrows(IllegalStateException.class, () -> Switch.builder()
+                .caseWhen(input -> true, () -> result.set(1))
+                .caseInRange(0, 10, () -> result.set(2)));
+    }
+
+    @Test
+    void test_range_ignores_inputs_of_other_classes() {
+        CompiledSwitch router = Switch.builder()
+                .caseInRange(0, 10, () -> result.set(1))
+                .build();
+
+        assertFalse(router.dispatch(5L));
+        assertFalse(router.dispatch("5"));
+        assertTrue(router.dispatch(5));
+    }
+
+    @Test
+    void test_method_handle_dispatches_range_and_predicate_cases() throws Throwable {
+        MethodHandle handle = Switch.builder()
+                .caseOf("A", () -> result.set(1))
+                .caseInRange(0, 10, () -> result.set(2))
+                .caseWhen(input -> input instanceof String, () -> result.set(3))
+                .defaultOf(() -> result.set(4))
+                .build()
+                .toMethodHandle();
+
+        assertTrue((boolean) handle.invokeExact((Object) 3));
+        assertEquals(2, result.get());
+        assertTrue((boolean) handle.invokeExact((Object) "B"));
+        assertEquals(3, result.get());
+        assertFalse((boolean) handle.invokeExact((Object) 30));
+        assertEquals(4, result.get());
+    }
+}
@@ -0,0 +1,51 @@
+package org.actum.conditional.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnumSwitchTest {
+
+    private AtomicInteger result;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+    }
+
+    @Test
+    void test_dispatch_executes_matching_case() {
+        EnumSwitch<TimeUnit> router = EnumSwitch.builder(TimeUnit.class)
+                .caseOf(TimeUnit.SECONDS, () -> result.set(1))
+                .caseOf(TimeUnit.DAYS, () -> result.set(2))
+                .build();
+
+        assertTrue(router.dispatch(TimeUnit.DAYS));
+        assertEquals(2, result.get());
+    }
+
+    @Test
+    void test_default_executes_for_missing_constant_and_null() {
+        EnumSwitch<TimeUnit> router = EnumSwitch.builder(TimeUnit.class)
+                .caseOf(TimeUnit.SECONDS, () -> result.set(1))
+                .defaultOf(result::decrementAndGet)
+                .build();
+
+        assertFalse(router.dispatch(TimeUnit.HOURS));
+        assertFalse(router.dispatch(null));
+        assertEquals(-2, result.get());
+    }
+
+    @Test
+    void test_null_case_should_throw() {
+        assertThrows(IllegalArgumentException.class,
+                () -> EnumSwitch.builder(TimeUnit.class).caseOf(null, () -> {}));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -143,4 +144,35 @@ class IfTest {
         assertEquals(1, logged.get()); // logger called
         assertEquals(42, result.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_lazy_else_if_is_not_evaluated_after_match() {
+        AtomicInteger evaluated = new AtomicInteger();
+        If.when(() -> true)
+                .then(() -> result.set(1))
+                .elseIf(() -> evaluated.incrementAndGet() > 0, () -> result.set(2))
+                .elseIf(() -> evaluated.incrementAndGet() > 0, () -> result.set(3));
+
+        assertEquals(1, result.get());
+        assertEquals(0, evaluated.get());
+    }
+
+    @Test
+    public void test_lazy_else_if_evaluated_until_first_match() {
+        AtomicInteger evaluated = new AtomicInteger();
+        If.when(() -> false)
+                .then(() -> result.set(1))
+                .elseIf(() -> evaluated.incrementAndGet() == 2, () -> result.set(2))
+                .elseIf(() -> evaluated.incrementAndGet() == 2, () -> result.set(3))
+                .elseIf(() -> evaluated.incrementAndGet() > 0, () -> result.set(4))
+                .elseThen(() -> result.set(5));
+
+        assertEquals(3, result.get());
+        assertEquals(2, evaluated.get());
+    }
+
+    @Test
+    public void test_lazy_null_condition_should_throw() {
+        assertThrows(IllegalArgumentException.class, () -> If.when(false).elseIf((BooleanSupplier) null, () -> {}));
+    }
+}
@@ -0,0 +1,92 @@
+package org.actum.conditional.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntSwitchTest {
+
+    private AtomicInteger result;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+    }
+
+    @Test
+    void test_dispatch_executes_matching_case() {
+        IntSwitch router = IntSwitch.builder()
+                .caseOf(1, () -> result.set(1))
+                .caseOf(2, () -> result.set(2))
+                .build();
+
+        assertTrue(router.dispatch(2));
+        assertEquals(2, result.get());
+    }
+
+    @Test
+    void test_sparse_cases_dispatch() {
+        IntSwitch.Builder builder = IntSwitch.builder();
+        for (int i = 0; i < 100; i++) {
+            int opcode = i * 100_003;
+            builder.caseOf(opcode, () -> result.set(opcode));
+        }
+        IntSwitch router = builder.defaultOf(() -> result.set(-1)).build();
+
+        router.dispatch(42 * 100_003);
+        assertEquals(42 * 100_003, result.get());
+        assertFalse(router.dispatch(7));
+        assertEquals(-1, result.get());
+    }
+
+    @Test
+    void test_first_registered_case_wins() {
+        IntSwitch router = IntSwitch.builder()
+                .caseOf(1, () -> result.set(1))
+                .caseOf(1, () -> result.set(2))
+                .build();
+
+        router.dispatch(1);
+        assertEquals(1, result.get());
+    }
+
+    @Test
+    void test_or_throws_when_no_match() {
+        IntSwitch router = IntSwitch.builder()
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> router.dispatch(0));
+    }
+
+    @Test
+    void test_long_switch_dispatch() {
+        LongSwitch router = LongSwitch.builder()
+                .caseOf(Long.MAX_VALUE, () -> result.set(1))
+                .caseOf(-1L, () -> result.set(2))
+                .build();
+
+        assertTrue(router.dispatch(Long.MAX_VALUE));
+        assertEquals(1, result.get());
+        assertFalse(router.dispatch(0L));
+    }
+
+    @Test
+    void test_trace_logging_executes_when_enabled() {
+        AtomicInteger logged = new AtomicInteger();
+        IntSwitch router = IntSwitch.builder()
+                .trace()
+                .withLogger((level, message) -> logged.incrementAndGet())
+                .caseOf(1, () -> {})
+                .build();
+
+        router.dispatch(1);
+        assertEquals(1, logged.get());
+    }
+}
@@ -0,0 +1,89 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.value.StringSwitchValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringSwitchTest {
+
+    private AtomicInteger result;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+    }
+
+    @Test
+    void test_dispatch_executes_matching_case() {
+        StringSwitch router = StringSwitch.builder()
+                .caseOf("GET", () -> result.set(1))
+                .caseOf("POST", () -> result.set(2))
+                .build();
+
+        assertTrue(router.dispatch("POST"));
+        assertEquals(2, result.get());
+        assertFalse(router.dispatch("post"));
+    }
+
+    @Test
+    void test_exact_case_wins_over_prefix() {
+        StringSwitch router = StringSwitch.builder()
+                .caseOf("/api/health", () -> result.set(1))
+                .casePrefix("/api/", () -> result.set(2))
+                .casePrefix("/api/admin/", () -> result.set(3))
+                .defaultOf(() -> result.set(4))
+                .build();
+
+        router.dispatch("/api/health");
+        assertEquals(1, result.get());
+        router.dispatch("/api/users");
+        assertEquals(2, result.get());
+        router.dispatch("/api/admin/users");
+        assertEquals(3, result.get());
+        router.dispatch("/index.html");
+        assertEquals(4, result.get());
+    }
+
+    @Test
+    void test_ignore_case_switch() {
+        StringSwitch router = StringSwitch.builder()
+                .ignoreCase()
+                .caseOf("quit", () -> result.set(1))
+                .build();
+
+        assertTrue(router.dispatch("QUIT"));
+        assertEquals(1, result.get());
+    }
+
+    @Test
+    void test_null_input_uses_default_or_throws() {
+        StringSwitch strict = StringSwitch.builder()
+                .caseOf("A", () -> result.set(1))
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> strict.dispatch(null));
+        assertThrows(IllegalArgumentException.class, () -> StringSwitch.builder().caseOf(null, () -> { }));
+    }
+
+    @Test
+    void test_string_switch_value_computes_result() {
+        StringSwitchValue<String> mapper = StringSwitchValue.<String>builder()
+                .caseOf("json", () -> "application/json")
+                .casePrefix("text", () -> "text/plain")
+                .build();
+
+        assertEquals("application/json", mapper.dispatch("json"));
+        assertEquals("text/plain", mapper.dispatch("text-utf8"));
+        assertNull(mapper.dispatch("xml"));
+        assertEquals(2, mapper.size());
+    }
+}
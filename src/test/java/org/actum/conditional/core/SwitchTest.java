@@ -118,4 +118,29 @@ class SwitchTest {
         assertEquals(1, logged.get());
         assertEquals(1, result.get());
     }
+
+    @Test
+    void test_case_in_range_executes_first_matching_range() {
+        Switch.on(150)
+                .caseInRange(0, 100, () -> result.set(1))
+                .caseInRange(100, 500, () -> result.set(2))
+                .caseInRange(0, 1000, () -> result.set(3));
+
+        assertEquals(2, result.get());
+    }
+
+    @Test
+    void test_case_when_executes_when_condition_holds() {
+        Switch.on("payment")
+                .caseOf("refund", () -> result.set(1))
+                .caseWhen(input -> ((String) input).startsWith("pay"), () -> result.set(2))
+                .defaultOf(() -> result.set(3));
+
+        assertEquals(2, result.get());
+    }
+
+    @Test
+    void test_case_in_range_rejects_empty_range() {
+        assertThrows(IllegalArgumentException.class, () -> Switch.on(1).caseInRange(5, 5, () -> { }));
+    }
 }
@@ -0,0 +1,75 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.value.TableSwitchValue;
+import org.actum.table.DecisionTable;
+import org.actum.table.DecisionTableWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableSwitchTest {
+
+    @TempDir
+    Path directory;
+
+    private AtomicInteger result;
+    private DecisionTable table;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+        Path path = directory.resolve("routes.table");
+        DecisionTableWriter.write(path, new long[]{10, 20, 30, 40}, new int[]{0, 1, 0, 7});
+        table = DecisionTable.open(path);
+    }
+
+    @Test
+    void test_dispatch_executes_action_bound_to_row() {
+        TableSwitch router = TableSwitch.builder(table)
+                .bind(0, () -> result.set(100))
+                .bind(1, () -> result.set(200))
+                .defaultOf(() -> result.set(-1))
+                .build();
+
+        assertTrue(router.dispatch(30));
+        assertEquals(100, result.get());
+        assertTrue(router.dispatch(20));
+        assertEquals(200, result.get());
+        assertFalse(router.dispatch(40));
+        assertEquals(-1, result.get());
+        assertFalse(router.dispatch(50));
+        assertEquals(2, router.size());
+    }
+
+    @Test
+    void test_unmatched_key_throws() {
+        TableSwitch router = TableSwitch.builder(table)
+                .bind(0, () -> result.set(100))
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> router.dispatch(11));
+        assertThrows(IllegalArgumentException.class, () -> TableSwitch.builder(table).bind(-1, () -> { }));
+    }
+
+    @Test
+    void test_table_switch_value() {
+        TableSwitchValue<String> mapper = TableSwitchValue.<String>builder(table)
+                .bind(0, () -> "zero")
+                .bind(7, () -> "seven")
+                .build();
+
+        assertEquals("zero", mapper.dispatch(10));
+        assertEquals("seven", mapper.dispatch(40));
+        assertNull(mapper.dispatch(20));
+    }
+}
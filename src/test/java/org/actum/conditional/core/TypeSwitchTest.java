@@ -0,0 +1,128 @@
+package org.actum.conditional.core;
+
+import org.actum.conditional.value.CompiledTypeSwitchValue;
+import org.actum.conditional.value.SwitchValue;
+import org.actum.conditional.value.TypeSwitchValue;
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TypeSwitchTest {
+
+    private AtomicInteger result;
+
+    @BeforeEach
+    void setUp() {
+        result = new AtomicInteger();
+    }
+
+    @Test
+    void test_fluent_type_switch_executes_first_matching_case() {
+        Switch.onType(42)
+                .caseOf(String.class, s -> result.set(1))
+                .caseOf(Number.class, n -> result.set(n.intValue()))
+                .caseOf(Integer.class, i -> result.set(-1))
+                .defaultOf(() -> result.set(0));
+
+        assertEquals(42, result.get());
+    }
+
+    @Test
+    void test_fluent_type_switch_default_and_throws() {
+        Switch.onType("text")
+                .caseOf(Integer.class, i -> result.set(1))
+                .defaultOf(() -> result.set(2));
+        assertEquals(2, result.get());
+
+        assertThrows(IllegalStateException.class, () -> Switch.onType(null)
+                .caseOf(Object.class, o -> result.set(3))
+                .orThrows(IllegalStateException::new));
+    }
+
+    @Test
+    void test_compiled_type_switch_resolves_most_specific_case() {
+        CompiledTypeSwitch handler = TypeSwitch.builder()
+                .caseOf(Object.class, o -> result.set(1))
+                .caseOf(Number.class, n -> result.set(2))
+                .caseOf(Integer.class, i -> result.set(i))
+                .build();
+
+        assertTrue(handler.dispatch(7));
+        assertEquals(7, result.get());
+        handler.dispatch(7L);
+        assertEquals(2, result.get());
+        handler.dispatch("text");
+        assertEquals(1, result.get());
+        assertEquals(3, handler.size());
+    }
+
+    @Test
+    void test_compiled_type_switch_fallback() {
+        CompiledTypeSwitch handler = TypeSwitch.builder()
+                .caseOf(Integer.class, i -> result.set(1))
+                .defaultOf(() -> result.set(2))
+                .build();
+        CompiledTypeSwitch strict = TypeSwitch.builder()
+                .caseOf(Integer.class, i -> result.set(1))
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        assertFalse(handler.dispatch(null));
+        assertEquals(2, result.get());
+        assertThrows(IllegalStateException.class, () -> strict.dispatch("text"));
+    }
+
+    @Test
+    void test_compiled_type_switch_counts_branches() {
+        ActumMetrics metrics = ActumMetrics.counting();
+        CompiledTypeSwitch handler = TypeSwitch.builder()
+                .label("events")
+                .withMetrics(metrics)
+                .caseOf(Integer.class, i -> result.set(1))
+                .defaultOf(() -> result.set(2))
+                .build();
+
+        handler.dispatch(1);
+        handler.dispatch(2);
+        handler.dispatch("text");
+
+        assertEquals(2, metrics.branch("events").getHits(BranchKind.CASE_OF));
+        assertEquals(1, metrics.branch("events").getHits(BranchKind.DEFAULT_OF));
+    }
+
+    @Test
+    void test_fluent_type_switch_value() {
+        String described = SwitchValue.<String>onType(3.5)
+                .caseOf(Integer.class, i -> "int " + i)
+                .caseOf(Double.class, d -> "double " + d)
+                .defaultOf(() -> "unknown");
+        TypeSwitchValue<String> unmatched = SwitchValue.<String>onType("text")
+                .caseOf(Integer.class, i -> "int " + i);
+
+        assertEquals("double 3.5", described);
+        assertNull(unmatched.get());
+        assertThrows(IllegalStateException.class, () -> unmatched.orThrows(IllegalStateException::new));
+    }
+
+    @Test
+    void test_compiled_type_switch_value() {
+        CompiledTypeSwitchValue<String> mapper = TypeSwitchValue.<String>builder()
+                .caseOf(CharSequence.class, s -> "chars " + s.length())
+                .caseOf(String.class, s -> "string " + s)
+                .defaultOf(() -> "unknown")
+                .build();
+
+        assertEquals("string ab", mapper.dispatch("ab"));
+        assertEquals("chars 3", mapper.dispatch(new StringBuilder("abc")));
+        assertEquals("unknown", mapper.dispatch(1));
+    }
+}
@@ -0,0 +1,151 @@
+package org.actum.conditional.stream;
+
+import org.actum.metrics.ActumMetrics;
+import org.actum.metrics.BranchMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoutingCollectorTest {
+
+    @Test
+    void test_elements_are_routed_to_first_matching_case() {
+        Map<String, List<String>> routed = Stream.of("apple", "avocado", "banana", "cherry", "blueberry", "kiwi")
+                .collect(RoutingCollector.<String, String, List<String>>builder(word -> word.substring(0, 1))
+                        .caseOf("a", Collectors.toList())
+                        .caseOf("b", Collectors.toList())
+                        .caseWhen("long", word -> word.length() > 4, Collectors.toList())
+                        .defaultOf("other", Collectors.toList())
+                        .build());
+
+        assertEquals(List.of("a", "b", "long", "other"), List.copyOf(routed.keySet()));
+        assertEquals(List.of("apple", "avocado"), routed.get("a"));
+        assertEquals(List.of("banana", "blueberry"), routed.get("b"));
+        assertEquals(List.of("cherry"), routed.get("long"));
+        assertEquals(List.of("kiwi"), routed.get("other"));
+    }
+
+    @Test
+    void test_each_route_has_its_own_downstream() {
+        Map<String, Object> routed = IntStream.range(0, 10).boxed()
+                .collect(RoutingCollector.<Integer, String, Object>builder()
+                        .caseWhen("evens", x -> x % 2 == 0, Collectors.summingInt(x -> x))
+                        .caseWhen("odds", x -> true, Collectors.counting())
+                        .build());
+
+        assertEquals(20, routed.get("evens"));
+        assertEquals(5L, routed.get("odds"));
+    }
+
+    @Test
+    void test_routes_without_elements_are_present_and_unmatched_are_dropped() {
+        Map<Integer, Long> routed = Stream.of(1, 1, 7)
+                .collect(RoutingCollector.<Integer, Integer, Long>builder(Function.identity())
+                        .caseOf(1, Collectors.counting())
+                        .caseOf(2, Collectors.counting())
+                        .build());
+
+        assertEquals(Map.of(1, 2L, 2, 0L), routed);
+    }
+
+    @Test
+    void test_parallel_stream_combines_partial_routes_in_order() {
+        RoutingCollector<Integer, String, List<Integer>> parity = RoutingCollector.<Integer, String, List<Integer>>builder()
+                .caseWhen("even", x -> x % 2 == 0, Collectors.toList())
+                .defaultOf("odd", Collectors.toList())
+                .build();
+
+        Map<String, List<Integer>> sequential = IntStream.range(0, 100_000).boxed().collect(parity);
+        Map<String, List<Integer>> parallel = IntStream.range(0, 100_000).boxed().parallel().collect(parity);
+
+        assertEquals(sequential, parallel);
+        assertEquals(50_000, parallel.get("odd").size());
+        assertTrue(parity.characteristics().isEmpty());
+    }
+
+    @Test
+    void test_concurrent_variant_needs_concurrent_downstreams() {
+        RoutingCollector<Integer, String, ConcurrentMap<Integer, Integer>> concurrent =
+                RoutingCollector.<Integer, String, ConcurrentMap<Integer, Integer>>builder()
+                        .caseWhen("small", x -> x < 100, Collectors.toConcurrentMap(x -> x, x -> x))
+                        .defaultOf("large", Collectors.toConcurrentMap(x -> x % 100, x -> 1, Integer::sum))
+                        .buildConcurrent();
+
+        Map<String, ConcurrentMap<Integer, Integer>> routed = IntStream.range(0, 10_100).boxed().parallel()
+                .collect(concurrent);
+
+        assertEquals(Set.of(Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED),
+                concurrent.characteristics());
+        assertEquals(100, routed.get("small").size());
+        assertEquals(100, routed.get("large").get(42));
+        assertThrows(IllegalArgumentException.class, () -> RoutingCollector.<Integer, String, List<Integer>>builder()
+                .defaultOf("all", Collectors.toList())
+                .buildConcurrent());
+    }
+
+    @Test
+    void test_or_throws_fails_the_stream_on_unmatched_element() {
+        RoutingCollector<Integer, Integer, Long> strict = RoutingCollector.<Integer, Integer, Long>builder(Function.identity())
+                .caseOf(1, Collectors.counting())
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> Stream.of(1, 2).collect(strict));
+    }
+
+    @Test
+    void test_invalid_definitions_are_rejected() {
+        assertThrows(IllegalStateException.class, () -> RoutingCollector.<Integer, Integer, Long>builder()
+                .caseOf(1, Collectors.counting()));
+        assertThrows(IllegalArgumentException.class, () -> RoutingCollector.<Integer, Integer, Long>builder(x -> x)
+                .caseOf(1, Collectors.counting())
+                .caseWhen(1, x -> true, Collectors.counting()));
+        assertThrows(IllegalStateException.class, () -> RoutingCollector.<Integer, Integer, Long>builder(x -> x)
+                .defaultOf(0, Collectors.counting())
+                .orThrows(IllegalStateException::new));
+    }
+
+    @Test
+    void test_routed_elements_are_counted() {
+        ActumMetrics metrics = ActumMetrics.counting();
+        Stream.of("a", "b", "z").collect(RoutingCollector.<String, String, Long>builder(Function.identity())
+                .label("router")
+                .withMetrics(metrics)
+                .caseOf("a", Collectors.counting())
+                .caseOf("b", Collectors.counting())
+                .defaultOf("other", Collectors.counting())
+                .build());
+
+        BranchMetrics branch = metrics.branch("router");
+        assertEquals(2, branch.getCaseOfHits());
+        assertEquals(1, branch.getDefaultOfHits());
+    }
+
+    @Test
+    void test_routing_is_counted_without_timing_an_empty_action() {
+        ActumMetrics metrics = ActumMetrics.timing();
+        Stream.of("a", "z").collect(RoutingCollector.<String, String, Long>builder(Function.identity())
+                .label("timed-router")
+                .withMetrics(metrics)
+                .caseOf("a", Collectors.counting())
+                .defaultOf("other", Collectors.counting())
+                .build());
+
+        BranchMetrics branch = metrics.branch("timed-router");
+        assertEquals(1, branch.getHits(0));
+        assertEquals(1, branch.getHits(1));
+        assertEquals(0, branch.getTimedActions());
+    }
+}
@@ -0,0 +1,309 @@
+package org.actum.conditional.stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoutingProcessorTest {
+
+    private Upstream upstream;
+
+    @BeforeEach
+    void setUp() {
+        upstream = new Upstream();
+    }
+
+    @Test
+    void test_elements_are_routed_to_first_matching_case_and_default() {
+        Recorder<String> a = new Recorder<>(Long.MAX_VALUE);
+        Recorder<String> longWords = new Recorder<>(Long.MAX_VALUE);
+        Recorder<String> other = new Recorder<>(Long.MAX_VALUE);
+        RoutingProcessor<String> router = RoutingProcessor.<String>builder(word -> word.charAt(0))
+                .caseOf('a', a)
+                .caseWhen(word -> word.length() > 4, longWords)
+                .build();
+        router.subscribe(other);
+        router.onSubscribe(upstream);
+
+        for (String word : List.of("apple", "banana", "avocado", "kiwi", "cherry", "fig")) {
+            router.onNext(word);
+        }
+        router.onComplete();
+
+        assertEquals(List.of("apple", "avocado"), a.items);
+        assertEquals(List.of("banana", "cherry"), longWords.items);
+        assertEquals(List.of("kiwi", "fig"), other.items);
+        assertTrue(a.completed && longWords.completed && other.completed);
+        assertEquals(3, router.size());
+    }
+
+    @Test
+    void test_backpressure_route_paces_upstream_to_its_free_buffer() {
+        Recorder<Integer> slow = new Recorder<>(0);
+        RoutingProcessor<Integer> router = RoutingProcessor.<Integer>builder()
+                .caseWhen(x -> true, slow)
+                .bufferSize(4)
+                .build();
+        router.onSubscribe(upstream);
+
+        assertEquals(4, upstream.requested);
+        for (int i = 0; i < 4; i++) {
+            router.onNext(i);
+        }
+        assertEquals(4, upstream.requested);
+
+        slow.subscription.request(3);
+
+        assertEquals(List.of(0, 1, 2), slow.items);
+        assertEquals(7, upstream.requested);
+        assertEquals(0, router.getDroppedCount());
+    }
+
+    @Test
+    void test_cancelling_the_pacing_route_resumes_upstream() {
+        Recorder<Integer> slow = new Recorder<>(0);
+        Recorder<Integer> fast = new Recorder<>(Long.MAX_VALUE);
+        RoutingProcessor<Integer> router = RoutingProcessor.<Integer>builder()
+                .caseWhen(x -> x == 0, slow)
+                .caseWhen(x -> true, fast)
+                .bufferSize(4)
+                .build();
+        router.onSubscribe(upstream);
+        for (int i = 0; i < 4; i++) {
+            router.onNext(0);
+        }
+        assertEquals(4, upstream.requested);
+
+        slow.subscription.cancel();
+
+        assertEquals(8, upstream.requested);
+        assertFalse(upstream.cancelled);
+    }
+
+    @Test
+    void test_drop_oldest_keeps_latest_elements_without_stalling_other_routes() {
+        Recorder<Integer> slow = new Recorder<>(0);
+        Recorder<Integer> fast = new Recorder<>(Long.MAX_VALUE);
+        RoutingProcessor<Integer> router = RoutingProcessor.<Integer>builder()
+                .caseWhen(x -> x % 2 == 0, slow, RouteOverflow.DROP_OLDEST)
+                .caseWhen(x -> true, fast, RouteOverflow.DROP_OLDEST)
+                .bufferSize(4)
+                .build();
+        router.onSubscribe(upstream);
+
+        for (int i = 0; i < 20; i++) {
+            router.onNext(i);
+        }
+        slow.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of(12, 14, 16, 18), slow.items);
+        assertEquals(10, fast.items.size());
+        assertEquals(6, router.getDroppedCount());
+        assertEquals(24, upstream.requested);
+    }
+
+    @Test
+    void test_drop_latest_keeps_first_elements() {
+        Recorder<Integer> slow = new Recorder<>(0);
+        RoutingProcessor<Integer> router = RoutingProcessor.<Integer>builder()
+                .caseWhen(x -> true, slow)
+                .overflow(RouteOverflow.DROP_LATEST)
+                .bufferSize(4)
+                .build();
+        router.onSubscribe(upstream);
+
+        for (int i = 0; i < 10; i++) {
+            router.onNext(i);
+        }
+        slow.subscription.request(10);
+
+        assertEquals(List.of(0, 1, 2, 3), slow.items);
+        assertEquals(6, router.getDroppedCount());
+    }
+
+    @Test
+    void test_error_policy_fails_only_the_overflowing_route() {
+        Recorder<Integer> slow = new Recorder<>(0);
+        Recorder<Integer> fast = new Recorder<>(Long.MAX_VALUE);
+        RoutingProcessor<Integer> router = RoutingProcessor.<Integer>builder()
+                .caseWhen(x -> x % 2 == 0, slow, RouteOverflow.ERROR)
+                .caseWhen(x -> true, fast, RouteOverflow.DROP_LATEST)
+                .bufferSize(2)
+                .build();
+        router.onSubscribe(upstream);
+
+        for (int i = 0; i < 10; i++) {
+            router.onNext(i);
+        }
+
+        assertInstanceOf(IllegalStateException.class, slow.error);
+        assertTrue(slow.items.isEmpty());
+        assertEquals(List.of(1, 3, 5, 7, 9), fast.items);
+        assertFalse(upstream.cancelled);
+    }
+
+    @Test
+    void test_default_route_drops_until_subscribed_and_takes_one_subscriber() {
+        RoutingProcessor<Integer> router = RoutingProcessor.<Integer>builder().build();
+        router.onSubscribe(upstream);
+        router.onNext(1);
+        Recorder<Integer> first = new Recorder<>(Long.MAX_VALUE);
+        Recorder<Integer> second = new Recorder<>(Long.MAX_VALUE);
+
+        router.subscribe(first);
+        router.subscribe(second);
+        router.onNext(2);
+
+        assertEquals(List.of(2), first.items);
+        assertEquals(1, router.getDroppedCount());
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    @Test
+    void test_invalid_demand_fails_the_route() {
+        Recorder<Integer> recorder = new Recorder<>(0);
+        RoutingProcessor.<Integer>builder().caseWhen(x -> true, recorder).build();
+
+        recorder.subscription.request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, recorder.error);
+    }
+
+    @Test
+    void test_upstream_is_cancelled_once_every_route_is_closed() {
+        Recorder<Integer> first = new Recorder<>(1);
+        Recorder<Integer> second = new Recorder<>(1);
+        RoutingProcessor<Integer> router = RoutingProcessor.<Integer>builder()
+                .caseWhen(x -> x > 0, first)
+                .caseWhen(x -> x <= 0, second)
+                .build();
+        router.onSubscribe(upstream);
+
+        first.subscription.cancel();
+        assertFalse(upstream.cancelled);
+        second.subscription.cancel();
+
+        assertTrue(upstream.cancelled);
+    }
+
+    @Test
+    void test_upstream_error_reaches_every_route_after_its_queue() {
+        Recorder<Integer> recorder = new Recorder<>(0);
+        RoutingProcessor<Integer> router = RoutingProcessor.<Integer>builder().caseWhen(x -> true, recorder).build();
+        router.onSubscribe(upstream);
+        router.onNext(1);
+        router.onError(new IllegalStateException("upstream"));
+
+        assertNull(recorder.error);
+        recorder.subscription.request(1);
+
+        assertEquals(List.of(1), recorder.items);
+        assertInstanceOf(IllegalStateException.class, recorder.error);
+    }
+
+    @Test
+    void test_submission_publisher_is_routed_without_loss_under_backpressure() throws InterruptedException {
+        Recorder<Integer> evens = new Recorder<>(1);
+        Recorder<Integer> odds = new Recorder<>(Long.MAX_VALUE);
+        RoutingProcessor<Integer> router = RoutingProcessor.<Integer>builder(x -> x % 2)
+                .caseOf(0, evens)
+                .caseOf(1, odds)
+                .bufferSize(8)
+                .build();
+        evens.requestEach = true;
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(router);
+            for (int i = 0; i < 10_000; i++) {
+                publisher.submit(i);
+            }
+        }
+
+        assertTrue(evens.done.await(10, TimeUnit.SECONDS));
+        assertTrue(odds.done.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 5_000).map(i -> i * 2).boxed().collect(Collectors.toList()), evens.items);
+        assertEquals(5_000, odds.items.size());
+        assertEquals(0, router.getDroppedCount());
+    }
+
+    @Test
+    void test_invalid_definitions_are_rejected() {
+        Recorder<Integer> recorder = new Recorder<>(0);
+        assertThrows(IllegalStateException.class, () -> RoutingProcessor.<Integer>builder().caseOf(1, recorder));
+        assertThrows(IllegalArgumentException.class, () -> RoutingProcessor.<Integer>builder(x -> x)
+                .caseOf(1, recorder)
+                .caseOf(1, recorder));
+        assertThrows(IllegalArgumentException.class, () -> RoutingProcessor.<Integer>builder().bufferSize(0));
+    }
+
+    private static final class Upstream implements Flow.Subscription {
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class Recorder<T> implements Flow.Subscriber<T> {
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private final long initialDemand;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile boolean requestEach;
+        private volatile Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        private Recorder(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            if (requestEach) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.actum.conditional.value;
+
+import org.actum.conditional.BulkMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledSwitchValueTest {
+
+    @Test
+    void test_dispatch_returns_matching_result() {
+        CompiledSwitchValue<String, Integer> mapper = SwitchValue.<String, Integer>builder()
+                .caseOf("A", () -> 1)
+                .caseOf("B", () -> 2)
+                .build();
+
+        assertEquals(1, mapper.dispatch("A"));
+        assertEquals(2, mapper.dispatch("B"));
+    }
+
+    @Test
+    void test_dispatch_returns_default_when_no_match() {
+        CompiledSwitchValue<String, Integer> mapper = SwitchValue.<String, Integer>builder()
+                .caseOf("A", () -> 1)
+                .defaultOf(() -> -1)
+                .build();
+
+        assertEquals(-1, mapper.dispatch("X"));
+    }
+
+    @Test
+    void test_dispatch_returns_null_without_default() {
+        CompiledSwitchValue<String, Integer> mapper = SwitchValue.<String, Integer>builder()
+                .caseOf("A", () -> 1)
+                .build();
+
+        assertNull(mapper.dispatch("X"));
+    }
+
+    @Test
+    void test_or_throws_when_no_match() {
+        CompiledSwitchValue<String, Integer> mapper = SwitchValue.<String, Integer>builder()
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> mapper.dispatch("X"));
+    }
+
+    @Test
+    void test_only_matching_supplier_is_invoked() {
+        AtomicInteger calls = new AtomicInteger();
+        CompiledSwitchValue<Integer, String> mapper = SwitchValue.<Integer, String>builder()
+                .caseOf(1, () -> { calls.incrementAndGet(); return "one"; })
+                .caseOf(2, () -> { calls.incrementAndGet(); return "two"; })
+                .build();
+
+        assertEquals("two", mapper.dispatch(2));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void test_memoized_dispatch_computes_each_input_once() {
+        AtomicInteger calls = new AtomicInteger();
+        CompiledSwitchValue<Integer, String> mapper = SwitchValue.<Integer, String>builder()
+                .caseOf(1, () -> "one-" + calls.incrementAndGet())
+                .defaultOf(() -> "other-" + calls.incrementAndGet())
+                .memoize(16)
+                .build();
+
+        assertEquals("one-1", mapper.dispatch(1));
+        assertEquals("one-1", mapper.dispatch(1));
+        assertEquals("other-2", mapper.dispatch(7));
+        assertEquals("other-2", mapper.dispatch(7));
+
+        assertEquals(2, calls.get());
+        assertEquals(2, mapper.getCache().getHitCount());
+    }
+
+    @Test
+    void test_unmemoized_dispatch_has_no_cache() {
+        CompiledSwitchValue<Integer, String> mapper = SwitchValue.<Integer, String>builder().build();
+
+        assertNull(mapper.getCache());
+    }
+
+    @Test
+    void test_range_and_predicate_cases_compute_result() {
+        CompiledSwitchValue<Double, String> bands = SwitchValue.<Double, String>builder()
+                .caseInRange(0.0, 9.99, () -> "budget")
+                .caseInRange(9.99, 99.99, () -> "standard")
+                .caseWhen(price -> price < 0, () -> "refund")
+                .defaultOf(() -> "premium")
+                .build();
+
+        assertEquals("budget", bands.dispatch(5.0));
+        assertEquals("standard", bands.dispatch(9.99));
+        assertEquals("refund", bands.dispatch(-1.0));
+        assertEquals("premium", bands.dispatch(150.0));
+    }
+
+    @Test
+    void test_compiled_form_agrees_with_fluent_form_or_is_rejected() {
+        CompiledSwitchValue<Integer, String> ordered = SwitchValue.<Integer, String>builder()
+                .caseOf(5, () -> "five")
+                .caseWhen(x -> x > 0, () -> "positive")
+                .build();
+
+        assertEquals(SwitchValue.<Integer, String>on(5).caseOf(5, () -> "five").caseWhen(x -> x > 0, () -> "positive").get(),
+                ordered.dispatch(5));
+        assertThrows(IllegalStateException.class, () -> SwitchValue.<Integer, String>builder()
+                .caseWhen(x -> x > 0, () -> "positive")
+                .caseOf(5, () -> "five"));
+    }
+
+    @Test
+    void test_map_all_list_matches_dispatch_in_both_modes() {
+        CompiledSwitchValue<Integer, String> parity = parity();
+        List<Integer> inputs = IntStream.range(0, 50_000).boxed().collect(Collectors.toList());
+
+        List<String> sequential = parity.mapAll(inputs);
+        List<String> parallel = parity.mapAll(new LinkedList<>(inputs), BulkMode.PARALLEL);
+
+        assertEquals(inputs.size(), parallel.size());
+        assertEquals(sequential, parallel);
+        assertEquals("even", parallel.get(40_000));
+        assertEquals("odd", parallel.get(40_001));
+        assertThrows(UnsupportedOperationException.class, () -> parallel.set(0, "odd"));
+    }
+
+    @Test
+    void test_map_all_array_writes_into_results() {
+        CompiledSwitchValue<Integer, String> parity = parity();
+        Integer[] inputs = IntStream.range(0, 50_000).boxed().toArray(Integer[]::new);
+        String[] results = new String[inputs.length + 1];
+
+        String[] mapped = parity.mapAll(inputs, results, BulkMode.PARALLEL);
+
+        assertSame(results, mapped);
+        for (int i = 0; i < inputs.length; i++) {
+            assertEquals(parity.dispatch(i), results[i]);
+        }
+        assertNull(results[inputs.length]);
+        assertThrows(IllegalArgumentException.class, () -> parity.mapAll(inputs, new String[1]));
+    }
+
+    @Test
+    void test_map_all_spliterator_passes_every_result() {
+        CompiledSwitchValue<Integer, String> parity = parity();
+        List<Integer> inputs = IntStream.range(0, 50_000).boxed().collect(Collectors.toList());
+        LongAdder even = new LongAdder();
+
+        parity.mapAll(inputs.spliterator(), result -> {
+            if (result.equals("even")) {
+                even.increment();
+            }
+        }, BulkMode.PARALLEL);
+
+        assertEquals(25_000, even.sum());
+    }
+
+    @Test
+    void test_map_all_fails_with_first_failing_input() {
+        CompiledSwitchValue<Integer, String> mapper = SwitchValue.<Integer, String>builder()
+                .caseOf(0, () -> "zero")
+                .orThrows(IllegalStateException::new)
+                .build();
+        Integer[] inputs = new Integer[10_000];
+        Arrays.fill(inputs, 0);
+        inputs[7_777] = 1;
+
+        assertThrows(IllegalStateException.class, () -> mapper.mapAll(inputs, new String[inputs.length], BulkMode.PARALLEL));
+    }
+
+    private static CompiledSwitchValue<Integer, String> parity() {
+        return SwitchValue.<Integer, String>builder()
+                .caseWhen(x -> x % 2 == 0, () -> "even")
+                .defaultOf(() -> "odd")
+                .build();
+    }
+}
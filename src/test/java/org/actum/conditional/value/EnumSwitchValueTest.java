@@ -0,0 +1,45 @@
+package org.actum.conditional.value;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EnumSwitchValueTest {
+
+    @Test
+    void test_dispatch_returns_matching_result() {
+        EnumSwitchValue<TimeUnit, String> mapper = EnumSwitchValue.<TimeUnit, String>builder(TimeUnit.class)
+                .caseOf(TimeUnit.SECONDS, () -> "s")
+                .caseOf(TimeUnit.MINUTES, () -> "m")
+                .defaultOf(() -> "?")
+                .build();
+
+        assertEquals("m", mapper.dispatch(TimeUnit.MINUTES));
+        assertEquals("?", mapper.dispatch(TimeUnit.DAYS));
+    }
+
+    @Test
+    void test_int_switch_value_returns_matching_result() {
+        IntSwitchValue<String> mapper = IntSwitchValue.<String>builder()
+                .caseOf(200, () -> "ok")
+                .caseOf(404, () -> "not found")
+                .build();
+
+        assertEquals("not found", mapper.dispatch(404));
+        assertNull(mapper.dispatch(500));
+    }
+
+    @Test
+    void test_long_switch_value_returns_matching_result() {
+        LongSwitchValue<String> mapper = LongSwitchValue.<String>builder()
+                .caseOf(1L << 40, () -> "big")
+                .defaultOf(() -> "small")
+                .build();
+
+        assertEquals("big", mapper.dispatch(1L << 40));
+        assertEquals("small", mapper.dispatch(1L));
+    }
+}
@@ -2,10 +2,67 @@ package org.actum.conditional.value;
 
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class IfValueTest {
 
+    private AtomicInteger evaluated;
+
     @BeforeEach
     void setUp() {
+        evaluated = new AtomicInteger();
+    }
+
+    @Test
+    void test_when_then_returns_value() {
+        int result = IfValue.<Integer>when(true)
+                .then(() -> 1)
+                .elseThen(() -> 2);
+
+        assertEquals(1, result);
+    }
+
+    @Test
+    void test_lazy_else_if_is_not_evaluated_after_match() {
+        int result = IfValue.<Integer>when(() -> true)
+                .then(() -> 1)
+                .elseIf(() -> evaluated.incrementAndGet() > 0, () -> 2)
+                .elseThen(() -> 3);
+
+        assertEquals(1, result);
+        assertEquals(0, evaluated.get());
+    }
+
+    @Test
+    void test_lazy_else_if_returns_first_matching_value() {
+        int result = IfValue.<Integer>when(false)
+                .then(() -> 1)
+                .elseIf(() -> evaluated.incrementAndGet() > 1, () -> 2)
+                .elseIf(() -> evaluated.incrementAndGet() > 1, () -> 3)
+                .elseIf(() -> evaluated.incrementAndGet() > 1, () -> 4)
+                .elseThen(() -> 5);
+
+        assertEquals(3, result);
+        assertEquals(2, evaluated.get());
+    }
+
+    @Test
+    void test_memoized_compiled_if_value_evaluates_each_input_once() {
+        CompiledIfValue<Integer, String> tier = IfValue.<Integer, String>builder()
+                .when(x -> evaluated.incrementAndGet() > 0 && x < 10, x -> "low")
+                .elseThen(x -> "high")
+                .memoize(16)
+                .build();
+
+        assertEquals("low", tier.evaluate(3));
+        assertEquals("low", tier.evaluate(3));
+        assertEquals("high", tier.evaluate(30));
+
+        assertEquals(2, evaluated.get());
+        assertEquals(2, tier.getCache().size());
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,141 @@
 package org.actum.conditional.value;
 
 
+import org.actum.logger.ActumLogger;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SwitchValueTest {
 
+    private AtomicInteger evaluated;
+
     @BeforeEach
     void setUp() {
+        evaluated = new AtomicInteger();
+    }
+
+    @Test
+    void test_first_matching_case_wins() {
+        String result = SwitchValue.<Integer, String>on(2)
+                .caseOf(1, () -> "one")
+                .caseOf(2, () -> "two")
+                .caseWhen(x -> x > 1, () -> "many")
+                .caseInRange(0, 10, () -> "digit")
+                .orElse(() -> "none");
+
+        assertEquals("two", result);
+    }
+
+    @Test
+    void test_only_the_matched_case_is_computed() {
+        String result = SwitchValue.<Integer, String>on(2)
+                .caseOf(2, () -> count("two"))
+                .caseOf(2, () -> count("again"))
+                .caseWhen(x -> x > 1, () -> count("many"))
+                .defaultOf(() -> count("none"))
+                .get();
+
+        assertEquals("two", result);
+        assertEquals(1, evaluated.get());
+    }
+
+    @Test
+    void test_default_runs_only_when_no_case_matches() {
+        String matched = SwitchValue.<Integer, String>on(1)
+                .caseOf(1, () -> "one")
+                .defaultOf(() -> count("none"))
+                .get();
+        String unmatched = SwitchValue.<Integer, String>on(3)
+                .caseOf(1, () -> "one")
+                .defaultOf(() -> count("none"))
+                .get();
+
+        assertEquals("one", matched);
+        assertEquals("none", unmatched);
+        assertEquals(1, evaluated.get());
+    }
+
+    @Test
+    void test_last_default_replaces_earlier_ones() {
+        String result = SwitchValue.<Integer, String>on(3)
+                .caseOf(1, () -> "one")
+                .defaultOf(() -> count("first"))
+                .defaultOf(() -> count("second"))
+                .get();
+
+        assertEquals("second", result);
+        assertEquals(1, evaluated.get());
+    }
+
+    @Test
+    void test_result_is_computed_once_and_only_when_requested() {
+        SwitchValue<Integer, String> chain = SwitchValue.<Integer, String>on(1)
+                .caseOf(1, () -> count("one"));
+
+        assertEquals(0, evaluated.get());
+        assertEquals("one", chain.get());
+        assertEquals("one", chain.get());
+        assertEquals(1, evaluated.get());
+    }
+
+    @Test
+    void test_only_the_computed_block_is_traced_when_the_result_is_requested() {
+        List<String> messages = new ArrayList<>();
+        ActumLogger logger = (level, message) -> messages.add(message);
+        SwitchValue<Integer, String> chain = SwitchValue.<Integer, String>on(2).withLogger(logger).trace()
+                .defaultOf(() -> "other")
+                .caseOf(2, () -> "two");
+
+        assertEquals(0, messages.size());
+        assertEquals("two", chain.get());
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).contains("Executing CaseOf block"));
+    }
+
+    @Test
+    void test_get_without_match_or_default_returns_null() {
+        assertNull(SwitchValue.<Integer, String>on(3).caseOf(1, () -> "one").get());
+    }
+
+    @Test
+    void test_null_input_matches_null_case() {
+        String result = SwitchValue.<Integer, String>on(null)
+                .caseOf(1, () -> "one")
+                .caseOf(null, () -> "null")
+                .orElse(() -> "none");
+
+        assertEquals("null", result);
+    }
+
+    @Test
+    void test_or_throws_returns_matched_result() {
+        String result = SwitchValue.<Integer, String>on(1)
+                .caseOf(1, () -> "one")
+                .orThrows(IllegalStateException::new);
+
+        assertEquals("one", result);
+    }
+
+    @Test
+    void test_or_throws_without_match() {
+        SwitchValue<Integer, String> chain = SwitchValue.<Integer, String>on(3)
+                .caseOf(1, () -> count("one"));
+
+        assertThrows(IllegalStateException.class, () -> chain.orThrows(IllegalStateException::new));
+        assertEquals(0, evaluated.get());
+    }
+
+    private String count(String value) {
+        evaluated.incrementAndGet();
+        return value;
     }
-}
\ No newline at end of file
+}
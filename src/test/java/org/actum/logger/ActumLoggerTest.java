@@ -0,0 +1,125 @@
+package org.actum.logger;
+
+import org.actum.conditional.core.CompiledSwitch;
+import org.actum.conditional.core.If;
+import org.actum.conditional.core.Switch;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActumLoggerTest {
+
+    private static final int ITERATIONS = 200_000;
+    private static int sink;
+
+    @Test
+    void test_parameterized_log_formats_placeholders() {
+        List<String> messages = new ArrayList<>();
+        ActumLogger logger = (level, message) -> messages.add(message);
+
+        logger.log(LogLevel.DEBUG, "[ {} ] matched={}", "label", true);
+
+        assertEquals(List.of("[ label ] matched=true"), messages);
+    }
+
+    @Test
+    void test_parameterized_log_skips_disabled_level() {
+        List<String> messages = new ArrayList<>();
+        ActumLogger logger = new ActumLogger() {
+            @Override
+            public void log(LogLevel logLevel, String message) {
+                messages.add(message);
+            }
+
+            @Override
+            public boolean isEnabled(LogLevel logLevel) {
+                return logLevel != LogLevel.DEBUG;
+            }
+        };
+
+        logger.log(LogLevel.DEBUG, "{}", "skipped");
+        logger.log(LogLevel.INFO, "{}", "logged");
+
+        assertEquals(List.of("logged"), messages);
+    }
+
+    @Test
+    void test_no_op_logger_is_disabled() {
+        for (LogLevel level : LogLevel.values()) {
+            assertFalse(ActumLoggerFactory.noOp().isEnabled(level));
+        }
+    }
+
+    @Test
+    void test_slf4j_logger_forwards_level_checks() {
+        ActumLogger logger = ActumLoggerFactory.slf4j(LoggerFactory.getLogger(ActumLoggerTest.class));
+
+        assertFalse(logger.isEnabled(LogLevel.DEBUG));
+        assertTrue(logger.isEnabled(LogLevel.ERROR));
+    }
+
+    @Test
+    void test_traced_compiled_switch_does_not_allocate_when_debug_disabled() {
+        CompiledSwitch router = Switch.builder()
+                .trace()
+                .withSlf4j(LoggerFactory.getLogger(ActumLoggerTest.class))
+                .caseOf("A", () -> sink++)
+                .defaultOf(() -> sink--)
+                .build();
+        Runnable body = () -> {
+            router.dispatch("A");
+            router.dispatch("B");
+        };
+
+        allocatedBytes(body);
+        assertTrue(allocatedBytes(body) / ITERATIONS < 1);
+    }
+
+    @Test
+    void test_traced_if_allocates_no_more_than_untraced_when_debug_disabled() {
+        ActumLogger logger = ActumLoggerFactory.slf4j(LoggerFactory.getLogger(ActumLoggerTest.class));
+        Runnable untraced = () -> If.when(sink < 0)
+                .withLogger(logger)
+                .then(() -> sink--)
+                .elseIf(sink >= 0, () -> sink++)
+                .elseThen(() -> sink = 0);
+        Runnable traced = () -> If.when(sink < 0)
+                .withLogger(logger)
+                .trace()
+                .then(() -> sink--)
+                .elseIf(sink >= 0, () -> sink++)
+                .elseThen(() -> sink = 0);
+
+        long untracedBytes = minAllocatedBytes(untraced);
+        long tracedBytes = minAllocatedBytes(traced);
+        assertTrue((tracedBytes - untracedBytes) / ITERATIONS < 1);
+    }
+
+    /**
+     * Lowest allocation over several rounds, so JIT compilation of one variant does not skew the comparison
+     */
+    private static long minAllocatedBytes(Runnable body) {
+        long min = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            min = Math.min(min, allocatedBytes(body));
+        }
+        return min;
+    }
+
+    private static long allocatedBytes(Runnable body) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            body.run();
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,252 @@
+package org.actum.logger;
+
+import org.actum.conditional.core.If;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncActumLoggerTest {
+
+    @Test
+    void test_events_are_written_in_order() {
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncActumLogger logger = ActumLoggerFactory.async((level, message) -> messages.add(message));
+
+        for (int i = 0; i < 1000; i++) {
+            logger.log(LogLevel.INFO, "event-{}", i);
+        }
+        logger.close();
+
+        assertEquals(1000, messages.size());
+        assertEquals("event-0", messages.get(0));
+        assertEquals("event-999", messages.get(999));
+        assertEquals(0, logger.getDroppedCount());
+    }
+
+    @Test
+    void test_drop_policy_counts_dropped_events() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncActumLogger logger = ActumLoggerFactory.async((level, message) -> {
+            blocked.countDown();
+            await(release);
+            messages.add(message);
+        }, 4, OverflowPolicy.DROP);
+
+        logger.log(LogLevel.INFO, "first");
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            logger.log(LogLevel.INFO, "overflow");
+        }
+        release.countDown();
+        logger.close();
+
+        assertEquals(6, logger.getDroppedCount());
+        assertEquals(5, messages.size());
+    }
+
+    @Test
+    void test_block_policy_loses_nothing_from_many_threads() throws InterruptedException {
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncActumLogger logger = ActumLoggerFactory.async((level, message) -> messages.add(message), 8, OverflowPolicy.BLOCK);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 2500; i++) {
+                    logger.log(LogLevel.INFO, "event");
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        logger.close();
+
+        assertEquals(10_000, messages.size());
+        assertEquals(0, logger.getDroppedCount());
+    }
+
+    @Test
+    void test_sample_policy_keeps_one_in_sample_rate_overflowing_events() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncActumLogger logger = new AsyncActumLogger((level, message) -> {
+            blocked.countDown();
+            await(release);
+            messages.add(message);
+        }, 4, OverflowPolicy.SAMPLE, 3);
+
+        logger.log(LogLevel.INFO, "first");
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            logger.log(LogLevel.INFO, "buffered");
+        }
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i <= 3; i++) {
+                logger.log(LogLevel.INFO, "overflow-" + i);
+            }
+        });
+        producer.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (logger.getOverflowCount() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(producer.isAlive());
+        release.countDown();
+        producer.join();
+        logger.close();
+
+        assertEquals(3, logger.getOverflowCount());
+        assertEquals(2, logger.getDroppedCount());
+        assertEquals(6, messages.size());
+        assertEquals("overflow-3", messages.get(5));
+    }
+
+    @Test
+    void test_events_logged_while_closing_are_not_lost() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            List<String> messages = Collections.synchronizedList(new ArrayList<>());
+            AsyncActumLogger logger = ActumLoggerFactory.async((level, message) -> messages.add(message), 16, OverflowPolicy.BLOCK);
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread thread = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 500; i++) {
+                        logger.log(LogLevel.INFO, "event");
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            started.await();
+            logger.close();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(2000, messages.size());
+        }
+    }
+
+    @Test
+    void test_interrupted_close_writes_buffered_events_and_keeps_interrupt() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncActumLogger logger = ActumLoggerFactory.async((level, message) -> {
+            if (blocked.getCount() > 0) {
+                blocked.countDown();
+                await(release);
+            }
+            messages.add(message);
+        }, 64, OverflowPolicy.DROP);
+
+        for (int i = 0; i < 50; i++) {
+            logger.log(LogLevel.INFO, "event");
+        }
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        boolean[] interrupted = new boolean[1];
+        Thread closer = new Thread(() -> {
+            logger.close();
+            interrupted[0] = Thread.currentThread().isInterrupted();
+        });
+        closer.start();
+        closer.interrupt();
+        release.countDown();
+        closer.join();
+
+        assertEquals(50, messages.size());
+        assertTrue(interrupted[0]);
+    }
+
+    @Test
+    void test_idle_logger_writes_event_logged_after_a_pause() throws InterruptedException {
+        CountDownLatch written = new CountDownLatch(1);
+        AsyncActumLogger logger = ActumLoggerFactory.async((level, message) -> written.countDown());
+
+        Thread.sleep(100);
+        logger.log(LogLevel.INFO, "late");
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        logger.close();
+    }
+
+    @Test
+    void test_events_logged_after_close_never_reach_delegate_concurrently() throws InterruptedException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        AtomicInteger written = new AtomicInteger();
+        AsyncActumLogger logger = ActumLoggerFactory.async((level, message) -> {
+            if (active.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            Thread.yield();
+            written.incrementAndGet();
+            active.decrementAndGet();
+        });
+        logger.close();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    logger.log(LogLevel.INFO, "late");
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(2000, written.get());
+        assertEquals(0, overlaps.get());
+    }
+
+    @Test
+    void test_level_check_is_forwarded_to_delegate() {
+        AsyncActumLogger logger = ActumLoggerFactory.async(ActumLoggerFactory.noOp());
+
+        assertFalse(logger.isEnabled(LogLevel.DEBUG));
+        logger.close();
+    }
+
+    @Test
+    void test_plugs_into_conditionals() {
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AsyncActumLogger logger = ActumLoggerFactory.async((level, message) -> messages.add(message));
+
+        If.when(true)
+                .label("asyncCheck")
+                .trace()
+                .withLogger(logger)
+                .then(() -> {});
+        logger.close();
+
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).startsWith("[ async-check ] Executing Then block"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package org.actum.metrics;
+
+import org.actum.conditional.core.CompiledSwitch;
+import org.actum.conditional.core.If;
+import org.actum.conditional.core.Switch;
+import org.actum.conditional.value.IfValue;
+import org.actum.conditional.value.SwitchValue;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActumMetricsTest {
+
+    @Test
+    void test_fluent_if_counts_branch_kinds() {
+        ActumMetrics metrics = ActumMetrics.counting();
+
+        If.when(true).label("auth-check").withMetrics(metrics).then(() -> { });
+        If.when(false).label("auth-check").withMetrics(metrics).then(() -> { }).elseIf(true, () -> { });
+        If.when(false).label("auth-check").withMetrics(metrics).then(() -> { }).elseThen(() -> { });
+
+        BranchMetrics branch = metrics.branch("auth-check");
+        assertEquals(1, branch.getThenHits());
+        assertEquals(1, branch.getElseIfHits());
+        assertEquals(1, branch.getElseThenHits());
+        assertEquals(0, branch.getTimedActions());
+    }
+
+    @Test
+    void test_metrics_follow_label_set_after_registration() {
+        ActumMetrics metrics = ActumMetrics.counting();
+
+        Switch.on("A").withMetrics(metrics).label("routeRequest").caseOf("A", () -> { });
+
+        assertEquals(1, metrics.getBranches().size());
+        assertEquals(1, metrics.branch("route-request").getCaseOfHits());
+    }
+
+    @Test
+    void test_fluent_chain_counts_hits_per_declared_branch() {
+        ActumMetrics metrics = ActumMetrics.counting();
+
+        If.when(false).label("auth-check").withMetrics(metrics).then(() -> { }).elseIf(false, () -> { }).elseThen(() -> { });
+        If.when(false).label("auth-check").withMetrics(metrics).then(() -> { }).elseIf(true, () -> { }).elseThen(() -> { });
+        SwitchValue.<Integer, String>on(3).label("size").withMetrics(metrics)
+                .caseOf(1, () -> "one")
+                .caseOf(3, () -> "three")
+                .defaultOf(() -> "other")
+                .get();
+
+        assertArrayEquals(new long[]{0, 1, 1}, metrics.branch("auth-check").getBranchHits());
+        assertEquals(1, metrics.branch("size").getHits(1));
+        assertEquals(0, metrics.branch("size").getHits(2));
+    }
+
+    @Test
+    void test_compiled_switch_counts_hits_and_latency_per_case() {
+        ActumMetrics metrics = ActumMetrics.timing();
+        CompiledSwitch router = Switch.builder().label("per-case").withMetrics(metrics)
+                .caseOf("A", () -> { })
+                .caseOf("B", () -> { })
+                .caseInRange(10, 20, () -> { })
+                .defaultOf(() -> { })
+                .build();
+
+        router.dispatch("B");
+        router.dispatch("B");
+        router.dispatch(15);
+        router.dispatch("C");
+
+        BranchMetrics branch = metrics.branch("per-case");
+        assertArrayEquals(new long[]{0, 2, 1, 1}, branch.getBranchHits());
+        assertEquals(2, branch.getLatency(1).getCount());
+        assertEquals(0, branch.getLatency(0).getCount());
+        assertEquals(4, branch.getTimedActions());
+    }
+
+    @Test
+    void test_sampled_timing_counts_every_hit_and_times_a_fraction() {
+        ActumMetrics metrics = ActumMetrics.timing(4);
+        CompiledSwitch router = Switch.builder().label("sampled").withMetrics(metrics)
+                .caseOf("A", () -> { })
+                .build();
+
+        for (int i = 0; i < 10_000; i++) {
+            router.dispatch("A");
+        }
+
+        BranchMetrics branch = metrics.branch("sampled");
+        assertEquals(10_000, branch.getCaseOfHits());
+        assertTrue(branch.getTimedActions() > 0);
+        assertTrue(branch.getTimedActions() < 10_000);
+        assertEquals(4, branch.getTimingSampleRate());
+    }
+
+    @Test
+    void test_non_positive_sample_rate_throws() {
+        assertThrows(IllegalArgumentException.class, () -> ActumMetrics.timing(0));
+    }
+
+    @Test
+    void test_value_conditionals_are_counted() {
+        ActumMetrics metrics = ActumMetrics.timing();
+
+        String grade = IfValue.<String>when(false).label("grade").withMetrics(metrics)
+                .then(() -> "A")
+                .elseThen(() -> "B");
+        SwitchValue.<Integer, String>on(2).label("grade").withMetrics(metrics)
+                .caseOf(2, () -> "two")
+                .get();
+
+        BranchMetrics branch = metrics.branch("grade");
+        assertEquals("B", grade);
+        assertEquals(1, branch.getElseThenHits());
+        assertEquals(1, branch.getCaseOfHits());
+        assertEquals(2, branch.getTimedActions());
+    }
+
+    @Test
+    void test_compiled_switch_counts_cases_defaults_and_throws() {
+        ActumMetrics metrics = ActumMetrics.timing();
+        CompiledSwitch router = Switch.builder().label("router").withMetrics(metrics)
+                .caseOf("A", () -> { })
+                .defaultOf(() -> { })
+                .build();
+        CompiledSwitch strict = Switch.builder().label("router").withMetrics(metrics)
+                .caseOf("A", () -> { })
+                .orThrows(IllegalStateException::new)
+                .build();
+
+        router.dispatch("A");
+        router.dispatch("A");
+        router.dispatch("B");
+        assertThrows(IllegalStateException.class, () -> strict.dispatch("B"));
+
+        BranchMetrics branch = metrics.branch("router");
+        assertEquals(2, branch.getCaseOfHits());
+        assertEquals(1, branch.getDefaultOfHits());
+        assertEquals(1, branch.getThrowsHits());
+        assertEquals(3, branch.getTimedActions());
+    }
+
+    @Test
+    void test_branch_metrics_are_shared_by_label() {
+        ActumMetrics metrics = ActumMetrics.counting();
+
+        assertSame(metrics.branch("a"), metrics.branch("a"));
+        assertEquals(1, metrics.getBranches().size());
+        assertFalse(metrics.isTimed());
+    }
+
+    @Test
+    void test_metrics_are_exposed_over_jmx() throws Exception {
+        ActumMetrics metrics = ActumMetrics.counting().registerMBeans();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            If.when(true).label("jmx-check").withMetrics(metrics).then(() -> { });
+
+            assertTrue(server.isRegistered(ActumMetrics.objectName("jmx-check")));
+            assertEquals(1L, server.getAttribute(ActumMetrics.objectName("jmx-check"), "ThenHits"));
+            assertArrayEquals(new long[]{1}, (long[]) server.getAttribute(ActumMetrics.objectName("jmx-check"), "BranchHits"));
+        } finally {
+            metrics.unregisterMBeans();
+        }
+        assertFalse(server.isRegistered(ActumMetrics.objectName("jmx-check")));
+    }
+
+    @Test
+    void test_registries_with_distinct_names_are_both_exposed() {
+        ActumMetrics first = ActumMetrics.counting().registerMBeans("first");
+        ActumMetrics second = ActumMetrics.counting().registerMBeans("second");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            first.branch("shared-check");
+            second.branch("shared-check");
+
+            assertTrue(server.isRegistered(ActumMetrics.objectName("first", "shared-check")));
+            assertTrue(server.isRegistered(ActumMetrics.objectName("second", "shared-check")));
+        } finally {
+            first.unregisterMBeans();
+            second.unregisterMBeans();
+        }
+    }
+
+    @Test
+    void test_registry_name_conflict_is_reported() {
+        ActumMetrics first = ActumMetrics.counting().registerMBeans();
+        ActumMetrics second = ActumMetrics.counting().registerMBeans();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            first.branch("conflict-check");
+
+            assertThrows(IllegalStateException.class, () -> second.branch("conflict-check"));
+            second.unregisterMBeans();
+            assertTrue(server.isRegistered(ActumMetrics.objectName("conflict-check")));
+        } finally {
+            first.unregisterMBeans();
+            second.unregisterMBeans();
+        }
+    }
+
+    @Test
+    void test_null_registry_throws() {
+        assertThrows(IllegalArgumentException.class, () -> If.when(true).withMetrics(null));
+    }
+}
@@ -0,0 +1,69 @@
+package org.actum.metrics;
+
+import jdk.jfr.Recording;
+import org.actum.conditional.core.If;
+import org.actum.conditional.core.Switch;
+import org.actum.conditional.value.IfValue;
+import org.actum.conditional.value.SwitchValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BranchEventTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void test_branches_are_recorded_and_summarized_per_label() throws Exception {
+        Path file = directory.resolve("branches.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(BranchEvent.NAME);
+            recording.start();
+            for (int i = 0; i < 3; i++) {
+                If.when(i == 0).label("checkout").then(() -> { }).elseThen(() -> { });
+            }
+            Switch.on("A").label("router").caseOf("A", () -> { });
+            IfValue.<Integer>when(true).label("pricing").then(() -> 1);
+            SwitchValue.<String, Integer>on("B").label("router").caseOf("B", () -> 2).get();
+            assertThrows(IllegalStateException.class,
+                    () -> If.when(false).label("guard").orThrows(IllegalStateException::new));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        BranchEventReport report = BranchEventReport.read(file);
+
+        BranchEventReport.Summary checkout = report.getSummary("checkout");
+        assertEquals(3, checkout.getCount());
+        assertEquals(1, checkout.getMatchedCount());
+        assertEquals(1, checkout.getCount(BranchKind.THEN));
+        assertEquals(2, checkout.getCount(BranchKind.ELSE_THEN));
+        assertEquals(1, checkout.getThreadCount());
+        assertEquals(2, report.getSummary("router").getCount(BranchKind.CASE_OF));
+        assertEquals(1, report.getSummary("pricing").getCount());
+        assertEquals(1, report.getSummary("guard").getCount(BranchKind.THROWS));
+        assertNull(report.getSummary("unknown"));
+        assertTrue(report.toString().contains("checkout"));
+    }
+
+    @Test
+    void test_nothing_is_recorded_without_recording() throws Exception {
+        If.when(true).label("ignored").then(() -> { });
+        Path file = directory.resolve("empty.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(BranchEvent.NAME);
+            recording.start();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertNull(BranchEventReport.read(file).getSummary("ignored"));
+    }
+}
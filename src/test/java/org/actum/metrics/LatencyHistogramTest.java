@@ -0,0 +1,63 @@
+package org.actum.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyHistogramTest {
+
+    @Test
+    void test_empty_histogram_reports_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertEquals(0.0, histogram.getMeanNanos());
+    }
+
+    @Test
+    void test_percentiles_are_bucket_upper_bounds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(10_000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(127, histogram.getPercentileNanos(50));
+        assertEquals(127, histogram.getPercentileNanos(99));
+        assertEquals(10_000, histogram.getPercentileNanos(100));
+        assertEquals(10_000, histogram.getMaxNanos());
+        assertEquals(199.0, histogram.getMeanNanos());
+    }
+
+    @Test
+    void test_negative_duration_counts_as_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getTotalNanos());
+    }
+
+    @Test
+    void test_invalid_percentile_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentileNanos(101));
+    }
+
+    @Test
+    void test_added_histogram_is_merged() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(100);
+        second.record(10_000);
+
+        first.add(second);
+
+        assertEquals(2, first.getCount());
+        assertEquals(10_100, first.getTotalNanos());
+        assertEquals(10_000, first.getMaxNanos());
+        assertEquals(1, second.getCount());
+    }
+}
@@ -0,0 +1,98 @@
+package org.actum.table;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecisionTableTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void test_written_rows_are_found_in_mapped_table() {
+        Path path = directory.resolve("routes.table");
+        DecisionTableWriter.write(path, new long[]{42, -7, Long.MAX_VALUE, 0}, new int[]{1, 2, 3, 4});
+
+        DecisionTable table = DecisionTable.open(path);
+
+        assertEquals(4, table.size());
+        assertEquals(1, table.actionOf(42));
+        assertEquals(2, table.actionOf(-7));
+        assertEquals(3, table.actionOf(Long.MAX_VALUE));
+        assertEquals(4, table.actionOf(0));
+        assertEquals(DecisionTable.MISSING, table.actionOf(41));
+        assertEquals(DecisionTable.MISSING, table.actionOf(Long.MIN_VALUE));
+        assertTrue(table.contains(0));
+        assertFalse(table.contains(1));
+    }
+
+    @Test
+    void test_large_table() {
+        Path path = directory.resolve("large.table");
+        int rows = 200_000;
+        long[] keys = new long[rows];
+        int[] actions = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            keys[i] = (rows - i) * 3L;
+            actions[i] = i % 16;
+        }
+        DecisionTableWriter.write(path, keys, actions);
+
+        DecisionTable table = DecisionTable.open(path);
+
+        for (int i = 0; i < rows; i += 997) {
+            assertEquals(i % 16, table.actionOf((rows - i) * 3L));
+            assertEquals(DecisionTable.MISSING, table.actionOf((rows - i) * 3L + 1));
+        }
+    }
+
+    @Test
+    void test_empty_table() {
+        Path path = directory.resolve("empty.table");
+        DecisionTableWriter.write(path, new long[0], new int[0]);
+
+        assertEquals(DecisionTable.MISSING, DecisionTable.open(path).actionOf(1));
+    }
+
+    @Test
+    void test_csv_import() {
+        Path path = directory.resolve("csv.table");
+        String csv = "# key,actionId\n100, 1\n\n200,2\n150,1\n";
+
+        assertEquals(3, DecisionTableWriter.importCsv(new StringReader(csv), path));
+
+        DecisionTable table = DecisionTable.open(path);
+        assertEquals(1, table.actionOf(150));
+        assertEquals(2, table.actionOf(200));
+    }
+
+    @Test
+    void test_invalid_rows_are_rejected() {
+        Path path = directory.resolve("invalid.table");
+
+        assertThrows(IllegalArgumentException.class, () -> DecisionTableWriter.write(path, new long[]{1, 1}, new int[]{1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> DecisionTableWriter.write(path, new long[]{1}, new int[]{-1}));
+        assertThrows(IllegalArgumentException.class, () -> DecisionTableWriter.write(path, new long[]{1}, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> DecisionTableWriter.importCsv(new StringReader("1;2"), path));
+        assertThrows(IllegalArgumentException.class, () -> DecisionTableWriter.importCsv(new StringReader("a,2"), path));
+    }
+
+    @Test
+    void test_open_rejects_other_files() throws IOException {
+        Path path = Files.writeString(directory.resolve("other.txt"), "not a decision table");
+
+        assertThrows(IllegalArgumentException.class, () -> DecisionTable.open(path));
+        assertThrows(UncheckedIOException.class, () -> DecisionTable.open(directory.resolve("missing.table")));
+    }
+}
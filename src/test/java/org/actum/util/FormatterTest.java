@@ -0,0 +1,51 @@
+package org.actum.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FormatterTest {
+
+    @Test
+    void test_normalize_to_kebab_case() {
+        assertEquals("auth-check", Formatter.normalize("authCheck", "If"));
+        assertEquals("http-server-url-parser", Formatter.normalize("HTTPServerURLParser", "If"));
+        assertEquals("user-id", Formatter.normalize("__user__ID__", "If"));
+        assertEquals("actum-if", Formatter.normalize(null, "If"));
+        assertEquals("actum-switch", Formatter.normalize("  ", "Switch"));
+    }
+
+    @Test
+    void test_normalize_matches_regex_implementation() {
+        List<String> inputs = List.of("simple", "camelCase", "PascalCase", "snake_case_label", "SCREAMING_SNAKE",
+                "ABCdEFg", "aBcD", "x-_-y", "-leading", "trailing_", "---", "a", "A", "ÄpfelBirne", "v2Api",
+                "XMLHttpRequest", "mixed-Dash_andCase", "_", "ends-", "IOError");
+        for (String input : inputs) {
+            assertEquals(regexNormalize(input), Formatter.normalize(input, "If"), input);
+        }
+    }
+
+    @Test
+    void test_normalize_returns_cached_instance() {
+        String first = Formatter.normalize("cachedLabel", "If");
+
+        assertSame(first, Formatter.normalize("cachedLabel", "If"));
+    }
+
+    @Test
+    void test_format_replaces_placeholders_in_order() {
+        assertEquals("a=1, b=true, c={}", Formatter.format("a={}, b={}, c={}", 1, true));
+        assertEquals("no placeholders", Formatter.format("no placeholders", "ignored"));
+    }
+
+    private static String regexNormalize(String input) {
+        String normalized = input.replaceAll("_", "-");
+        normalized = normalized.replaceAll("([a-z])([A-Z])", "$1-$2");
+        normalized = normalized.replaceAll("([A-Z]+)([A-Z][a-z])", "$1-$2");
+        normalized = normalized.replaceAll("--+", "-").replaceAll("^-|-$", "");
+        return normalized.toLowerCase();
+    }
+}
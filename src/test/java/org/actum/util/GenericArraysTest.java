@@ -0,0 +1,37 @@
+package org.actum.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenericArraysTest {
+
+    @Test
+    void test_new_array_has_component_type_and_size() {
+        Supplier<String>[] suppliers = GenericArrays.newArray(Supplier.class, 3);
+
+        assertEquals(3, suppliers.length);
+        assertSame(Supplier.class, suppliers.getClass().getComponentType());
+        assertNull(suppliers[0]);
+    }
+
+    @Test
+    void test_to_array_keeps_iteration_order() {
+        Predicate<Integer> even = value -> value % 2 == 0;
+        Predicate<Integer> positive = value -> value > 0;
+
+        Predicate<? super Integer>[] conditions = GenericArrays.toArray(Predicate.class, List.of(even, positive));
+
+        assertEquals(2, conditions.length);
+        assertSame(even, conditions[0]);
+        assertSame(positive, conditions[1]);
+        assertTrue(conditions[1].test(1));
+    }
+}
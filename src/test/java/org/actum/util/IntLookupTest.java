@@ -0,0 +1,64 @@
+package org.actum.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntLookupTest {
+
+    @Test
+    void test_compact_keys_are_dense() {
+        IntLookup lookup = IntLookup.of(new int[]{10, 12, 11, -3});
+
+        assertTrue(lookup.isDense());
+        assertEquals(0, lookup.indexOf(10));
+        assertEquals(3, lookup.indexOf(-3));
+        assertEquals(IntLookup.MISSING, lookup.indexOf(13));
+        assertEquals(IntLookup.MISSING, lookup.indexOf(Integer.MIN_VALUE));
+        assertEquals(IntLookup.MISSING, lookup.indexOf(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void test_sparse_keys_use_hash_table() {
+        int[] keys = new int[500];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i * 7919 - 1_000_000;
+        }
+        IntLookup lookup = IntLookup.of(keys);
+
+        assertFalse(lookup.isDense());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, lookup.indexOf(keys[i]));
+            assertEquals(IntLookup.MISSING, lookup.indexOf(keys[i] + 1));
+        }
+    }
+
+    @Test
+    void test_extreme_keys() {
+        IntLookup lookup = IntLookup.of(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, 0});
+
+        assertEquals(0, lookup.indexOf(Integer.MIN_VALUE));
+        assertEquals(1, lookup.indexOf(Integer.MAX_VALUE));
+        assertEquals(2, lookup.indexOf(0));
+        assertEquals(IntLookup.MISSING, lookup.indexOf(1));
+    }
+
+    @Test
+    void test_long_lookup_extreme_keys() {
+        LongLookup lookup = LongLookup.of(new long[]{Long.MIN_VALUE, Long.MAX_VALUE, 5L});
+
+        assertFalse(lookup.isDense());
+        assertEquals(0, lookup.indexOf(Long.MIN_VALUE));
+        assertEquals(1, lookup.indexOf(Long.MAX_VALUE));
+        assertEquals(2, lookup.indexOf(5L));
+        assertEquals(LongLookup.MISSING, lookup.indexOf(6L));
+    }
+
+    @Test
+    void test_empty_lookup() {
+        assertEquals(IntLookup.MISSING, IntLookup.of(new int[0]).indexOf(0));
+        assertEquals(LongLookup.MISSING, LongLookup.of(new long[0]).indexOf(0));
+    }
+}
@@ -0,0 +1,166 @@
+package org.actum.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoCacheTest {
+
+    @Test
+    void test_value_is_computed_once() {
+        MemoCache<String, Integer> cache = MemoCache.of(16);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(3, cache.get("abc", key -> loads.incrementAndGet() + 2));
+        assertEquals(3, cache.get("abc", key -> loads.incrementAndGet() + 2));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void test_size_is_bounded() {
+        MemoCache<Integer, Integer> cache = MemoCache.of(8);
+
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, key -> key);
+        }
+
+        assertTrue(cache.size() <= 8, "size " + cache.size());
+        assertEquals(100 - cache.size(), cache.getEvictionCount());
+    }
+
+    @Test
+    void test_least_recently_used_value_is_evicted() {
+        MemoCache<Integer, Integer> cache = MemoCache.of(2);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, key -> loads.incrementAndGet());
+        cache.get(2, key -> loads.incrementAndGet());
+        cache.get(1, key -> loads.incrementAndGet());
+        cache.get(3, key -> loads.incrementAndGet());
+        cache.get(1, key -> loads.incrementAndGet());
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void test_expired_value_is_recomputed() throws InterruptedException {
+        MemoCache<String, Integer> cache = MemoCache.of(16, Duration.ofMillis(20));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", key -> loads.incrementAndGet());
+        Thread.sleep(40);
+        cache.get("a", key -> loads.incrementAndGet());
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void test_null_keys_and_values_are_cached() {
+        MemoCache<String, String> cache = MemoCache.of(16);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get(null, key -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get(null, key -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void test_failed_computation_is_not_cached() {
+        MemoCache<String, Integer> cache = MemoCache.of(16);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("a", key -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, cache.get("a", key -> 1));
+    }
+
+    @Test
+    void test_concurrent_misses_compute_once() throws Exception {
+        MemoCache<String, Integer> cache = MemoCache.of(16);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("slow", key -> {
+                        loads.incrementAndGet();
+                        sleep();
+                        return 42;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void test_recursive_load_of_same_key_throws() {
+        MemoCache<String, Integer> cache = MemoCache.of(16);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("abc", key -> cache.get(key, nested -> 1)));
+        assertEquals(2, cache.get("abc", key -> 2));
+    }
+
+    @Test
+    void test_load_started_before_invalidation_is_not_cached() {
+        MemoCache<String, Integer> cache = MemoCache.of(16);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, cache.get("abc", key -> {
+            cache.invalidateAll();
+            return loads.incrementAndGet();
+        }));
+        assertEquals(2, cache.get("abc", key -> loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void test_invalid_settings_throw() {
+        assertThrows(IllegalArgumentException.class, () -> MemoCache.of(0));
+        assertThrows(IllegalArgumentException.class, () -> MemoCache.of(1, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> MemoCache.of(1, null));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.actum.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RangeLookupTest {
+
+    @Test
+    void test_ranges_are_half_open() {
+        RangeLookup lookup = RangeLookup.of(List.of(0, 10), List.of(10, 20));
+
+        assertEquals(0, lookup.indexOf(0));
+        assertEquals(0, lookup.indexOf(9));
+        assertEquals(1, lookup.indexOf(10));
+        assertEquals(RangeLookup.MISSING, lookup.indexOf(20));
+        assertEquals(RangeLookup.MISSING, lookup.indexOf(-1));
+    }
+
+    @Test
+    void test_first_declared_overlapping_range_wins() {
+        RangeLookup lookup = RangeLookup.of(List.of(5, 0, 8), List.of(10, 20, 30));
+
+        assertEquals(1, lookup.indexOf(2));
+        assertEquals(0, lookup.indexOf(7));
+        assertEquals(0, lookup.indexOf(9));
+        assertEquals(1, lookup.indexOf(15));
+        assertEquals(2, lookup.indexOf(25));
+    }
+
+    @Test
+    void test_values_of_other_classes_never_match() {
+        RangeLookup lookup = RangeLookup.of(List.of(0, 0L), List.of(10, 10L));
+
+        assertEquals(0, lookup.indexOf(5));
+        assertEquals(1, lookup.indexOf(5L));
+        assertEquals(RangeLookup.MISSING, lookup.indexOf(5.0));
+        assertEquals(RangeLookup.MISSING, lookup.indexOf(null));
+    }
+
+    @Test
+    void test_thousands_of_ranges_match_linear_scan() {
+        List<Integer> lows = new ArrayList<>();
+        List<Integer> highs = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int low = (i * 7919) % 10_000;
+            lows.add(low);
+            highs.add(low + 1 + i % 13);
+        }
+        RangeLookup lookup = RangeLookup.of(lows, highs);
+
+        for (int value = -5; value < 10_020; value++) {
+            int expected = RangeLookup.MISSING;
+            for (int i = 0; i < lows.size(); i++) {
+                if (lows.get(i) <= value && value < highs.get(i)) {
+                    expected = i;
+                    break;
+                }
+            }
+            assertEquals(expected, lookup.indexOf(value), "value " + value);
+        }
+    }
+
+    @Test
+    void test_contains_checks_bounds_and_class() {
+        assertTrue(RangeLookup.contains(1, 3, 1));
+        assertFalse(RangeLookup.contains(1, 3, 3));
+        assertFalse(RangeLookup.contains(1, 3, 2L));
+    }
+
+    @Test
+    void test_invalid_ranges_throw() {
+        assertThrows(IllegalArgumentException.class, () -> RangeLookup.checkRange(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> RangeLookup.checkRange(1, 3L));
+        assertThrows(IllegalArgumentException.class, () -> RangeLookup.checkRange(null, 3));
+        assertThrows(IllegalArgumentException.class, () -> RangeLookup.of(List.of(1), List.of()));
+    }
+}
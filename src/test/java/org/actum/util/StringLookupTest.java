@@ -0,0 +1,65 @@
+package org.actum.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringLookupTest {
+
+    @Test
+    void test_every_key_is_found_by_perfect_hash() {
+        String[] keys = new String[2_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "/api/v1/resource-" + i;
+        }
+        StringLookup lookup = StringLookup.of(keys);
+
+        assertTrue(lookup.isPerfect());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, lookup.indexOf(new String(keys[i])));
+        }
+        assertEquals(StringLookup.MISSING, lookup.indexOf("/api/v1/resource-2000"));
+        assertEquals(StringLookup.MISSING, lookup.indexOf(null));
+        assertEquals(StringLookup.MISSING, lookup.indexOf(""));
+    }
+
+    @Test
+    void test_colliding_hash_codes_fall_back_to_trie() {
+        StringLookup lookup = StringLookup.of(new String[]{"Aa", "BB", "C"});
+
+        assertFalse(lookup.isPerfect());
+        assertEquals(0, lookup.indexOf("Aa"));
+        assertEquals(1, lookup.indexOf("BB"));
+        assertEquals(2, lookup.indexOf("C"));
+        assertEquals(StringLookup.MISSING, lookup.indexOf("A"));
+    }
+
+    @Test
+    void test_empty_lookup_finds_nothing() {
+        StringLookup lookup = StringLookup.of(new String[0]);
+
+        assertEquals(StringLookup.MISSING, lookup.indexOf("a"));
+        assertEquals(StringLookup.MISSING, lookup.prefixIndexOf("a"));
+    }
+
+    @Test
+    void test_longest_prefix_wins() {
+        StringLookup lookup = StringLookup.of(new String[0], new String[]{"/api/", "/api/v2/", ""}, false);
+
+        assertEquals(1, lookup.prefixIndexOf("/api/v2/users"));
+        assertEquals(0, lookup.prefixIndexOf("/api/v1/users"));
+        assertEquals(2, lookup.prefixIndexOf("/static/app.js"));
+    }
+
+    @Test
+    void test_ignore_case_matches_keys_and_prefixes() {
+        StringLookup lookup = StringLookup.of(new String[]{"Content-Type"}, new String[]{"X-"}, true);
+
+        assertEquals(0, lookup.indexOf("content-type"));
+        assertEquals(0, lookup.indexOf("CONTENT-TYPE"));
+        assertEquals(StringLookup.MISSING, lookup.indexOf("content-typ"));
+        assertEquals(0, lookup.prefixIndexOf("x-request-id"));
+    }
+}
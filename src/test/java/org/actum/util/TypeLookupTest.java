@@ -0,0 +1,63 @@
+package org.actum.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TypeLookupTest {
+
+    @Test
+    void test_most_specific_type_wins_regardless_of_order() {
+        TypeLookup lookup = TypeLookup.of(new Class<?>[]{Object.class, Number.class, Integer.class});
+
+        assertEquals(2, lookup.indexOf(42));
+        assertEquals(1, lookup.indexOf(4.2));
+        assertEquals(0, lookup.indexOf("text"));
+    }
+
+    @Test
+    void test_subclass_wins_over_implemented_interface() {
+        TypeLookup lookup = TypeLookup.of(new Class<?>[]{Collection.class, List.class, AbstractList.class});
+
+        assertEquals(2, lookup.indexOf(new ArrayList<>()));
+        assertEquals(2, lookup.indexOf(new LinkedList<>()));
+        assertEquals(1, lookup.indexOf(List.of(1)));
+        assertEquals(0, lookup.indexOf(java.util.Set.of(1)));
+    }
+
+    @Test
+    void test_unrelated_interfaces_resolve_to_first_declared() {
+        TypeLookup lookup = TypeLookup.of(new Class<?>[]{RandomAccess.class, Serializable.class});
+        TypeLookup reversed = TypeLookup.of(new Class<?>[]{Serializable.class, RandomAccess.class});
+
+        assertEquals(0, lookup.indexOf(new ArrayList<>()));
+        assertEquals(0, reversed.indexOf(new ArrayList<>()));
+        assertEquals(1, lookup.indexOf("text"));
+    }
+
+    @Test
+    void test_missing_and_null() {
+        TypeLookup lookup = TypeLookup.of(new Class<?>[]{Integer.class});
+
+        assertEquals(TypeLookup.MISSING, lookup.indexOf("text"));
+        assertEquals(TypeLookup.MISSING, lookup.indexOf((Object) null));
+        assertEquals(0, lookup.indexOf(Integer.class));
+        assertEquals(1, lookup.size());
+    }
+
+    @Test
+    void test_rejects_null_and_primitive_types() {
+        assertThrows(IllegalArgumentException.class, () -> TypeLookup.of(null));
+        assertThrows(IllegalArgumentException.class, () -> TypeLookup.of(new Class<?>[]{null}));
+        assertThrows(IllegalArgumentException.class, () -> TypeLookup.of(new Class<?>[]{int.class}));
+    }
+}
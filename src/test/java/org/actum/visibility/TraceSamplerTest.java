@@ -0,0 +1,101 @@
+package org.actum.visibility;
+
+import org.actum.conditional.core.CompiledSwitch;
+import org.actum.conditional.core.If;
+import org.actum.conditional.core.Switch;
+import org.actum.logger.ActumLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraceSamplerTest {
+
+    private List<String> messages;
+    private ActumLogger logger;
+
+    @BeforeEach
+    void setUp() {
+        messages = new ArrayList<>();
+        logger = (level, message) -> messages.add(message);
+    }
+
+    @Test
+    void test_unmatched_only_skips_matched_branches() {
+        If.when(true).withLogger(logger).trace(TraceSampler.unmatchedOnly()).then(() -> { });
+        If.when(false).withLogger(logger).trace(TraceSampler.unmatchedOnly()).then(() -> { }).elseThen(() -> { });
+
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).contains("ElseThen"));
+    }
+
+    @Test
+    void test_traceable_without_sampling_traces_every_execution() {
+        Traceable<List<String>> legacy = () -> {
+            messages.add("trace");
+            return messages;
+        };
+
+        assertEquals(List.of("trace"), legacy.trace(TraceSampler.unmatchedOnly()));
+    }
+
+    @Test
+    void test_zero_probability_never_logs() {
+        for (int i = 0; i < 100; i++) {
+            Switch.on("A").withLogger(logger).trace(TraceSampler.probability(0)).caseOf("A", () -> { });
+        }
+
+        assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    void test_one_in_n_logs_a_fraction() {
+        CompiledSwitch router = Switch.builder()
+                .withLogger(logger)
+                .trace(TraceSampler.oneIn(10))
+                .caseOf("A", () -> { })
+                .build();
+
+        for (int i = 0; i < 10_000; i++) {
+            router.dispatch("A");
+        }
+
+        assertTrue(messages.size() > 500 && messages.size() < 1500, "sampled " + messages.size());
+    }
+
+    @Test
+    void test_trace_without_sampler_logs_everything() {
+        If.when(true).withLogger(logger).trace(TraceSampler.oneIn(1_000_000)).trace().then(() -> { });
+
+        assertEquals(1, messages.size());
+    }
+
+    @Test
+    void test_rate_limit_allows_burst_then_refills() {
+        RateLimitedSampler sampler = new RateLimitedSampler(10, 3);
+        long now = 1_000_000_000L;
+
+        assertTrue(sampler.acquire("a", now));
+        assertTrue(sampler.acquire("a", now));
+        assertTrue(sampler.acquire("a", now));
+        assertFalse(sampler.acquire("a", now));
+        assertTrue(sampler.acquire("b", now));
+        assertTrue(sampler.acquire("a", now + 100_000_000L));
+        assertFalse(sampler.acquire("a", now + 100_000_000L));
+    }
+
+    @Test
+    void test_invalid_settings_throw() {
+        assertThrows(IllegalArgumentException.class, () -> TraceSampler.probability(1.5));
+        assertThrows(IllegalArgumentException.class, () -> TraceSampler.oneIn(0));
+        assertThrows(IllegalArgumentException.class, () -> TraceSampler.rateLimited(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> TraceSampler.rateLimited(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> If.when(true).trace(null));
+    }
+}